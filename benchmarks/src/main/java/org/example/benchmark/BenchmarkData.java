@@ -0,0 +1,175 @@
+package org.example.benchmark;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Random;
+
+/**
+ * Gerador de arquivos sintéticos para os benchmarks. Os dados são gerados a partir de uma semente fixa, de modo que
+ * execuções diferentes processam exatamente o mesmo conteúdo.
+ *
+ * Formatos disponíveis:
+ * NARROW: 8 colunas (números, textos, datas e booleanos), associadas à classe Venda
+ * QUOTED: mesmas colunas do NARROW, com o modelo e o fabricante entre aspas, contendo delimitadores e aspas escapadas
+ * WIDE: 40 colunas, das quais somente 4 são associadas à classe VendaResumo
+ */
+public final class BenchmarkData {
+
+    public enum Shape {
+        NARROW, QUOTED, WIDE
+    }
+
+    private static final long SEED = 42L;
+    private static final int WIDE_COLUMNS = 40;
+    private static final String[] MODELOS = {"ONIX", "JOY", "SPIN", "TRACKER", "S10", "CRUZE", "MONTANA", "EQUINOX"};
+    private static final String[] FABRICANTES = {"Chevrolet", "Fiat", "Volkswagen", "Ford", "Renault", "Toyota"};
+    private static final LocalDate INITIAL_DATE = LocalDate.of(2015, 1, 1);
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Método responsável por gerar o conteúdo de um arquivo csv com o header e a quantidade de linhas informada
+     *
+     * @param shape: formato das linhas
+     * @param rows: quantidade de linhas de dados
+     *
+     * @return byte[], conteúdo do arquivo em UTF-8
+     */
+    public static byte[] csv(Shape shape, int rows) {
+        Random random = new Random(SEED);
+        StringBuilder content = new StringBuilder(rows * (shape == Shape.WIDE ? 360 : 80));
+        content.append(header(shape)).append('\n');
+        for (int i = 0; i < rows; i++) {
+            appendLine(content, shape, i, random);
+            content.append('\n');
+        }
+        return content.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Método responsável por gerar linhas de dados soltas, sem o header, para os benchmarks de divisão em colunas
+     *
+     * @param shape: formato das linhas
+     * @param rows: quantidade de linhas
+     *
+     * @return String[], linhas geradas
+     */
+    public static String[] lines(Shape shape, int rows) {
+        Random random = new Random(SEED);
+        String[] lines = new String[rows];
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            line.setLength(0);
+            appendLine(line, shape, i, random);
+            lines[i] = line.toString();
+        }
+        return lines;
+    }
+
+    /**
+     * Método responsável por gerar o conteúdo de um arquivo xlsx com as colunas do formato NARROW. As datas são
+     * gravadas como células numéricas com estilo de data, como em uma planilha real
+     *
+     * @param rows: quantidade de linhas de dados
+     *
+     * @return byte[], conteúdo do arquivo xlsx
+     */
+    public static byte[] xlsx(int rows) {
+        Random random = new Random(SEED);
+        SXSSFWorkbook workbook = new SXSSFWorkbook(1000);
+        try {
+            Sheet sheet = workbook.createSheet("vendas");
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+            Row header = sheet.createRow(0);
+            String[] columns = header(Shape.NARROW).split(",");
+            for (int i = 0; i < columns.length; i++) {
+                header.createCell(i).setCellValue(columns[i]);
+            }
+            for (int i = 0; i < rows; i++) {
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue(i);
+                row.createCell(1).setCellValue(MODELOS[random.nextInt(MODELOS.length)]);
+                row.createCell(2).setCellValue(FABRICANTES[random.nextInt(FABRICANTES.length)]);
+                row.createCell(3).setCellValue(1 + random.nextInt(20));
+                row.createCell(4).setCellValue(random.nextInt(20000000) / 100.0);
+                row.createCell(5).setCellValue(random.nextInt(1000));
+                Cell date = row.createCell(6);
+                date.setCellValue(Date.from(randomDate(random).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+                date.setCellStyle(dateStyle);
+                row.createCell(7).setCellValue(random.nextBoolean());
+            }
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            workbook.write(output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            workbook.dispose();
+        }
+    }
+
+    private static String header(Shape shape) {
+        if (shape != Shape.WIDE) {
+            return "codigo,modelo,fabricante,quantidade,preco,desconto,data,ativo";
+        }
+        StringBuilder header = new StringBuilder("codigo,modelo,preco,data");
+        for (int i = 4; i < WIDE_COLUMNS; i++) {
+            header.append(",coluna").append(i);
+        }
+        return header.toString();
+    }
+
+    private static void appendLine(StringBuilder line, Shape shape, int index, Random random) {
+        String modelo = MODELOS[random.nextInt(MODELOS.length)];
+        String fabricante = FABRICANTES[random.nextInt(FABRICANTES.length)];
+        long preco = random.nextInt(20000000);
+        line.append(index).append(',');
+        if (shape == Shape.QUOTED) {
+            line.append('"').append(modelo).append(", ").append(index % 10).append(" portas").append('"').append(',');
+            line.append('"').append(fabricante).append(" \"\"").append(fabricante.charAt(0)).append("\"\"\"").append(',');
+        } else if (shape == Shape.NARROW) {
+            line.append(modelo).append(',').append(fabricante).append(',');
+        } else {
+            line.append(modelo).append(',');
+        }
+        if (shape != Shape.WIDE) {
+            line.append(1 + random.nextInt(20)).append(',');
+        }
+        line.append(preco / 100).append('.').append(preco % 100 < 10 ? "0" : "").append(preco % 100).append(',');
+        if (shape != Shape.WIDE) {
+            line.append(random.nextInt(1000)).append(',');
+        }
+        line.append(randomDate(random));
+        if (shape != Shape.WIDE) {
+            line.append(',').append(random.nextBoolean());
+            return;
+        }
+        for (int i = 4; i < WIDE_COLUMNS; i++) {
+            line.append(',');
+            if (i % 3 == 0) {
+                line.append(random.nextInt(100000));
+            } else if (i % 3 == 1) {
+                line.append(FABRICANTES[random.nextInt(FABRICANTES.length)]);
+            } else {
+                line.append(random.nextDouble());
+            }
+        }
+    }
+
+    private static LocalDate randomDate(Random random) {
+        return INITIAL_DATE.plusDays(random.nextInt(3650));
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.benchmark;
+
+import org.example.exception.FileProcessException;
+import org.example.processors.CsvFileProcessor;
+import org.example.util.FileP;
+import org.example.util.FileType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do processamento completo de arquivos csv (FileProcessor.process), do conteúdo em bytes até as entidades.
+ * Cada operação corresponde a um arquivo inteiro. A métrica secundária "rows" reporta o tempo por linha, e a alocação
+ * por linha é obtida dividindo o gc.alloc.rate.norm (por arquivo) pelo parâmetro rows.
+ *
+ * Para arquivos de 10 milhões de linhas: -p rows=10000000 (requer heap de alguns GB para o processamento em lista).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CsvFileProcessorBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    @Param({"NARROW", "QUOTED", "WIDE"})
+    public BenchmarkData.Shape shape;
+
+    private FileP file;
+    private Class<?> classe;
+
+    @Setup
+    public void setup() {
+        file = new FileP();
+        file.setName("vendas.csv");
+        file.setContent(BenchmarkData.csv(shape, rows));
+        classe = shape == BenchmarkData.Shape.WIDE ? VendaResumo.class : Venda.class;
+    }
+
+    @Benchmark
+    public List<?> processList(RowCounter counter) throws FileProcessException {
+        List<?> result = FileType.CSV.process(file, classe);
+        counter.rows += result.size();
+        return result;
+    }
+
+    @Benchmark
+    public void processStreaming(RowCounter counter, Blackhole blackhole) throws FileProcessException {
+        new CsvFileProcessor().process(new ByteArrayInputStream(file.getContent()), file.getName(), classe, blackhole::consume);
+        counter.rows += rows;
+    }
+
+    @Benchmark
+    public List<?> processParallel(RowCounter counter) throws FileProcessException {
+        List<?> result = new CsvFileProcessor().processParallel(file, classe);
+        counter.rows += result.size();
+        return result;
+    }
+}
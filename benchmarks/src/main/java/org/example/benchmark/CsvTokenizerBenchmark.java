@@ -0,0 +1,70 @@
+package org.example.benchmark;
+
+import org.example.processors.CsvFileProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da divisão das linhas csv em colunas (CsvFileProcessor.getColsFromLineAsList). Cada operação corresponde a
+ * uma linha, de modo que o tempo médio é reportado em ns/linha e o gc.alloc.rate.norm do profiler gc em bytes/linha.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvTokenizerBenchmark {
+
+    private static final int LINES = 10000;
+
+    @Param({"NARROW", "QUOTED", "WIDE"})
+    public BenchmarkData.Shape shape;
+
+    private final CsvFileProcessor processor = new CsvFileProcessor();
+    private String[] lines;
+
+    @Setup
+    public void setup() {
+        lines = BenchmarkData.lines(shape, LINES);
+    }
+
+    /**
+     * Somente a divisão em colunas, sem a leitura dos valores
+     */
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void tokenize(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(processor.getColsFromLineAsList(line).size());
+        }
+    }
+
+    /**
+     * Divisão em colunas seguida da leitura de todas as colunas como string
+     */
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void tokenizeAndReadAll(Blackhole blackhole) {
+        for (String line : lines) {
+            List<String> columns = processor.getColsFromLineAsList(line);
+            for (int i = 0; i < columns.size(); i++) {
+                blackhole.consume(columns.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Contador de linhas processadas nos benchmarks de arquivo inteiro. O JMH reporta o contador como uma métrica
+ * secundária ("rows") normalizada por linha: tempo por linha no modo avgt e linhas por segundo no modo thrpt
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class RowCounter {
+    public long rows;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        rows = 0;
+    }
+}
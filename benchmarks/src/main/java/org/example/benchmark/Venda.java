@@ -0,0 +1,22 @@
+package org.example.benchmark;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Classe base das linhas estreitas geradas pelo BenchmarkData, com um field de cada tipo comum
+ */
+@Getter
+@Setter
+public class Venda {
+    private long codigo;
+    private String modelo;
+    private String fabricante;
+    private int quantidade;
+    private double preco;
+    private Double desconto;
+    private LocalDate data;
+    private boolean ativo;
+}
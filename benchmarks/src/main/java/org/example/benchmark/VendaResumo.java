@@ -0,0 +1,22 @@
+package org.example.benchmark;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.example.core.FileColumn;
+
+/**
+ * Classe base das linhas largas geradas pelo BenchmarkData. Somente algumas colunas são associadas a fields, sendo as
+ * demais ignoradas no processamento
+ */
+@Getter
+@Setter
+public class VendaResumo {
+    @FileColumn(name = "codigo")
+    private long codigo;
+    @FileColumn(name = "modelo")
+    private String modelo;
+    @FileColumn(name = "preco")
+    private double preco;
+    @FileColumn(name = "data")
+    private String data;
+}
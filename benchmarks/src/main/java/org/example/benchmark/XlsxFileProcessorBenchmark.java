@@ -0,0 +1,60 @@
+package org.example.benchmark;
+
+import org.example.exception.FileProcessException;
+import org.example.util.FileP;
+import org.example.util.FileType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do processamento completo de arquivos xlsx, comparando o XlsxFileProcessor (XSSFWorkbook) com o
+ * XlsxStreamingFileProcessor (SAX). Cada operação corresponde a um arquivo inteiro, e a métrica secundária "rows"
+ * reporta o tempo por linha.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class XlsxFileProcessorBenchmark {
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private FileP file;
+
+    @Setup
+    public void setup() {
+        file = new FileP();
+        file.setName("vendas.xlsx");
+        file.setContent(BenchmarkData.xlsx(rows));
+    }
+
+    @Benchmark
+    public List<?> processWorkbook(RowCounter counter) throws FileProcessException {
+        List<?> result = FileType.XLSX.process(file, Venda.class);
+        counter.rows += result.size();
+        return result;
+    }
+
+    @Benchmark
+    public void processStreaming(RowCounter counter, Blackhole blackhole) throws FileProcessException {
+        FileType.XLSX_STREAMING.process(new ByteArrayInputStream(file.getContent()), file.getName(), Venda.class, blackhole::consume);
+        counter.rows += rows;
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.InvocationTargetException;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da transformação dos valores das colunas nos tipos dos fields (TypeParser). Fica no pacote org.example.core
+ * para acessar o TypeParser e o DateParser, que não são públicos. Cada operação corresponde a um valor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeParserBenchmark {
+
+    private static final int VALUES = 10000;
+
+    private final TypeParser parser = new TypeParser();
+    private String[] longs;
+    private String[] doubles;
+    private String[] dates;
+    private String[] isoDates;
+    private String line;
+    private int[] bounds;
+    private DateParser dateParser;
+    private int[] dateFormats;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+        longs = new String[VALUES];
+        doubles = new String[VALUES];
+        dates = new String[VALUES];
+        isoDates = new String[VALUES];
+        StringBuilder content = new StringBuilder();
+        bounds = new int[VALUES * 2];
+        for (int i = 0; i < VALUES; i++) {
+            LocalDate date = LocalDate.of(2015, 1, 1).plusDays(random.nextInt(3650));
+            longs[i] = String.valueOf(random.nextInt(100000000));
+            doubles[i] = random.nextInt(1000000) + "." + random.nextInt(100);
+            dates[i] = String.format("%02d/%02d/%d", date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+            isoDates[i] = date.toString();
+            bounds[i * 2] = content.length();
+            content.append(doubles[i]);
+            bounds[i * 2 + 1] = content.length();
+            content.append(',');
+        }
+        line = content.toString();
+        dateParser = DateParser.of(Date.class, null);
+        dateFormats = new int[] {DateParser.NOT_LOCKED};
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void parseLong(Blackhole blackhole) throws InvocationTargetException {
+        for (String value : longs) {
+            blackhole.consume(parser.parse(Long.class, value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void parseDouble(Blackhole blackhole) throws InvocationTargetException {
+        for (String value : doubles) {
+            blackhole.consume(parser.parse(Double.class, value));
+        }
+    }
+
+    /**
+     * Transformação em double diretamente do trecho da linha, como é feito para as colunas csv
+     */
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void parseDoubleSlice(Blackhole blackhole) {
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(TypeParser.parseDouble(line, bounds[i * 2], bounds[i * 2 + 1]));
+        }
+    }
+
+    /**
+     * Transformação em Date sem formato travado, testando os formatos a cada valor
+     */
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void parseDate(Blackhole blackhole) throws InvocationTargetException {
+        for (String value : dates) {
+            blackhole.consume(parser.parse(Date.class, value));
+        }
+    }
+
+    /**
+     * Transformação em Date com o formato travado pela coluna, como no processamento de um arquivo
+     */
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void parseDateLocked(Blackhole blackhole) {
+        for (String value : dates) {
+            blackhole.consume(dateParser.parse(value, dateFormats, 0));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void parseLocalDate(Blackhole blackhole) throws InvocationTargetException {
+        for (String value : isoDates) {
+            blackhole.consume(parser.parse(LocalDate.class, value));
+        }
+    }
+}
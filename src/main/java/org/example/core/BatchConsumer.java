@@ -0,0 +1,22 @@
+package org.example.core;
+
+import java.util.List;
+
+/**
+ * Função que recebe as entidades de um arquivo em lotes de tamanho fixo durante o processamento. Cada lote é uma nova
+ * lista, que passa a pertencer ao consumer, podendo ser mantida ou repassada para outra thread (como em uma inserção
+ * assíncrona no banco de dados) enquanto o processamento do arquivo continua.
+ *
+ * @param <T>: tipo da classe base do processamento
+ */
+@FunctionalInterface
+public interface BatchConsumer<T> {
+
+    /**
+     * Método chamado a cada lote de entidades processadas. Todos os lotes possuem o tamanho informado no processamento,
+     * exceto o último, que contém as entidades restantes
+     *
+     * @param batch: entidades do lote, na ordem do arquivo
+     */
+    void accept(List<T> batch);
+}
@@ -0,0 +1,279 @@
+package org.example.core;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.Function;
+
+/**
+ * Buffer dos valores de um field no processamento colunar (FileColumns). Os valores são transformados a partir do
+ * trecho da coluna e guardados em arrays primitivos, sem a criação de uma entidade por linha e sem boxing. As colunas
+ * sem valor são registradas em um BitSet, com o valor padrão do tipo no array.
+ */
+abstract class ColumnBuffer {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    protected int size;
+    private BitSet nulls;
+
+    /**
+     * Método responsável por criar o buffer de um field. Os tipos numéricos inteiros são guardados em long[], os de
+     * ponto flutuante em double[], os boolean em boolean[], as strings em um dicionário e os demais tipos (datas,
+     * BigDecimal, enum, ...) em Object[]
+     *
+     * @param field: binding do field
+     *
+     * @return ColumnBuffer, buffer vazio do field
+     */
+    static ColumnBuffer of(EntityBindingPlan.FieldBinding field) {
+        Class<?> type = field.getField().getType();
+        if (type == int.class || type == Integer.class) {
+            return new LongColumn(true);
+        }
+        if (type == long.class || type == Long.class) {
+            return new LongColumn(false);
+        }
+        if (type == double.class || type == Double.class || type == float.class || type == Float.class) {
+            return new DoubleColumn();
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return new BooleanColumn();
+        }
+        if (type == String.class) {
+            return new StringColumn();
+        }
+        return new ObjectColumn(field);
+    }
+
+    /**
+     * Método responsável por adicionar o valor de uma linha ao buffer. Caso o valor seja inválido, nada é adicionado
+     *
+     * @param value: conteúdo onde está o valor, ou null caso a coluna não possua valor
+     * @param start: início do valor no conteúdo
+     * @param end: fim do valor no conteúdo
+     * @param dateFormats: formatos travados pelas colunas de data do arquivo
+     *
+     * @throws InvocationTargetException, caso não exista parser para o tipo do field
+     * @throws IllegalArgumentException, caso o valor não possua o formato esperado pelo tipo do field
+     */
+    void append(CharSequence value, int start, int end, int[] dateFormats) throws InvocationTargetException {
+        if (value == null) {
+            if (nulls == null) {
+                nulls = new BitSet();
+            }
+            nulls.set(size);
+            appendDefault();
+        } else {
+            appendValue(value, start, end, dateFormats);
+        }
+        size++;
+    }
+
+    /**
+     * Método responsável por descartar os valores adicionados após a linha informada, utilizado quando uma linha
+     * possui valores inválidos em outros fields
+     *
+     * @param rows: quantidade de linhas mantidas
+     */
+    void truncate(int rows) {
+        if (nulls != null) {
+            nulls.clear(rows, Math.max(rows, size));
+        }
+        size = rows;
+    }
+
+    /**
+     * Método que verifica se a coluna não possuía valor na linha informada
+     *
+     * @param row: índice da linha
+     *
+     * @return boolean, true caso a coluna não possua valor
+     */
+    boolean isNull(int row) {
+        return nulls != null && nulls.get(row);
+    }
+
+    /**
+     * Método responsável por ajustar o tamanho dos arrays à quantidade de linhas, ao final do processamento
+     */
+    abstract void finish();
+
+    abstract void appendValue(CharSequence value, int start, int end, int[] dateFormats) throws InvocationTargetException;
+
+    abstract void appendDefault();
+
+    protected static int grow(int length, int size) {
+        return size < length ? length : Math.max(INITIAL_CAPACITY, length * 2);
+    }
+
+    static class LongColumn extends ColumnBuffer {
+        private final boolean intRange;
+        long[] values = new long[0];
+
+        private LongColumn(boolean intRange) {
+            this.intRange = intRange;
+        }
+
+        @Override
+        void appendValue(CharSequence value, int start, int end, int[] dateFormats) {
+            long parsed = intRange ? TypeParser.parseInt(value, start, end) : TypeParser.parseLong(value, start, end);
+            ensureCapacity();
+            values[size] = parsed;
+        }
+
+        @Override
+        void appendDefault() {
+            ensureCapacity();
+            values[size] = 0;
+        }
+
+        private void ensureCapacity() {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(values.length, size));
+            }
+        }
+
+        @Override
+        void finish() {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    static class DoubleColumn extends ColumnBuffer {
+        double[] values = new double[0];
+
+        @Override
+        void appendValue(CharSequence value, int start, int end, int[] dateFormats) {
+            double parsed = TypeParser.parseDouble(value, start, end);
+            ensureCapacity();
+            values[size] = parsed;
+        }
+
+        @Override
+        void appendDefault() {
+            ensureCapacity();
+            values[size] = 0;
+        }
+
+        private void ensureCapacity() {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(values.length, size));
+            }
+        }
+
+        @Override
+        void finish() {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    static class BooleanColumn extends ColumnBuffer {
+        boolean[] values = new boolean[0];
+
+        @Override
+        void appendValue(CharSequence value, int start, int end, int[] dateFormats) {
+            ensureCapacity();
+            values[size] = TypeParser.parseBoolean(value, start, end);
+        }
+
+        @Override
+        void appendDefault() {
+            ensureCapacity();
+            values[size] = false;
+        }
+
+        private void ensureCapacity() {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(values.length, size));
+            }
+        }
+
+        @Override
+        void finish() {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * Coluna de strings codificada por dicionário: cada valor distinto é guardado uma única vez e as linhas guardam
+     * somente o código do valor. A busca no dicionário é feita diretamente sobre o trecho da coluna, de modo que a
+     * string é criada somente na primeira ocorrência de cada valor
+     */
+    static class StringColumn extends ColumnBuffer {
+        int[] codes = new int[0];
+        final StringDictionary dictionary = new StringDictionary(Integer.MAX_VALUE, false);
+
+        @Override
+        void appendValue(CharSequence value, int start, int end, int[] dateFormats) {
+            int code = dictionary.code(value, start, end);
+            ensureCapacity();
+            codes[size] = code;
+        }
+
+        @Override
+        void appendDefault() {
+            ensureCapacity();
+            codes[size] = FileColumns.NULL_CODE;
+        }
+
+        private void ensureCapacity() {
+            if (size == codes.length) {
+                codes = Arrays.copyOf(codes, grow(codes.length, size));
+            }
+        }
+
+        @Override
+        void finish() {
+            codes = Arrays.copyOf(codes, size);
+            dictionary.trim();
+        }
+    }
+
+    /**
+     * Coluna dos tipos sem representação primitiva (datas, BigDecimal, enum, UUID, ...), transformados pelo mesmo
+     * parser utilizado no processamento das entidades
+     */
+    static class ObjectColumn extends ColumnBuffer {
+        private final EntityBindingPlan.FieldBinding field;
+        private final Function<String, ?> parser;
+        Object[] values = new Object[0];
+
+        private ObjectColumn(EntityBindingPlan.FieldBinding field) {
+            this.field = field;
+            this.parser = TypeParser.getParser(field.getField().getType());
+        }
+
+        @Override
+        void appendValue(CharSequence value, int start, int end, int[] dateFormats) throws InvocationTargetException {
+            String text = value.subSequence(start, end).toString();
+            Object parsed;
+            if (field.getDateParser() != null) {
+                parsed = field.getDateParser().parse(text, dateFormats, field.getPosition());
+            } else if (parser != null) {
+                parsed = parser.apply(text);
+            } else {
+                throw new InvocationTargetException(null, "Tipo não suportado: " + field.getTypeName());
+            }
+            ensureCapacity();
+            values[size] = parsed;
+        }
+
+        @Override
+        void appendDefault() {
+            ensureCapacity();
+            values[size] = null;
+        }
+
+        private void ensureCapacity() {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(values.length, size));
+            }
+        }
+
+        @Override
+        void finish() {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+}
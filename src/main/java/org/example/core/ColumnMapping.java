@@ -0,0 +1,16 @@
+package org.example.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Associação entre os fields da classe base e as colunas de um arquivo, resolvida a partir do header. Para cada
+ * field é guardado o índice da coluna de onde seu valor é lido, e também o número de colunas que as linhas de
+ * dados devem possuir.
+ */
+@Getter
+@AllArgsConstructor
+class ColumnMapping {
+    private int[] columnIndexes;
+    private int expectedColumns;
+}
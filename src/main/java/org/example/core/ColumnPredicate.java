@@ -0,0 +1,123 @@
+package org.example.core;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Condição aplicada sobre o valor bruto de uma coluna, antes de qualquer transformação no tipo do field. O valor é
+ * recebido como um trecho do conteúdo da linha, de modo que as condições abaixo são verificadas sem a criação de
+ * strings. Colunas sem valor são recebidas como um trecho vazio.
+ */
+@FunctionalInterface
+public interface ColumnPredicate {
+
+    /**
+     * Método que verifica se o valor da coluna atende à condição
+     *
+     * @param content: conteúdo onde está o valor da coluna
+     * @param start: início do valor no conteúdo
+     * @param end: fim do valor no conteúdo
+     *
+     * @return boolean, true caso a linha deva ser processada e false caso deva ser descartada
+     */
+    boolean test(CharSequence content, int start, int end);
+
+    /**
+     * Método responsável por criar a condição de igualdade com um valor
+     *
+     * @param value: valor esperado na coluna
+     *
+     * @return ColumnPredicate, condição atendida somente quando o valor da coluna é exatamente igual ao informado
+     */
+    static ColumnPredicate equalTo(String value) {
+        return (content, start, end) -> compare(content, start, end, value) == 0;
+    }
+
+    /**
+     * Método responsável por criar a condição de igualdade com um dos valores informados
+     *
+     * @param values: valores aceitos na coluna
+     *
+     * @return ColumnPredicate, condição atendida quando o valor da coluna é igual a algum dos valores
+     */
+    static ColumnPredicate in(String... values) {
+        Set<String> accepted = new HashSet<>(Arrays.asList(values));
+        ColumnPredicate[] predicates = accepted.stream().map(ColumnPredicate::equalTo).toArray(ColumnPredicate[]::new);
+        return (content, start, end) -> {
+            for (ColumnPredicate predicate : predicates) {
+                if (predicate.test(content, start, end)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Método responsável por criar a condição de intervalo pela ordem alfabética dos valores. Para datas, a ordem
+     * alfabética corresponde à ordem cronológica somente em formatos como o ISO (yyyy-MM-dd)
+     *
+     * @param min: menor valor aceito, inclusive, ou null para não limitar o início
+     * @param max: maior valor aceito, inclusive, ou null para não limitar o fim
+     *
+     * @return ColumnPredicate, condição atendida quando o valor da coluna está dentro do intervalo
+     */
+    static ColumnPredicate between(String min, String max) {
+        return (content, start, end) -> (min == null || compare(content, start, end, min) >= 0)
+            && (max == null || compare(content, start, end, max) <= 0);
+    }
+
+    /**
+     * Método responsável por criar a condição de intervalo numérico. Valores que não são números não atendem à condição
+     *
+     * @param min: menor valor aceito, inclusive
+     * @param max: maior valor aceito, inclusive
+     *
+     * @return ColumnPredicate, condição atendida quando o valor da coluna é um número dentro do intervalo
+     */
+    static ColumnPredicate between(double min, double max) {
+        return (content, start, end) -> {
+            try {
+                double value = TypeParser.parseDouble(content, start, end);
+                return value >= min && value <= max;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Método responsável por criar uma condição a partir de um Predicate sobre o valor em string. Diferente das demais
+     * condições, cria uma string para cada linha verificada
+     *
+     * @param predicate: condição sobre o valor da coluna
+     *
+     * @return ColumnPredicate, condição atendida quando o predicate retorna true
+     */
+    static ColumnPredicate of(Predicate<String> predicate) {
+        return (content, start, end) -> predicate.test(content.subSequence(start, end).toString());
+    }
+
+    /**
+     * Método responsável por comparar, pela ordem alfabética, um trecho do conteúdo com um valor
+     *
+     * @param content: conteúdo onde está o trecho
+     * @param start: início do trecho
+     * @param end: fim do trecho
+     * @param value: valor a ser comparado
+     *
+     * @return int, negativo caso o trecho seja menor que o valor, zero caso seja igual e positivo caso seja maior
+     */
+    private static int compare(CharSequence content, int start, int end, String value) {
+        int length = Math.min(end - start, value.length());
+        for (int i = 0; i < length; i++) {
+            int diff = content.charAt(start + i) - value.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return (end - start) - value.length();
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.core;
+
+/**
+ * Interface que pode ser implementada pela lista de colunas retornada no getColsFromLineAsList quando as colunas são
+ * trechos de um conteúdo maior (como as colunas de um registro csv). Com ela, o valor de cada coluna é transformado no
+ * tipo do field diretamente a partir do conteúdo original, sem a criação de uma string intermediária.
+ */
+public interface ColumnSlices {
+
+    /**
+     * Método responsável por recuperar o conteúdo onde estão as colunas
+     *
+     * @return CharSequence, conteúdo da linha
+     */
+    CharSequence getContent();
+
+    /**
+     * Método responsável por recuperar o início de uma coluna no conteúdo
+     *
+     * @param index: índice da coluna
+     *
+     * @return int, posição do primeiro caractere da coluna
+     */
+    int getStart(int index);
+
+    /**
+     * Método responsável por recuperar o fim de uma coluna no conteúdo
+     *
+     * @param index: índice da coluna
+     *
+     * @return int, posição seguinte ao último caractere da coluna
+     */
+    int getEnd(int index);
+
+    /**
+     * Método que verifica se o valor da coluna corresponde exatamente ao trecho do conteúdo. Colunas que precisam de
+     * algum tratamento (como aspas escapadas) devem retornar false, sendo lidas pelo getValueFromColumnAsString
+     *
+     * @param index: índice da coluna
+     *
+     * @return boolean, true caso a coluna possa ser lida diretamente do conteúdo e false caso contrário
+     */
+    boolean isSlice(int index);
+}
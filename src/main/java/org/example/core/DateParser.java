@@ -0,0 +1,209 @@
+package org.example.core;
+
+import org.example.util.FileProcessorConstants;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parser dos fields de data (Date, LocalDate, LocalDateTime e Instant). Os formatos são DateTimeFormatters imutáveis,
+ * criados uma única vez por padrão e compartilhados entre todos os arquivos e threads.
+ *
+ * Cada coluna de data "trava" no primeiro formato que reconhecer um valor, e as linhas seguintes do mesmo arquivo são
+ * transformadas diretamente por ele. Os demais formatos só são testados quando um valor não é reconhecido pelo formato
+ * travado, e neste caso são testados sem o lançamento de exceções. O formato travado de cada coluna é guardado no
+ * processamento de cada arquivo (dateFormats), e não no parser, que pode ser utilizado por vários arquivos ao mesmo tempo.
+ *
+ * Datas sem fuso horário são transformadas em Date e Instant utilizando o fuso horário padrão do sistema, assim como
+ * era feito pelo SimpleDateFormat.
+ */
+class DateParser {
+
+    static final int NOT_LOCKED = -1;
+
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    private final Class<?> targetType;
+    private final DateTimeFormatter[] formatters;
+
+    private DateParser(Class<?> targetType, List<DateTimeFormatter> formatters) {
+        this.targetType = targetType;
+        this.formatters = formatters.toArray(new DateTimeFormatter[0]);
+    }
+
+    /**
+     * Método responsável por criar o parser de um field de data
+     *
+     * @param targetType: tipo do field
+     * @param format: annotation com os formatos do field, ou null para utilizar os formatos padrão
+     *
+     * @return DateParser, parser do field ou null caso o tipo não seja de data
+     *
+     * @throws IllegalArgumentException, caso algum dos formatos da annotation seja inválido
+     */
+    static DateParser of(Class<?> targetType, FileDateFormat format) {
+        if (!isDateType(targetType)) {
+            return null;
+        }
+        List<DateTimeFormatter> formatters = new ArrayList<>();
+        if (format != null) {
+            for (String pattern : format.value()) {
+                formatters.add(getFormatter(pattern));
+            }
+        } else {
+            formatters.add(getIsoFormatter(targetType));
+            for (String pattern : FileProcessorConstants.DATE_FORMATES) {
+                formatters.add(getFormatter(pattern));
+            }
+        }
+        return new DateParser(targetType, formatters);
+    }
+
+    /**
+     * Método que verifica se o tipo é um dos tipos de data suportados
+     *
+     * @param type: tipo do field
+     *
+     * @return boolean, true caso o tipo seja Date, LocalDate, LocalDateTime ou Instant e false caso contrário
+     */
+    static boolean isDateType(Class<?> type) {
+        return type == Date.class || type == LocalDate.class || type == LocalDateTime.class || type == Instant.class;
+    }
+
+    /**
+     * Método responsável por transformar um valor em data sem um formato travado, testando todos os formatos
+     *
+     * @param value: valor da data no formato string
+     *
+     * @return Object, data no tipo do field
+     *
+     * @throws DateTimeException, caso nenhum dos formatos reconheça o valor
+     */
+    Object parse(String value) {
+        return parse(value, new int[] {NOT_LOCKED}, 0);
+    }
+
+    /**
+     * Método responsável por transformar um valor em data, utilizando primeiro o formato travado da coluna
+     *
+     * @param value: valor da data no formato string
+     * @param dateFormats: formatos travados das colunas de data do arquivo
+     * @param position: posição da coluna em dateFormats
+     *
+     * @return Object, data no tipo do field
+     *
+     * @throws DateTimeException, caso nenhum dos formatos reconheça o valor
+     */
+    Object parse(String value, int[] dateFormats, int position) {
+        String text = value.trim();
+        int locked = dateFormats[position];
+        if (locked != NOT_LOCKED) {
+            try {
+                return convert(formatters[locked].parse(text));
+            } catch (DateTimeParseException e) {
+                // o valor não está no formato travado, sendo testados os demais formatos
+            }
+        }
+        for (int i = 0; i < formatters.length; i++) {
+            if (i != locked && matches(formatters[i], text)) {
+                TemporalAccessor parsed = formatters[i].parse(text);
+                dateFormats[position] = i;
+                return convert(parsed);
+            }
+        }
+        throw new DateTimeParseException("Data fora dos formatos aceitos: " + value, value, 0);
+    }
+
+    /**
+     * Método que verifica, sem o lançamento de exceções, se o valor está no formato informado
+     *
+     * @param formatter: formato a ser testado
+     * @param text: valor da data
+     *
+     * @return boolean, true caso o formato reconheça todo o valor e false caso contrário
+     */
+    private static boolean matches(DateTimeFormatter formatter, String text) {
+        ParsePosition position = new ParsePosition(0);
+        return formatter.parseUnresolved(text, position) != null && position.getErrorIndex() < 0 && position.getIndex() == text.length();
+    }
+
+    /**
+     * Método responsável por transformar a data lida no tipo do field. Datas sem horário são consideradas no início
+     * do dia
+     *
+     * @param parsed: data lida pelo formatter
+     *
+     * @return Object, data no tipo do field
+     *
+     * @throws DateTimeException, caso a data lida não possua as informações necessárias para o tipo do field
+     */
+    private Object convert(TemporalAccessor parsed) {
+        if (targetType != LocalDate.class && targetType != LocalDateTime.class && parsed.isSupported(ChronoField.INSTANT_SECONDS)) {
+            Instant instant = Instant.from(parsed);
+            return targetType == Instant.class ? instant : Date.from(instant);
+        }
+        LocalDate date = parsed.query(TemporalQueries.localDate());
+        if (date == null) {
+            throw new DateTimeException("Data sem dia, mês e ano: " + parsed);
+        }
+        if (targetType == LocalDate.class) {
+            return date;
+        }
+        LocalTime time = parsed.query(TemporalQueries.localTime());
+        LocalDateTime dateTime = LocalDateTime.of(date, time != null ? time : LocalTime.MIDNIGHT);
+        if (targetType == LocalDateTime.class) {
+            return dateTime;
+        }
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        return targetType == Instant.class ? instant : Date.from(instant);
+    }
+
+    /**
+     * Método responsável por recuperar o formatter de um padrão, criando-o somente no primeiro acesso. Os números são
+     * lidos de forma flexível, aceitando por exemplo "1/2/2020" no padrão dd/MM/yyyy, como no SimpleDateFormat
+     *
+     * @param pattern: padrão da data
+     *
+     * @return DateTimeFormatter, formatter do padrão
+     */
+    private static DateTimeFormatter getFormatter(String pattern) {
+        return FORMATTERS.computeIfAbsent(pattern, key -> new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .parseLenient()
+            .appendPattern(key)
+            .toFormatter());
+    }
+
+    /**
+     * Método responsável por recuperar o formato ISO do tipo de data
+     *
+     * @param targetType: tipo do field
+     *
+     * @return DateTimeFormatter, formato ISO do tipo
+     */
+    private static DateTimeFormatter getIsoFormatter(Class<?> targetType) {
+        if (targetType == LocalDate.class) {
+            return DateTimeFormatter.ISO_LOCAL_DATE;
+        }
+        if (targetType == LocalDateTime.class) {
+            return DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+        }
+        return DateTimeFormatter.ISO_INSTANT;
+    }
+}
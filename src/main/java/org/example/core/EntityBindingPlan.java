@@ -0,0 +1,521 @@
+package org.example.core;
+
+import lombok.Getter;
+import org.example.util.FileProcessorConstants;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Plano de binding de uma classe base. Toda a parte reflexiva do processamento (fields válidos, parser de cada
+ * field, setters e construtor) é resolvida uma única vez por classe e mantida em cache, de modo que os arquivos
+ * seguintes da mesma classe reutilizam o plano e o processamento de cada célula não realiza nenhuma busca reflexiva.
+ *
+ * Quando a classe é anotada com @FileEntity e possui o binder gerado em tempo de compilação (FileEntityBinder), a
+ * entidade é criada pelo binder e os fields suportados por ele são setados com chamadas diretas, sem MethodHandle.
+ */
+class EntityBindingPlan {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<EntityBindingPlan> PLANS = new ClassValue<EntityBindingPlan>() {
+        @Override
+        protected EntityBindingPlan computeValue(Class<?> classe) {
+            return new EntityBindingPlan(classe);
+        }
+    };
+
+    @Getter
+    private final List<FieldBinding> fields;
+    @Getter
+    private final List<FieldBinding> boundFields;
+    @Getter
+    private final int[] filterFields;
+    @Getter
+    private final ColumnPredicate[] filters;
+    private final MethodHandle constructor;
+    private final FileEntityBinder<Object> binder;
+    private final boolean headerMapped;
+    private final ColumnMapping positionalMapping;
+
+    private EntityBindingPlan(Class<?> classe) {
+        List<Field> validFields = Arrays.stream(classe.getDeclaredFields())
+            .filter(field -> !isStaticField(field) && !isToIgnoreField(field))
+            .collect(Collectors.toList());
+        this.binder = FileEntityBinder.find(classe);
+        this.fields = Collections.unmodifiableList(IntStream.range(0, validFields.size())
+            .mapToObj(position -> new FieldBinding(validFields.get(position), position, binder))
+            .collect(Collectors.toList()));
+        this.boundFields = fields;
+        this.filterFields = new int[0];
+        this.filters = new ColumnPredicate[0];
+        this.constructor = findConstructor(classe);
+        this.headerMapped = fields.stream().anyMatch(field -> field.getColumn() != null);
+        this.positionalMapping = new ColumnMapping(IntStream.range(0, fields.size()).toArray(), fields.size());
+    }
+
+    private EntityBindingPlan(EntityBindingPlan plan, List<FieldBinding> boundFields, int[] filterFields, ColumnPredicate[] filters) {
+        this.fields = plan.fields;
+        this.boundFields = boundFields;
+        this.filterFields = filterFields;
+        this.filters = filters;
+        this.constructor = plan.constructor;
+        this.binder = plan.binder;
+        this.headerMapped = plan.headerMapped;
+        this.positionalMapping = plan.positionalMapping;
+    }
+
+    /**
+     * Método responsável por recuperar o plano de binding da classe informada, criando-o somente no primeiro acesso
+     *
+     * @param classe: classe base do processamento
+     *
+     * @return EntityBindingPlan, plano de binding da classe
+     */
+    static EntityBindingPlan of(Class<?> classe) {
+        return PLANS.get(classe);
+    }
+
+    /**
+     * Método responsável por criar o plano de binding de uma consulta, que preenche somente os fields da projeção e
+     * possui as condições da consulta associadas aos fields. A identificação do header não é alterada pela consulta
+     *
+     * @param query: consulta aplicada ao processamento
+     *
+     * @return EntityBindingPlan, plano da consulta, ou o próprio plano caso a consulta não possua projeção nem condições
+     *
+     * @throws IllegalArgumentException, caso algum field da consulta não seja um field válido da classe base
+     */
+    EntityBindingPlan withQuery(FileProcessorQuery query) {
+        if (query.isAll()) {
+            return this;
+        }
+        Map<String, FieldBinding> byName = new HashMap<>();
+        for (FieldBinding field : fields) {
+            byName.put(field.getField().getName(), field);
+        }
+        Set<String> missing = new LinkedHashSet<>();
+        List<FieldBinding> projected = fields;
+        if (query.getFields() != null) {
+            projected = new ArrayList<>();
+            for (FieldBinding field : fields) {
+                if (query.getFields().contains(field.getField().getName())) {
+                    projected.add(field);
+                }
+            }
+            query.getFields().stream().filter(name -> !byName.containsKey(name)).forEach(missing::add);
+        }
+        int[] filterFields = new int[query.getPredicates().size()];
+        ColumnPredicate[] filters = new ColumnPredicate[filterFields.length];
+        int i = 0;
+        for (Map.Entry<String, ColumnPredicate> predicate : query.getPredicates().entrySet()) {
+            FieldBinding field = byName.get(predicate.getKey());
+            if (field == null) {
+                missing.add(predicate.getKey());
+                continue;
+            }
+            filterFields[i] = field.getPosition();
+            filters[i++] = predicate.getValue();
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Fields não encontrados na classe base: " + missing);
+        }
+        return new EntityBindingPlan(this, Collections.unmodifiableList(projected), filterFields, filters);
+    }
+
+    /**
+     * Método responsável por verificar se a linha informada é o header do arquivo, retornando neste caso a associação
+     * entre os fields e as colunas. Quando a classe não utiliza @FileColumn, o header é a primeira linha com o número de
+     * colunas igual ao número de fields, e as colunas são associadas pela ordem de declaração dos fields. Caso contrário
+     * o header é a primeira linha que contém todas as colunas esperadas pelos fields.
+     *
+     * @param header: valores das colunas da linha candidata a header
+     *
+     * @return ColumnMapping, associação entre fields e colunas ou null caso a linha não seja o header
+     */
+    ColumnMapping resolveColumns(List<String> header) {
+        if (!headerMapped) {
+            return header.size() == fields.size() ? positionalMapping : null;
+        }
+        int[] columnIndexes = new int[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            columnIndexes[i] = fields.get(i).findColumn(header);
+            if (columnIndexes[i] < 0) {
+                return null;
+            }
+        }
+        return new ColumnMapping(columnIndexes, header.size());
+    }
+
+    /**
+     * Método responsável por recuperar a associação posicional, onde a coluna i corresponde ao i-ésimo field válido
+     *
+     * @return ColumnMapping, associação posicional entre fields e colunas
+     */
+    ColumnMapping getPositionalMapping() {
+        return positionalMapping;
+    }
+
+    /**
+     * Método responsável por criar o registro dos formatos travados pelas colunas de data de um arquivo. Cada arquivo
+     * (ou bloco, no processamento paralelo) possui o seu próprio registro, inicialmente sem nenhum formato travado
+     *
+     * @return int[], formato travado de cada field, na ordem dos fields
+     */
+    int[] newDateFormats() {
+        int[] dateFormats = new int[fields.size()];
+        Arrays.fill(dateFormats, DateParser.NOT_LOCKED);
+        return dateFormats;
+    }
+
+    /**
+     * Método responsável por criar os dicionários dos fields String de um arquivo. Assim como os formatos de data,
+     * cada arquivo (ou bloco, no processamento paralelo) possui os seus próprios dicionários
+     *
+     * @return StringDictionary[], dicionário de cada field, na ordem dos fields, ou null para os fields sem dicionário
+     */
+    StringDictionary[] newDictionaries() {
+        StringDictionary[] dictionaries = new StringDictionary[fields.size()];
+        for (int i = 0; i < dictionaries.length; i++) {
+            dictionaries[i] = fields.get(i).newDictionary();
+        }
+        return dictionaries;
+    }
+
+    /**
+     * Método responsável por criar uma instancia vazia da classe base através do binder gerado ou, na ausência dele,
+     * do construtor sem parâmetros
+     *
+     * @return Object, instancia vazia da classe base
+     *
+     * @throws InstantiationException, caso a classe não possua um construtor sem parâmetros
+     * @throws InvocationTargetException, caso o construtor lance uma exceção
+     */
+    Object newInstance() throws InstantiationException, InvocationTargetException {
+        if (binder != null) {
+            try {
+                return binder.newInstance();
+            } catch (RuntimeException | Error e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+        if (constructor == null) {
+            throw new InstantiationException();
+        }
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Método que verifica se o field informado é um field estático
+     *
+     * @param field: field a ser verificado
+     *
+     * @return boolean, de modo que é retornado true no caso do field ser do tipo estático
+     * e false caso contrário
+     */
+    private static boolean isStaticField(Field field) {
+        return Modifier.isStatic(field.getModifiers());
+    }
+
+    /**
+     * Método que verifica se o field foi anotado com a annotation @FileProcessorIgnore
+     *
+     * @param field: field a ser verificado
+     *
+     * @return boolean, de modo que é retornado true no caso do field ter sido anotado com
+     * a annotation e false caso contrário
+     */
+    private static boolean isToIgnoreField(Field field) {
+        return (field.getAnnotationsByType(FileProcessorIgnore.class).length > 0);
+    }
+
+    /**
+     * Método responsável por recuperar o construtor sem parâmetros da classe como um MethodHandle
+     *
+     * @param classe: classe base do processamento
+     *
+     * @return MethodHandle, construtor da classe ou null caso a classe não possa ser instanciada
+     */
+    private static MethodHandle findConstructor(Class<?> classe) {
+        if (Modifier.isAbstract(classe.getModifiers())) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor = classe.getDeclaredConstructor();
+            constructor.setAccessible(Boolean.TRUE);
+            return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Binding de um field da classe base, contendo o parser do tipo do field e o setter já resolvidos. Fields dos
+     * tipos int, long, double e boolean (primitivos ou não) são transformados diretamente a partir do trecho da coluna,
+     * e os primitivos são setados sem boxing
+     */
+    static class FieldBinding {
+        @Getter
+        private final Field field;
+        @Getter
+        private final String typeName;
+        @Getter
+        private final FileColumn column;
+        @Getter
+        private final int position;
+        @Getter
+        private final DateParser dateParser;
+        private final FileDictionary dictionary;
+        private final String columnName;
+        private final boolean primitive;
+        @Getter
+        private final boolean supported;
+        private final ValueSetter setter;
+
+        private FieldBinding(Field field, int position, FileEntityBinder<Object> binder) {
+            Class<?> type = field.getType();
+            this.field = field;
+            this.typeName = type.getName();
+            this.column = field.getAnnotation(FileColumn.class);
+            this.position = position;
+            this.columnName = column != null && !column.name().isEmpty() ? column.name() : field.getName();
+            this.primitive = type.isPrimitive();
+            this.supported = TypeParser.getParser(type) != null;
+            this.dateParser = DateParser.of(type, field.getAnnotation(FileDateFormat.class));
+            this.dictionary = field.getAnnotation(FileDictionary.class);
+            int binderIndex = binder != null ? binder.indexOf(field.getName()) : -1;
+            if (!supported) {
+                this.setter = null;
+            } else if (binderIndex >= 0) {
+                this.setter = (entity, value, start, end, dateFormats) -> binder.set(entity, binderIndex, value, start, end);
+            } else {
+                this.setter = createSetter(field, type, dateParser, position);
+            }
+        }
+
+        /**
+         * Método responsável por localizar no header a coluna associada ao field
+         *
+         * @param header: valores das colunas do header
+         *
+         * @return int, índice da coluna ou -1 caso a coluna não esteja presente no header
+         */
+        private int findColumn(List<String> header) {
+            if (column != null && column.index() >= 0) {
+                int index = column.index();
+                boolean matches = index < header.size() && (column.name().isEmpty() || isColumnName(header.get(index)));
+                return matches ? index : -1;
+            }
+            for (int i = 0; i < header.size(); i++) {
+                if (isColumnName(header.get(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean isColumnName(String value) {
+            return value != null && value.trim().equalsIgnoreCase(columnName);
+        }
+
+        /**
+         * Método responsável por criar o dicionário do field em um arquivo. Fields anotados com @FileDictionary mantêm
+         * o dicionário até o limite da annotation, e os demais fields String utilizam um dicionário descartável, que
+         * é abandonado quando a coluna ultrapassa FileProcessorConstants.DICTIONARY_AUTO_MAX_SIZE valores distintos
+         *
+         * @return StringDictionary, dicionário vazio ou null caso o field não seja String ou tenha o dicionário
+         * desabilitado
+         */
+        private StringDictionary newDictionary() {
+            if (field.getType() != String.class) {
+                return null;
+            }
+            if (dictionary == null) {
+                return new StringDictionary(FileProcessorConstants.DICTIONARY_AUTO_MAX_SIZE, true);
+            }
+            return dictionary.maxSize() > 0 ? new StringDictionary(dictionary.maxSize(), false) : null;
+        }
+
+        /**
+         * Método responsável por transformar o valor no tipo do field e setá-lo na entity. Valores nulos são setados como
+         * null, exceto em fields primitivos, que mantêm o valor padrão
+         *
+         * @param entity: instancia da classe base onde será setado o valor
+         * @param value: valor da coluna no formato string
+         * @param dateFormats: formatos travados pelas colunas de data do arquivo
+         *
+         * @throws InvocationTargetException, caso não exista parser para o tipo do field
+         * @throws IllegalAccessException, caso não seja possível acessar o field
+         * @throws IllegalArgumentException, caso o valor não possua o formato esperado pelo tipo do field
+         * @throws DateTimeException, caso o valor não esteja em nenhum dos formatos de data do field
+         */
+        void bind(Object entity, String value, int[] dateFormats) throws InvocationTargetException, IllegalAccessException {
+            if (value == null) {
+                if (!primitive) {
+                    bind(entity, null, 0, 0, dateFormats);
+                }
+                return;
+            }
+            bind(entity, value, 0, value.length(), dateFormats);
+        }
+
+        /**
+         * Método responsável por transformar um trecho de texto no tipo do field e setá-lo na entity, sem a criação de
+         * uma string intermediária para os tipos numéricos e boolean
+         *
+         * @param entity: instancia da classe base onde será setado o valor
+         * @param value: conteúdo onde está o valor da coluna
+         * @param start: início do valor no conteúdo
+         * @param end: fim do valor no conteúdo
+         * @param dateFormats: formatos travados pelas colunas de data do arquivo
+         *
+         * @throws InvocationTargetException, caso não exista parser para o tipo do field
+         * @throws IllegalAccessException, caso não seja possível acessar o field
+         * @throws IllegalArgumentException, caso o valor não possua o formato esperado pelo tipo do field
+         * @throws DateTimeException, caso o valor não esteja em nenhum dos formatos de data do field
+         */
+        void bind(Object entity, CharSequence value, int start, int end, int[] dateFormats) throws InvocationTargetException, IllegalAccessException {
+            if (!supported) {
+                throw new InvocationTargetException(null, "Tipo não suportado: " + typeName);
+            }
+            if (setter == null) {
+                throw new IllegalAccessException(field.getName());
+            }
+            try {
+                setter.set(entity, value, start, end, dateFormats);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        /**
+         * Método responsável por montar a função que transforma o valor e o seta no field. Os tipos int, long, double e
+         * boolean utilizam os parsers do TypeParser que leem diretamente o trecho da coluna, os tipos de data utilizam o
+         * DateParser do field, com o formato travado pela coluna, e os demais tipos utilizam o parser do tipo sobre o
+         * valor em string
+         *
+         * @param field: field da classe base
+         * @param type: tipo do field
+         * @param dateParser: parser de data do field, ou null caso o field não seja de data
+         * @param position: posição do field, utilizada para recuperar o formato de data travado pela coluna
+         *
+         * @return ValueSetter, função que seta o valor no field ou null caso o field não possa ser acessado
+         */
+        private static ValueSetter createSetter(Field field, Class<?> type, DateParser dateParser, int position) {
+            MethodHandle handle = findSetter(field, type.isPrimitive() ? type : Object.class);
+            if (handle == null) {
+                return null;
+            }
+            if (type == int.class) {
+                return (entity, value, start, end, dateFormats) -> {
+                    handle.invokeExact(entity, TypeParser.parseInt(value, start, end));
+                };
+            }
+            if (type == long.class) {
+                return (entity, value, start, end, dateFormats) -> {
+                    handle.invokeExact(entity, TypeParser.parseLong(value, start, end));
+                };
+            }
+            if (type == double.class) {
+                return (entity, value, start, end, dateFormats) -> {
+                    handle.invokeExact(entity, TypeParser.parseDouble(value, start, end));
+                };
+            }
+            if (type == boolean.class) {
+                return (entity, value, start, end, dateFormats) -> {
+                    handle.invokeExact(entity, TypeParser.parseBoolean(value, start, end));
+                };
+            }
+            if (type == Integer.class) {
+                return (entity, value, start, end, dateFormats) -> {
+                    handle.invokeExact(entity, value != null ? (Object) TypeParser.parseInt(value, start, end) : null);
+                };
+            }
+            if (type == Long.class) {
+                return (entity, value, start, end, dateFormats) -> {
+                    handle.invokeExact(entity, value != null ? (Object) TypeParser.parseLong(value, start, end) : null);
+                };
+            }
+            if (type == Double.class) {
+                return (entity, value, start, end, dateFormats) -> {
+                    handle.invokeExact(entity, value != null ? (Object) TypeParser.parseDouble(value, start, end) : null);
+                };
+            }
+            if (type == Boolean.class) {
+                return (entity, value, start, end, dateFormats) -> {
+                    handle.invokeExact(entity, value != null ? (Object) TypeParser.parseBoolean(value, start, end) : null);
+                };
+            }
+            if (dateParser != null) {
+                return (entity, value, start, end, dateFormats) -> {
+                    handle.invokeExact(entity, value != null ? dateParser.parse(value.subSequence(start, end).toString(), dateFormats, position) : null);
+                };
+            }
+            Function<String, ?> parser = TypeParser.getParser(type);
+            if (type.isPrimitive()) {
+                MethodHandle boxed = handle.asType(SETTER_TYPE);
+                return (entity, value, start, end, dateFormats) -> {
+                    boxed.invokeExact(entity, (Object) parser.apply(value.subSequence(start, end).toString()));
+                };
+            }
+            return (entity, value, start, end, dateFormats) -> {
+                handle.invokeExact(entity, value != null ? (Object) parser.apply(value.subSequence(start, end).toString()) : null);
+            };
+        }
+
+        /**
+         * Método responsável por recuperar o setter do field como um MethodHandle. Fields finais não possuem setter
+         * direto, sendo utilizado para eles o Field.set (ou o Field.setInt, Field.setLong, ... para os primitivos)
+         * através de um MethodHandle
+         *
+         * @param field: field da classe base
+         * @param valueType: tipo do valor recebido pelo setter, sendo o próprio tipo primitivo ou Object
+         *
+         * @return MethodHandle, setter do field ou null caso o field não possa ser acessado
+         */
+        private static MethodHandle findSetter(Field field, Class<?> valueType) {
+            MethodType setterType = MethodType.methodType(void.class, Object.class, valueType);
+            try {
+                field.setAccessible(Boolean.TRUE);
+                if (Modifier.isFinal(field.getModifiers())) {
+                    String name = valueType.isPrimitive() ? "set" + Character.toUpperCase(valueType.getName().charAt(0)) + valueType.getName().substring(1) : "set";
+                    return MethodHandles.lookup().findVirtual(Field.class, name, setterType).bindTo(field);
+                }
+                return MethodHandles.lookup().unreflectSetter(field).asType(setterType);
+            } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Função que transforma o trecho de uma coluna no tipo do field e o seta na entity
+     */
+    @FunctionalInterface
+    private interface ValueSetter {
+        void set(Object entity, CharSequence value, int start, int end, int[] dateFormats) throws Throwable;
+    }
+}
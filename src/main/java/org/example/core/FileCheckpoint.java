@@ -0,0 +1,68 @@
+package org.example.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Checkpoint do processamento incremental de um arquivo que cresce por adição de linhas (CsvFileProcessor.processIncremental).
+ * Registra até onde o arquivo foi processado (posição em bytes e quantidade de linhas) e as impressões digitais
+ * (SHA-256) do header e do trecho anterior à posição, utilizadas para identificar se o arquivo foi truncado ou
+ * alterado desde o processamento anterior.
+ *
+ * O checkpoint não depende do processador e pode ser guardado pela aplicação (é Serializable e pode ser recriado a
+ * partir dos seus valores) para ser informado no próximo processamento do arquivo.
+ */
+@Getter
+@AllArgsConstructor
+public class FileCheckpoint implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private long offset;
+    private long lineCount;
+    private long headerOffset;
+    private int headerLength;
+    private String headerFingerprint;
+    private String tailFingerprint;
+
+    /**
+     * Método que verifica se o header do arquivo já foi encontrado, sendo possível continuar o processamento a partir
+     * do checkpoint
+     *
+     * @return boolean, true caso o checkpoint possua o header do arquivo
+     */
+    public boolean hasHeader() {
+        return headerLength > 0;
+    }
+
+    /**
+     * Método responsável por calcular a impressão digital de um trecho do conteúdo
+     *
+     * @param content: conteúdo do arquivo
+     * @param offset: início do trecho
+     * @param length: tamanho do trecho
+     *
+     * @return String, SHA-256 do trecho em hexadecimal
+     */
+    static String fingerprint(byte[] content, int offset, int length) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(content, offset, length);
+        byte[] hash = digest.digest();
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(hex);
+    }
+}
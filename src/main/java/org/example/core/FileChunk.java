@@ -0,0 +1,26 @@
+package org.example.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.Charset;
+
+/**
+ * Bloco de linhas de um arquivo, utilizado no processamento paralelo. O bloco referencia um trecho do conteúdo
+ * do arquivo sem copiá-lo e guarda a quantidade de linhas anteriores a ele, para que as mensagens de erro
+ * apontem a linha correta do arquivo. Quando o charset do arquivo é identificado pelo conteúdo inteiro (como pelo BOM,
+ * presente somente no primeiro bloco), ele é guardado em cada bloco.
+ */
+@Getter
+@AllArgsConstructor
+public class FileChunk {
+    private byte[] content;
+    private int offset;
+    private int length;
+    private int lineOffset;
+    private Charset charset;
+
+    public FileChunk(byte[] content, int offset, int length, int lineOffset) {
+        this(content, offset, length, lineOffset, null);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation que associa um field da classe base a uma coluna do arquivo. Quando a classe base possui algum field
+ * anotado, as colunas deixam de ser associadas pela ordem de declaração dos fields e passam a ser resolvidas a partir
+ * do header do arquivo, uma única vez por arquivo. Colunas do arquivo que não estão associadas a nenhum field são
+ * ignoradas, sem serem convertidas ou processadas.
+ *
+ * name: nome da coluna no header (comparado sem diferenciar maiúsculas e minúsculas e ignorando espaços nas pontas).
+ * index: posição da coluna, iniciando em 0. Quando informado junto com o name, o header nesta posição deve possuir o name.
+ *
+ * Fields não anotados de uma classe que utiliza a annotation são associados à coluna com o mesmo nome do field.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface FileColumn {
+    String name() default "";
+
+    int index() default -1;
+}
@@ -0,0 +1,215 @@
+package org.example.core;
+
+import lombok.Getter;
+import org.example.core.EntityBindingPlan.FieldBinding;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado do processamento colunar (FileProcessor.processColumnar), onde os valores de cada field são guardados em
+ * um array do tipo do field, na ordem das linhas, ao invés de uma entidade por linha. Os fields int e long são
+ * guardados em long[], os double e float em double[], os boolean em boolean[], as strings codificadas por dicionário
+ * (código de cada linha em int[] e os valores distintos no dicionário) e os demais tipos em Object[].
+ *
+ * Somente as linhas válidas, que atendem às condições da consulta, fazem parte do resultado. Colunas sem valor
+ * mantêm o valor padrão do tipo no array (0, false, código -1 ou null) e podem ser identificadas pelo isNull. Os
+ * arrays retornados são os próprios arrays das colunas, sem cópia.
+ */
+public final class FileColumns {
+
+    public static final int NULL_CODE = -1;
+
+    @Getter
+    private final List<String> fieldNames;
+    private final ColumnBuffer[] buffers;
+    private final Map<String, ColumnBuffer> buffersByName;
+    @Getter
+    private int rowCount;
+
+    /**
+     * @param fields: fields válidos da classe base que serão preenchidos, na ordem do plano de binding
+     */
+    FileColumns(List<FieldBinding> fields) {
+        List<String> names = new ArrayList<>(fields.size());
+        this.buffers = new ColumnBuffer[fields.size()];
+        this.buffersByName = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            FieldBinding field = fields.get(i);
+            buffers[i] = ColumnBuffer.of(field);
+            names.add(field.getField().getName());
+            buffersByName.put(field.getField().getName(), buffers[i]);
+        }
+        this.fieldNames = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Método responsável por adicionar o valor de uma coluna na linha atual
+     *
+     * @param field: índice do field na lista de fields
+     * @param value: conteúdo onde está o valor, ou null caso a coluna não possua valor
+     * @param start: início do valor no conteúdo
+     * @param end: fim do valor no conteúdo
+     * @param dateFormats: formatos travados pelas colunas de data do arquivo
+     *
+     * @throws InvocationTargetException, caso não exista parser para o tipo do field
+     * @throws IllegalArgumentException, caso o valor não possua o formato esperado pelo tipo do field
+     */
+    void append(int field, CharSequence value, int start, int end, int[] dateFormats) throws InvocationTargetException {
+        buffers[field].append(value, start, end, dateFormats);
+    }
+
+    /**
+     * Método responsável por confirmar os valores adicionados na linha atual
+     */
+    void commitRow() {
+        rowCount++;
+    }
+
+    /**
+     * Método responsável por descartar os valores adicionados na linha atual, utilizado quando algum valor da linha
+     * é incompatível com o tipo do seu field
+     */
+    void rollbackRow() {
+        for (ColumnBuffer buffer : buffers) {
+            buffer.truncate(rowCount);
+        }
+    }
+
+    /**
+     * Método responsável por ajustar os arrays à quantidade de linhas ao final do processamento
+     *
+     * @return FileColumns, a própria instância
+     */
+    FileColumns finish() {
+        rollbackRow();
+        for (ColumnBuffer buffer : buffers) {
+            buffer.finish();
+        }
+        return this;
+    }
+
+    /**
+     * Método responsável por recuperar os valores de um field int ou long
+     *
+     * @param field: nome do field
+     *
+     * @return long[], valor do field em cada linha
+     *
+     * @throws IllegalArgumentException, caso o field não exista ou não seja int ou long
+     */
+    public long[] getLongs(String field) {
+        return getBuffer(field, ColumnBuffer.LongColumn.class).values;
+    }
+
+    /**
+     * Método responsável por recuperar os valores de um field double ou float
+     *
+     * @param field: nome do field
+     *
+     * @return double[], valor do field em cada linha
+     *
+     * @throws IllegalArgumentException, caso o field não exista ou não seja double ou float
+     */
+    public double[] getDoubles(String field) {
+        return getBuffer(field, ColumnBuffer.DoubleColumn.class).values;
+    }
+
+    /**
+     * Método responsável por recuperar os valores de um field boolean
+     *
+     * @param field: nome do field
+     *
+     * @return boolean[], valor do field em cada linha
+     *
+     * @throws IllegalArgumentException, caso o field não exista ou não seja boolean
+     */
+    public boolean[] getBooleans(String field) {
+        return getBuffer(field, ColumnBuffer.BooleanColumn.class).values;
+    }
+
+    /**
+     * Método responsável por recuperar os códigos de um field String, que são as posições dos valores no dicionário
+     *
+     * @param field: nome do field
+     *
+     * @return int[], código do valor do field em cada linha, ou NULL_CODE para as colunas sem valor
+     *
+     * @throws IllegalArgumentException, caso o field não exista ou não seja String
+     */
+    public int[] getCodes(String field) {
+        return getBuffer(field, ColumnBuffer.StringColumn.class).codes;
+    }
+
+    /**
+     * Método responsável por recuperar o dicionário de um field String
+     *
+     * @param field: nome do field
+     *
+     * @return List<String>, valores distintos do field, na ordem da primeira ocorrência
+     *
+     * @throws IllegalArgumentException, caso o field não exista ou não seja String
+     */
+    public List<String> getDictionary(String field) {
+        return Collections.unmodifiableList(getBuffer(field, ColumnBuffer.StringColumn.class).dictionary.asList());
+    }
+
+    /**
+     * Método responsável por recuperar o valor de um field String em uma linha
+     *
+     * @param field: nome do field
+     * @param row: índice da linha
+     *
+     * @return String, valor do field na linha ou null caso a coluna não possua valor
+     *
+     * @throws IllegalArgumentException, caso o field não exista ou não seja String
+     */
+    public String getString(String field, int row) {
+        ColumnBuffer.StringColumn column = getBuffer(field, ColumnBuffer.StringColumn.class);
+        int code = column.codes[row];
+        return code == NULL_CODE ? null : column.dictionary.get(code);
+    }
+
+    /**
+     * Método responsável por recuperar os valores de um field dos demais tipos (datas, BigDecimal, enum, UUID, ...)
+     *
+     * @param field: nome do field
+     *
+     * @return Object[], valor do field em cada linha
+     *
+     * @throws IllegalArgumentException, caso o field não exista ou seja de um tipo guardado em array primitivo ou
+     * dicionário
+     */
+    public Object[] getValues(String field) {
+        return getBuffer(field, ColumnBuffer.ObjectColumn.class).values;
+    }
+
+    /**
+     * Método que verifica se a coluna de um field não possuía valor em uma linha
+     *
+     * @param field: nome do field
+     * @param row: índice da linha
+     *
+     * @return boolean, true caso a coluna não possua valor
+     *
+     * @throws IllegalArgumentException, caso o field não exista
+     */
+    public boolean isNull(String field, int row) {
+        return getBuffer(field, ColumnBuffer.class).isNull(row);
+    }
+
+    private <B extends ColumnBuffer> B getBuffer(String field, Class<B> type) {
+        ColumnBuffer buffer = buffersByName.get(field);
+        if (buffer == null) {
+            throw new IllegalArgumentException("Field não encontrado no resultado: " + field);
+        }
+        if (!type.isInstance(buffer)) {
+            throw new IllegalArgumentException("O field " + field + " não é guardado como " + type.getSimpleName());
+        }
+        return type.cast(buffer);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation que define os formatos aceitos por um field de data (Date, LocalDate, LocalDateTime ou Instant). Os
+ * formatos seguem o padrão do DateTimeFormatter e são testados na ordem informada. O primeiro formato que reconhecer
+ * um valor da coluna passa a ser utilizado para as demais linhas do mesmo arquivo, sendo os outros formatos testados
+ * somente caso um valor não seja reconhecido por ele.
+ *
+ * value: formatos aceitos pelo field. Fields sem a annotation utilizam o formato ISO do tipo seguido dos formatos
+ * presentes em FileProcessorConstants.DATE_FORMATES.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface FileDateFormat {
+    String[] value();
+}
@@ -0,0 +1,25 @@
+package org.example.core;
+
+import org.example.util.FileProcessorConstants;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation que define o dicionário de um field String. Os valores de cada arquivo são guardados em um dicionário,
+ * e as linhas com o mesmo valor recebem a mesma instância de string, que é criada somente na primeira ocorrência.
+ *
+ * Fields String sem a annotation também utilizam um dicionário enquanto a coluna possuir até
+ * FileProcessorConstants.DICTIONARY_AUTO_MAX_SIZE valores distintos no arquivo, passando a criar uma string por valor
+ * quando esse limite é ultrapassado.
+ *
+ * maxSize: quantidade máxima de valores distintos guardados por arquivo. Ao atingir o limite, os valores já guardados
+ * continuam sendo reutilizados e os novos valores são criados normalmente. Com 0 o dicionário é desabilitado.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface FileDictionary {
+    int maxSize() default FileProcessorConstants.DICTIONARY_MAX_SIZE;
+}
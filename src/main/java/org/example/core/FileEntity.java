@@ -0,0 +1,20 @@
+package org.example.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation que indica que a classe base deve possuir um binder gerado em tempo de compilação (FileEntityBinder).
+ * O FileEntityProcessor gera, no mesmo pacote da classe, a classe NomeDaClasse_FileBinder, com o construtor e os
+ * setters chamados diretamente, sem reflexão. Os fields String, int, long, double e boolean (primitivos ou não) são
+ * setados pelo binder, e os demais fields continuam sendo setados pelo plano de binding reflexivo.
+ *
+ * A classe precisa de um construtor sem parâmetros que não seja privado, e os fields precisam ser acessíveis no
+ * pacote ou possuir setter (declarado ou gerado pelo lombok).
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface FileEntity {
+}
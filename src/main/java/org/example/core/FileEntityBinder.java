@@ -0,0 +1,90 @@
+package org.example.core;
+
+/**
+ * Binder de uma classe base gerado em tempo de compilação pelo FileEntityProcessor, para as classes anotadas com
+ * @FileEntity. O binder cria a entidade e seta os fields com chamadas diretas ao construtor e aos setters, que podem
+ * ser otimizadas pela JVM como código comum. O plano de binding utiliza o binder quando ele está presente, mantendo a
+ * reflexão para os fields que o binder não suporta e para as classes sem binder.
+ *
+ * Os métodos de parse são expostos às classes geradas, que ficam no pacote da classe base.
+ *
+ * @param <T>: tipo da classe base
+ */
+public abstract class FileEntityBinder<T> {
+
+    public static final String SUFFIX = "_FileBinder";
+
+    /**
+     * Método responsável por criar uma instancia vazia da classe base
+     *
+     * @return T, instancia vazia da classe base
+     */
+    public abstract T newInstance();
+
+    /**
+     * Método responsável por recuperar o índice de um field no binder
+     *
+     * @param field: nome do field na classe base
+     *
+     * @return int, índice do field ou -1 caso o field não seja setado pelo binder
+     */
+    public abstract int indexOf(String field);
+
+    /**
+     * Método responsável por transformar um trecho de texto no tipo do field e setá-lo na entity
+     *
+     * @param entity: instancia da classe base onde será setado o valor
+     * @param index: índice do field, recuperado pelo indexOf
+     * @param value: conteúdo onde está o valor, ou null caso a coluna não possua valor
+     * @param start: início do valor no conteúdo
+     * @param end: fim do valor no conteúdo
+     *
+     * @throws IllegalArgumentException, caso o valor não possua o formato esperado pelo tipo do field
+     */
+    public abstract void set(T entity, int index, CharSequence value, int start, int end);
+
+    /**
+     * Método responsável por recuperar o binder gerado para a classe informada
+     *
+     * @param classe: classe base do processamento
+     *
+     * @return FileEntityBinder, binder da classe ou null caso a classe não seja anotada com @FileEntity ou o binder
+     * não tenha sido gerado
+     */
+    static FileEntityBinder<Object> find(Class<?> classe) {
+        if (!classe.isAnnotationPresent(FileEntity.class)) {
+            return null;
+        }
+        try {
+            Class<?> binderClass = Class.forName(classe.getName() + SUFFIX, true, classe.getClassLoader());
+            if (!FileEntityBinder.class.isAssignableFrom(binderClass)) {
+                return null;
+            }
+            @SuppressWarnings("unchecked")
+            FileEntityBinder<Object> binder = binderClass.asSubclass(FileEntityBinder.class).getDeclaredConstructor().newInstance();
+            return binder;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    protected static String parseString(CharSequence value, int start, int end) {
+        return value.subSequence(start, end).toString();
+    }
+
+    protected static int parseInt(CharSequence value, int start, int end) {
+        return TypeParser.parseInt(value, start, end);
+    }
+
+    protected static long parseLong(CharSequence value, int start, int end) {
+        return TypeParser.parseLong(value, start, end);
+    }
+
+    protected static double parseDouble(CharSequence value, int start, int end) {
+        return TypeParser.parseDouble(value, start, end);
+    }
+
+    protected static boolean parseBoolean(CharSequence value, int start, int end) {
+        return TypeParser.parseBoolean(value, start, end);
+    }
+}
@@ -0,0 +1,267 @@
+package org.example.core;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor que gera o FileEntityBinder das classes anotadas com @FileEntity. Para cada classe é gerada a
+ * classe NomeDaClasse_FileBinder, no mesmo pacote, contendo o construtor e os setters de cada field chamados
+ * diretamente. Os fields estáticos, anotados com @FileProcessorIgnore, finais, sem setter ou de tipos que não são
+ * transformados pelo binder são deixados para o plano de binding reflexivo.
+ *
+ * Os setters gerados pelo lombok (@Setter e @Data) não estão presentes durante o processamento, sendo considerados
+ * pela presença das annotations na classe ou no field.
+ */
+@SupportedAnnotationTypes("org.example.core.FileEntity")
+public class FileEntityProcessor extends AbstractProcessor {
+
+    private static final String IGNORE_ANNOTATION = FileProcessorIgnore.class.getName();
+    private static final String LOMBOK_SETTER = "lombok.Setter";
+    private static final String LOMBOK_DATA = "lombok.Data";
+    private static final Set<String> INACCESSIBLE_LEVELS = Set.of("PRIVATE", "NONE");
+    private static final Map<String, String> PARSERS = new HashMap<>();
+
+    static {
+        PARSERS.put("java.lang.String", "parseString");
+        PARSERS.put("int", "parseInt");
+        PARSERS.put("java.lang.Integer", "parseInt");
+        PARSERS.put("long", "parseLong");
+        PARSERS.put("java.lang.Long", "parseLong");
+        PARSERS.put("double", "parseDouble");
+        PARSERS.put("java.lang.Double", "parseDouble");
+        PARSERS.put("boolean", "parseBoolean");
+        PARSERS.put("java.lang.Boolean", "parseBoolean");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(FileEntity.class)) {
+            TypeElement type = (TypeElement) element;
+            if (isValidEntity(type)) {
+                generateBinder(type);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Método que verifica se a classe anotada pode possuir um binder, registrando um erro de compilação caso contrário
+     *
+     * @param type: classe anotada com @FileEntity
+     *
+     * @return boolean, true caso a classe seja concreta, de nível superior ou estática e possua um construtor sem
+     * parâmetros acessível no pacote
+     */
+    private boolean isValidEntity(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(type, "@FileEntity deve ser utilizada em uma classe concreta");
+            return false;
+        }
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL && (type.getNestingKind() != NestingKind.MEMBER || !type.getModifiers().contains(Modifier.STATIC))) {
+            error(type, "@FileEntity deve ser utilizada em uma classe de nível superior ou estática");
+            return false;
+        }
+        if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            error(type, "@FileEntity não pode ser utilizada em uma classe privada");
+            return false;
+        }
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        boolean hasConstructor = constructors.stream()
+            .anyMatch(constructor -> constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE));
+        if (!hasConstructor && !hasAnnotation(type, "lombok.NoArgsConstructor")) {
+            error(type, "A classe anotada com @FileEntity deve possuir um construtor sem parâmetros que não seja privado");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Método responsável por gerar o código do binder da classe
+     *
+     * @param type: classe anotada com @FileEntity
+     */
+    private void generateBinder(TypeElement type) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String binderName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + FileEntityBinder.SUFFIX;
+        String entityName = type.getQualifiedName().toString();
+        List<String> fieldNames = new ArrayList<>();
+        List<String> assignments = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            String assignment = getAssignment(type, field);
+            if (assignment != null) {
+                fieldNames.add(field.getSimpleName().toString());
+                assignments.add(assignment);
+            }
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(FileEntityProcessor.class.getName()).append("\")\n")
+            .append("public final class ").append(binderName).append(" extends ").append(FileEntityBinder.class.getName()).append('<').append(entityName).append("> {\n\n")
+            .append("    @Override\n")
+            .append("    public ").append(entityName).append(" newInstance() {\n")
+            .append("        return new ").append(entityName).append("();\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public int indexOf(String field) {\n")
+            .append("        switch (field) {\n");
+        for (int i = 0; i < fieldNames.size(); i++) {
+            source.append("            case \"").append(fieldNames.get(i)).append("\": return ").append(i).append(";\n");
+        }
+        source.append("            default: return -1;\n")
+            .append("        }\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public void set(").append(entityName).append(" entity, int index, CharSequence value, int start, int end) {\n")
+            .append("        switch (index) {\n");
+        for (int i = 0; i < assignments.size(); i++) {
+            source.append("            case ").append(i).append(":\n")
+                .append("                ").append(assignments.get(i)).append('\n')
+                .append("                return;\n");
+        }
+        source.append("            default:\n")
+            .append("                throw new IllegalArgumentException(\"Field inválido: \" + index);\n")
+            .append("        }\n")
+            .append("    }\n")
+            .append("}\n");
+
+        String qualifiedBinderName = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedBinderName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            error(type, "Não foi possível gerar o binder: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Método responsável por montar o código que transforma o valor e o seta no field. Valores nulos são setados como
+     * null, exceto em fields primitivos, que mantêm o valor padrão
+     *
+     * @param type: classe anotada com @FileEntity
+     * @param field: field da classe
+     *
+     * @return String, código que seta o valor ou null caso o field deva ser setado pelo plano de binding reflexivo
+     */
+    private String getAssignment(TypeElement type, VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL) || hasAnnotation(field, IGNORE_ANNOTATION)) {
+            return null;
+        }
+        TypeMirror fieldType = field.asType();
+        String parser = PARSERS.get(fieldType.toString());
+        if (parser == null) {
+            return null;
+        }
+        String name = field.getSimpleName().toString();
+        String target;
+        if (!modifiers.contains(Modifier.PRIVATE)) {
+            target = "entity." + name + " = %s;";
+        } else {
+            String setter = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            if (!hasSetter(type, field, setter)) {
+                return null;
+            }
+            target = "entity." + setter + "(%s);";
+        }
+        String value = parser + "(value, start, end)";
+        if (fieldType.getKind().isPrimitive()) {
+            return "if (value != null) " + String.format(target, value);
+        }
+        return String.format(target, "value != null ? " + value + " : null");
+    }
+
+    /**
+     * Método que verifica se o field possui um setter acessível, declarado na classe ou gerado pelo lombok. Assim como
+     * no lombok, o @Setter do field prevalece sobre o da classe, que prevalece sobre o @Data, e os setters com
+     * AccessLevel.PRIVATE ou NONE não são considerados
+     *
+     * @param type: classe anotada com @FileEntity
+     * @param field: field da classe
+     * @param setter: nome do setter do field
+     *
+     * @return boolean, true caso o setter exista e false caso contrário
+     */
+    private boolean hasSetter(TypeElement type, VariableElement field, String setter) {
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(setter) && method.getParameters().size() == 1 && !method.getModifiers().contains(Modifier.PRIVATE)
+                && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                return true;
+            }
+        }
+        AnnotationMirror setterAnnotation = findAnnotation(field, LOMBOK_SETTER);
+        if (setterAnnotation == null) {
+            setterAnnotation = findAnnotation(type, LOMBOK_SETTER);
+        }
+        if (setterAnnotation != null) {
+            return isAccessibleLevel(setterAnnotation);
+        }
+        return hasAnnotation(type, LOMBOK_DATA);
+    }
+
+    /**
+     * Método que verifica se o nível de acesso do @Setter do lombok permite que o setter seja chamado pelo binder, que
+     * é gerado no mesmo pacote da classe
+     *
+     * @param setterAnnotation: annotation @Setter do field ou da classe
+     *
+     * @return boolean, true caso o setter seja gerado com acesso público, protegido ou de pacote
+     */
+    private static boolean isAccessibleLevel(AnnotationMirror setterAnnotation) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : setterAnnotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                Object level = entry.getValue().getValue();
+                String name = level instanceof VariableElement ? ((VariableElement) level).getSimpleName().toString() : String.valueOf(level);
+                return !INACCESSIBLE_LEVELS.contains(name);
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasAnnotation(Element element, String annotation) {
+        return findAnnotation(element, annotation) != null;
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().toString().equals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
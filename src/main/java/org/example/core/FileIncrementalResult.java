@@ -0,0 +1,32 @@
+package org.example.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.exception.FileProcessException;
+
+/**
+ * Resultado do processamento incremental de um arquivo. O checkpoint é retornado mesmo quando o processamento possui
+ * erros, apontando para o fim da última linha processada, de modo que as entidades válidas já entregues ao consumer
+ * não são entregues novamente no próximo processamento.
+ *
+ * O reset indica que o arquivo foi truncado ou alterado (header ou conteúdo já processado) desde o checkpoint
+ * informado, sendo processado desde o início: as linhas dos processamentos anteriores foram entregues novamente. O
+ * lines é a quantidade de linhas lidas neste processamento.
+ */
+@Getter
+@AllArgsConstructor
+public class FileIncrementalResult {
+    private FileCheckpoint checkpoint;
+    private boolean reset;
+    private long lines;
+    private FileProcessException error;
+
+    /**
+     * Método que verifica se as linhas foram processadas sem erros
+     *
+     * @return boolean, true caso o processamento não possua erros e false caso contrário
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.core;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Parte independente de um arquivo, como uma planilha de um xlsx. Cada parte possui seu próprio header e sua própria
+ * numeração de linhas, podendo ser processada ao mesmo tempo que as demais partes do arquivo.
+ *
+ * @param <LINE_TYPE>: tipo da linha presente na parte
+ */
+public interface FilePart<LINE_TYPE> {
+
+    /**
+     * Método responsável por recuperar o nome da parte, utilizado no resultado e nas mensagens de erro
+     *
+     * @return String, nome da parte
+     */
+    String getName();
+
+    /**
+     * Método responsável por percorrer as linhas da parte, entregando cada linha ao consumer. Pode ser chamado em
+     * qualquer thread, ao mesmo tempo que o readLines das demais partes do arquivo
+     *
+     * @param consumer: função que recebe cada linha da parte, na ordem em que aparecem
+     *
+     * @throws IOException: verificação para casos de arquivos corrompidos
+     */
+    void readLines(Consumer<LINE_TYPE> consumer) throws IOException;
+}
@@ -1,18 +1,49 @@
 package org.example.core;
 
+import lombok.Setter;
+import org.example.core.EntityBindingPlan.FieldBinding;
+import org.example.util.FileCompression;
 import org.example.util.FileP;
+import org.example.util.FileSource;
+import org.example.exception.FileProcessError;
+import org.example.exception.FileProcessErrors;
 import org.example.exception.FileProcessException;
 import org.example.exception.FileProcessorExceptionType;
 import org.example.util.FileProcessorConstants;
+import org.example.util.FileProcessorQueryStrategy;
 
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.lang.reflect.Field;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * Esta classe é responsável por realizar o processamento de um arquivo de acordo com
@@ -24,238 +55,1492 @@ import java.util.stream.Collectors;
  * deverá informar qual o tipo da linha (LINE_TYPE), qual o tipo da coluna(COL_TYPE) e implementar
  * 3 métodos (getLinesFromFileAsList, getColsFromLineAsList, getValueFromColumnAsString).
  *
+ * O processador não guarda nenhuma informação de um processamento: o estado de cada chamada fica no metaData, criado
+ * no início da chamada e repassado pelas funções. Deste modo uma mesma instância, junto com os planos de binding das
+ * classes base, pode ser compartilhada e utilizada por várias threads ao mesmo tempo. As configurações (listener de
+ * métricas, limite de erros e fail-fast) valem para todas as chamadas e devem ser definidas antes do compartilhamento.
+ *
  * @param <LINE_TYPE>: tipo da linha presente no arquivo
  * @param <COL_TYPE>: tipo da coluna presente no arquivo
  */
-public abstract class FileProcessor<LINE_TYPE, COL_TYPE> implements FileProcessorInterface<LINE_TYPE, COL_TYPE>, FileProcessorBase {
+public abstract class FileProcessor<LINE_TYPE, COL_TYPE> implements FileProcessorInterface<LINE_TYPE, COL_TYPE>, FileProcessorBase, FileProcessorQueryStrategy {
+
+    private static volatile FileProcessorMetricsListener defaultMetricsListener = FileProcessorMetricsListener.NOOP;
+
+    @Setter
+    private volatile FileProcessorMetricsListener metricsListener;
+    private volatile int maxErrors = FileProcessorConstants.DEFAULT_MAX_ERRORS;
+    private volatile int failFastErrors = FileProcessorConstants.FAIL_FAST_DISABLED;
+
+    /**
+     * Método responsável por definir o listener de métricas utilizado pelos processadores que não possuem um listener
+     * próprio (setMetricsListener), como os criados pelo FileType
+     *
+     * @param listener: listener que receberá as métricas de cada arquivo, ou null para desativar a coleta
+     */
+    public static void setDefaultMetricsListener(FileProcessorMetricsListener listener) {
+        defaultMetricsListener = listener != null ? listener : FileProcessorMetricsListener.NOOP;
+    }
+
+    /**
+     * Método responsável por recuperar os tipos dos fields da classe base que são preenchidos pelo processamento, de
+     * acordo com o plano de binding da classe
+     *
+     * @param classe: classe base do processamento
+     *
+     * @return Set<Class<?>>, tipos dos fields transformados pelo processamento
+     */
+    public static Set<Class<?>> getFieldTypes(Class<?> classe) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (FieldBinding field : EntityBindingPlan.of(classe).getFields()) {
+            if (field.isSupported()) {
+                types.add(field.getField().getType());
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Método responsável por definir a quantidade máxima de erros guardados no logErros de cada arquivo. Os erros além
+     * do limite são somente contabilizados (FileProcessException.getTotalErrors)
+     *
+     * @param maxErrors: quantidade máxima de erros guardados
+     *
+     * @throws IllegalArgumentException, caso o maxErrors seja negativo
+     */
+    public void setMaxErrors(int maxErrors) {
+        if (maxErrors < 0) {
+            throw new IllegalArgumentException("maxErrors não pode ser negativo: " + maxErrors);
+        }
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Método responsável por definir a quantidade de erros a partir da qual o processamento do arquivo é interrompido,
+     * sem que as linhas restantes sejam lidas
+     *
+     * @param failFastErrors: quantidade de erros que interrompe o processamento, ou 0 (FAIL_FAST_DISABLED) para que o
+     * arquivo seja processado por inteiro
+     *
+     * @throws IllegalArgumentException, caso o failFastErrors seja negativo
+     */
+    public void setFailFastErrors(int failFastErrors) {
+        if (failFastErrors < 0) {
+            throw new IllegalArgumentException("failFastErrors não pode ser negativo: " + failFastErrors);
+        }
+        this.failFastErrors = failFastErrors;
+    }
+
+    /**
+     * Função na qual o metaData é iniciado e onde se inicia o processamento do arquivo
+     *
+     * @param file: parâmetro que contém as informações do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     *
+     * @return List<?>, lista do tipo da classe base, contendo os dados presentes no arquivo
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    public List<?> process(FileP file, Class classe) throws FileProcessException {
+        return process(file, classe, FileProcessorQuery.all());
+    }
+
+    /**
+     * Função que processa o arquivo aplicando a consulta informada. As condições da consulta são verificadas sobre as
+     * colunas de cada linha antes da criação da entidade, e somente os fields da projeção são preenchidos
+     *
+     * @param file: parâmetro que contém as informações do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param query: projeção e condições aplicadas às linhas do arquivo
+     *
+     * @return List<?>, lista do tipo da classe base, contendo somente as linhas que atendem às condições da consulta
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @throws IllegalArgumentException, caso algum field da consulta não seja um field válido da classe base
+     */
+    public List<?> process(FileP file, Class classe, FileProcessorQuery query) throws FileProcessException {
+        EntityBindingPlan plan = EntityBindingPlan.of(classe).withQuery(query);
+        FileProcessorMetaData metaData = initMetaData(file, classe);
+        try {
+            List<Object> result = new ArrayList<>();
+            List<LINE_TYPE> lines = getLines(metaData, file);
+            processLines(metaData, lines, plan, new LinesState(), result::add);
+            return result;
+        } finally {
+            publishMetrics(metaData);
+        }
+    }
+
+    /**
+     * Função que processa o arquivo presente no path informado em modo streaming. Cada linha é lida, transformada
+     * e entregue ao consumer antes da próxima ser lida, de modo que nem as linhas e nem as entidades do arquivo são
+     * mantidas em memória. O arquivo é lido através de um MappedFileSource (FileSource.of)
+     *
+     * @param path: caminho do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param consumer: função que recebe cada entidade assim que ela é processada
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    public <T> void process(Path path, Class<T> classe, Consumer<? super T> consumer) throws FileProcessException {
+        process(FileSource.of(path), classe, consumer);
+    }
+
+    /**
+     * Função que processa o conteúdo da origem informada em modo streaming, com as mesmas validações do processamento
+     * de um stream. O conteúdo é lido pelo readLinesFromSource, permitindo que o processador leia a origem sem
+     * copiá-la para o heap (como as janelas mapeadas do MappedFileSource)
+     *
+     * @param source: origem do conteúdo do arquivo
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param consumer: função que recebe cada entidade assim que ela é processada
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    public <T> void process(FileSource source, Class<T> classe, Consumer<? super T> consumer) throws FileProcessException {
+        process(source, classe, FileProcessorQuery.all(), consumer);
+    }
+
+    /**
+     * Função que processa o conteúdo da origem informada em modo streaming aplicando a consulta informada, entregando
+     * ao consumer somente as linhas que atendem às condições da consulta
+     *
+     * @param source: origem do conteúdo do arquivo
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param query: projeção e condições aplicadas às linhas do arquivo
+     * @param consumer: função que recebe cada entidade assim que ela é processada
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @throws IllegalArgumentException, caso algum field da consulta não seja um field válido da classe base
+     */
+    public <T> void process(FileSource source, Class<T> classe, FileProcessorQuery query, Consumer<? super T> consumer) throws FileProcessException {
+        EntityBindingPlan plan = EntityBindingPlan.of(classe).withQuery(query);
+        FileProcessorMetaData metaData = initMetaData(source.getName(), classe);
+        try {
+            processStream(metaData, lines -> readLines(metaData, source, lines), plan, new LinesState(), entity -> consumer.accept(classe.cast(entity)));
+        } finally {
+            publishMetrics(metaData);
+        }
+    }
+
+    /**
+     * Função que processa o conteúdo do stream informado em modo streaming. As validações são as mesmas do
+     * processamento em lista: linhas com número de colunas diferente do número de fields válidos são ignoradas, a
+     * primeira linha válida é considerada o header e os erros de cada linha são acumulados no metaData, sendo
+     * lançados somente ao final do processamento. As entidades válidas já terão sido entregues ao consumer.
+     *
+     * @param input: stream contendo o conteúdo do arquivo. O stream não é fechado por este método
+     * @param fileName: nome do arquivo, utilizado nas mensagens de erro
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param consumer: função que recebe cada entidade assim que ela é processada
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    public <T> void process(InputStream input, String fileName, Class<T> classe, Consumer<? super T> consumer) throws FileProcessException {
+        process(input, fileName, classe, FileProcessorQuery.all(), consumer);
+    }
+
+    /**
+     * Função que processa o conteúdo do stream informado em modo streaming aplicando a consulta informada, entregando
+     * ao consumer somente as linhas que atendem às condições da consulta. As linhas descartadas pelas condições não
+     * são transformadas, não geram erros e não são entregues ao consumer
+     *
+     * @param input: stream contendo o conteúdo do arquivo. O stream não é fechado por este método
+     * @param fileName: nome do arquivo, utilizado nas mensagens de erro
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param query: projeção e condições aplicadas às linhas do arquivo
+     * @param consumer: função que recebe cada entidade assim que ela é processada
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @throws IllegalArgumentException, caso algum field da consulta não seja um field válido da classe base
+     */
+    public <T> void process(InputStream input, String fileName, Class<T> classe, FileProcessorQuery query, Consumer<? super T> consumer) throws FileProcessException {
+        EntityBindingPlan plan = EntityBindingPlan.of(classe).withQuery(query);
+        FileProcessorMetaData metaData = initMetaData(fileName, classe);
+        try {
+            processStream(metaData, lines -> readLines(metaData, input, lines), plan, new LinesState(), entity -> consumer.accept(classe.cast(entity)));
+        } finally {
+            publishMetrics(metaData);
+        }
+    }
+
+    /**
+     * Função que processa o arquivo em modo colunar: os valores de cada field são guardados em um array do tipo do
+     * field (FileColumns), sem a criação de uma entidade por linha. As validações e os erros são os mesmos do
+     * processamento em lista
+     *
+     * @param file: parâmetro que contém as informações do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     *
+     * @return FileColumns, valores de cada field válido da classe base nas linhas do arquivo
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    public FileColumns processColumnar(FileP file, Class<?> classe) throws FileProcessException {
+        return processColumnar(file, classe, FileProcessorQuery.all());
+    }
+
+    /**
+     * Função que processa o arquivo em modo colunar aplicando a consulta informada. Somente os fields da projeção
+     * possuem coluna no resultado, e somente as linhas que atendem às condições da consulta são adicionadas
+     *
+     * @param file: parâmetro que contém as informações do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param query: projeção e condições aplicadas às linhas do arquivo
+     *
+     * @return FileColumns, valores de cada field da projeção nas linhas que atendem às condições da consulta
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @throws IllegalArgumentException, caso algum field da consulta não seja um field válido da classe base
+     */
+    public FileColumns processColumnar(FileP file, Class<?> classe, FileProcessorQuery query) throws FileProcessException {
+        EntityBindingPlan plan = EntityBindingPlan.of(classe).withQuery(query);
+        FileProcessorMetaData metaData = initMetaData(file, classe);
+        try {
+            LinesState state = newColumnarState(plan);
+            processLines(metaData, getLines(metaData, file), plan, state, null);
+            return state.columns.finish();
+        } finally {
+            publishMetrics(metaData);
+        }
+    }
+
+    /**
+     * Função que processa o conteúdo da origem informada em modo colunar, lendo as linhas em modo streaming. Somente
+     * as colunas do resultado são mantidas em memória
+     *
+     * @param source: origem do conteúdo do arquivo
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param query: projeção e condições aplicadas às linhas do arquivo
+     *
+     * @return FileColumns, valores de cada field da projeção nas linhas que atendem às condições da consulta
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @throws IllegalArgumentException, caso algum field da consulta não seja um field válido da classe base
+     */
+    public FileColumns processColumnar(FileSource source, Class<?> classe, FileProcessorQuery query) throws FileProcessException {
+        EntityBindingPlan plan = EntityBindingPlan.of(classe).withQuery(query);
+        FileProcessorMetaData metaData = initMetaData(source.getName(), classe);
+        try {
+            LinesState state = newColumnarState(plan);
+            processStream(metaData, lines -> readLines(metaData, source, lines), plan, state, null);
+            return state.columns.finish();
+        } finally {
+            publishMetrics(metaData);
+        }
+    }
+
+    /**
+     * Função que processa o conteúdo do stream informado em modo colunar, lendo as linhas em modo streaming
+     *
+     * @param input: stream contendo o conteúdo do arquivo. O stream não é fechado por este método
+     * @param fileName: nome do arquivo, utilizado nas mensagens de erro
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param query: projeção e condições aplicadas às linhas do arquivo
+     *
+     * @return FileColumns, valores de cada field da projeção nas linhas que atendem às condições da consulta
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @throws IllegalArgumentException, caso algum field da consulta não seja um field válido da classe base
+     */
+    public FileColumns processColumnar(InputStream input, String fileName, Class<?> classe, FileProcessorQuery query) throws FileProcessException {
+        EntityBindingPlan plan = EntityBindingPlan.of(classe).withQuery(query);
+        FileProcessorMetaData metaData = initMetaData(fileName, classe);
+        try {
+            LinesState state = newColumnarState(plan);
+            processStream(metaData, lines -> readLines(metaData, input, lines), plan, state, null);
+            return state.columns.finish();
+        } finally {
+            publishMetrics(metaData);
+        }
+    }
+
+    /**
+     * Método responsável por criar o estado do processamento colunar, com uma coluna para cada field preenchido
+     *
+     * @param plan: plano de binding da classe base, já com a consulta aplicada
+     *
+     * @return LinesState, estado do processamento das linhas contendo as colunas do resultado
+     */
+    private LinesState newColumnarState(EntityBindingPlan plan) {
+        LinesState state = new LinesState();
+        state.columns = new FileColumns(plan.getBoundFields());
+        return state;
+    }
+
+    /**
+     * Função que processa o arquivo presente no path informado em modo streaming, entregando as entidades em lotes
+     *
+     * @param path: caminho do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param consumer: função que recebe cada lote de entidades
+     * @param batchSize: quantidade de entidades de cada lote
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    public <T> void process(Path path, Class<T> classe, BatchConsumer<T> consumer, int batchSize) throws FileProcessException {
+        process(FileSource.of(path), classe, consumer, batchSize);
+    }
+
+    /**
+     * Função que processa o conteúdo do stream informado em modo streaming, agrupando as entidades em lotes de tamanho
+     * fixo. Cada lote é entregue ao consumer assim que é completado, de modo que somente as entidades do lote atual são
+     * mantidas em memória. Assim como no processamento com Consumer, os erros são lançados somente ao final do
+     * processamento, após a entrega do último lote (incompleto) com as entidades válidas restantes.
+     *
+     * @param input: stream contendo o conteúdo do arquivo. O stream não é fechado por este método
+     * @param fileName: nome do arquivo, utilizado nas mensagens de erro
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param consumer: função que recebe cada lote de entidades
+     * @param batchSize: quantidade de entidades de cada lote
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @throws IllegalArgumentException, caso o batchSize não seja positivo
+     */
+    public <T> void process(InputStream input, String fileName, Class<T> classe, BatchConsumer<T> consumer, int batchSize) throws FileProcessException {
+        FileProcessorMetaData metaData = initMetaData(fileName, classe);
+        processBatches(metaData, lines -> readLines(metaData, input, lines), classe, consumer, batchSize);
+    }
+
+    /**
+     * Função que processa o conteúdo da origem informada em modo streaming, entregando as entidades em lotes
+     *
+     * @param source: origem do conteúdo do arquivo
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param consumer: função que recebe cada lote de entidades
+     * @param batchSize: quantidade de entidades de cada lote
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @throws IllegalArgumentException, caso o batchSize não seja positivo
+     */
+    public <T> void process(FileSource source, Class<T> classe, BatchConsumer<T> consumer, int batchSize) throws FileProcessException {
+        FileProcessorMetaData metaData = initMetaData(source.getName(), classe);
+        processBatches(metaData, lines -> readLines(metaData, source, lines), classe, consumer, batchSize);
+    }
+
+    /**
+     * Método responsável pelo processamento em lotes, comum ao stream e à origem do arquivo
+     *
+     * @param metaData: contexto do processamento do arquivo
+     * @param reader: leitura das linhas do arquivo
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param consumer: função que recebe cada lote de entidades
+     * @param batchSize: quantidade de entidades de cada lote
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @throws IllegalArgumentException, caso o batchSize não seja positivo
+     */
+    private <T> void processBatches(FileProcessorMetaData metaData, LinesReader<LINE_TYPE> reader, Class<T> classe, BatchConsumer<T> consumer, int batchSize) throws FileProcessException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize deve ser positivo: " + batchSize);
+        }
+        BatchBuffer<T> buffer = new BatchBuffer<>(consumer, batchSize, metaData.getMetrics());
+        try {
+            try {
+                processStream(metaData, reader, EntityBindingPlan.of(classe), new LinesState(), entity -> buffer.accept(classe.cast(entity)));
+            } catch (FileProcessException e) {
+                buffer.flush();
+                throw e;
+            }
+            buffer.flush();
+        } finally {
+            publishMetrics(metaData);
+        }
+    }
+
+    /**
+     * Método responsável por ler e processar as linhas do arquivo, entregando as entidades ao consumer
+     *
+     * @param metaData: contexto do processamento do arquivo
+     * @param reader: leitura das linhas do arquivo, a partir de um stream ou de uma origem
+     * @param plan: plano de binding da classe base, já com a consulta aplicada
+     * @param state: estado do processamento das linhas, contendo as colunas no processamento colunar
+     * @param consumer: função que recebe cada entidade assim que ela é processada, ou null no processamento colunar
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    private void processStream(FileProcessorMetaData metaData, LinesReader<LINE_TYPE> reader, EntityBindingPlan plan, LinesState state, Consumer<Object> consumer) throws FileProcessException {
+        try {
+            reader.read(line -> processLine(metaData, line, plan, state, consumer));
+        } catch (IOException e) {
+            throw new FileProcessException(buildMessageExceptionInvalidFile(metaData.getFileName()), metaData.getLogErros(), FileProcessorExceptionType.INFALID_FILE);
+        } catch (LinesInterruptedException e) {
+            throw e.getCause();
+        }
+        validateLinesState(metaData, state);
+    }
+
+    /**
+     * Função base do processamento incremental de um arquivo que cresce por adição de linhas, utilizada pelas classes
+     * que localizam as linhas nos bytes do arquivo. Somente as linhas completas a partir do checkpoint são
+     * processadas, reaproveitando o header registrado nele, e o arquivo é processado desde o início (reset) caso não
+     * corresponda mais ao checkpoint. O trecho a partir do checkpoint é lido em janelas de tamanho fixo
+     * (RecordsInputStream), de modo que a memória utilizada não depende do tamanho do arquivo.
+     *
+     * @param path: caminho do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param checkpoint: checkpoint retornado pelo processamento anterior, ou null para processar o arquivo inteiro
+     * @param consumer: função que recebe cada entidade das linhas adicionadas
+     * @param recordEnds: localizador do fim de cada linha completa nos bytes do arquivo, fornecido pelas classes que
+     *                    leem linhas a partir de bytes
+     *
+     * @return FileIncrementalResult, checkpoint para o próximo processamento e erros das linhas processadas
+     *
+     * @throws IllegalArgumentException, caso o arquivo seja compactado
+     */
+    protected <T> FileIncrementalResult processIncremental(Path path, Class<T> classe, FileCheckpoint checkpoint, Consumer<? super T> consumer,
+                                                           RecordEndsLocator recordEnds) {
+        String fileName = path.getFileName().toString();
+        if (FileCompression.fromFileName(fileName) != FileCompression.NONE) {
+            throw new IllegalArgumentException("O processamento incremental não suporta arquivos compactados: " + fileName);
+        }
+        EntityBindingPlan plan = EntityBindingPlan.of(classe);
+        FileProcessorMetaData metaData = initMetaData(fileName, classe);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            byte[] header = checkpoint != null ? readCheckpointHeader(channel, size, checkpoint) : null;
+            boolean resume = header != null;
+            long start = resume ? checkpoint.getOffset() : 0L;
+            RecordsInputStream records = new RecordsInputStream(channel, start, size, recordEnds);
+            InputStream input = records;
+            if (resume) {
+                input = new SequenceInputStream(new ByteArrayInputStream(header), input);
+                metaData.setLineCount(FileProcessorConstants.INITIAL_LINE + (int) checkpoint.getLineCount() - 1);
+            }
+            LinesState state = new LinesState();
+            long[] consumed = new long[] {0L};
+            long[] lastEnd = new long[] {start};
+            long[] headerRange = new long[] {0L, -1L};
+            boolean[] headerLine = new boolean[] {resume};
+            FileProcessException error = null;
+            try {
+                readLines(metaData, input, line -> {
+                    long recordStart = lastEnd[0];
+                    if (headerLine[0]) {
+                        headerLine[0] = false;
+                    } else {
+                        lastEnd[0] = records.nextRecordEnd();
+                        consumed[0]++;
+                    }
+                    processLine(metaData, line, plan, state, entity -> consumer.accept(classe.cast(entity)));
+                    if (!resume && headerRange[1] < 0 && state.mapping != null) {
+                        headerRange[0] = recordStart;
+                        headerRange[1] = lastEnd[0] - recordStart;
+                    }
+                });
+                validateIncrementalState(metaData, state, consumed[0] > 0);
+            } catch (LinesInterruptedException e) {
+                error = e.getCause();
+            } catch (FileProcessException e) {
+                error = e;
+            }
+            FileCheckpoint next;
+            if (resume) {
+                next = newCheckpoint(channel, lastEnd[0], checkpoint.getLineCount() + consumed[0],
+                    checkpoint.getHeaderOffset(), checkpoint.getHeaderLength(), checkpoint.getHeaderFingerprint());
+            } else if (headerRange[1] >= 0) {
+                byte[] headerContent = readRange(channel, headerRange[0], headerRange[1]);
+                next = newCheckpoint(channel, lastEnd[0], consumed[0], headerRange[0], headerContent.length,
+                    FileCheckpoint.fingerprint(headerContent, 0, headerContent.length));
+            } else {
+                next = new FileCheckpoint(0L, 0L, 0L, 0, null, null);
+            }
+            boolean reset = !resume && checkpoint != null && checkpoint.getLineCount() > 0;
+            return new FileIncrementalResult(next, reset, consumed[0], error);
+        } catch (IOException | UncheckedIOException e) {
+            FileProcessException error = new FileProcessException(buildMessageExceptionInvalidFile(fileName), metaData.getLogErros(), FileProcessorExceptionType.INFALID_FILE);
+            return new FileIncrementalResult(checkpoint, false, 0L, error);
+        } finally {
+            publishMetrics(metaData);
+        }
+    }
+
+    /**
+     * Método responsável por verificar se o arquivo ainda corresponde ao checkpoint: o arquivo não pode ser menor que
+     * a posição do checkpoint e o header e o trecho anterior à posição devem possuir as mesmas impressões digitais
+     *
+     * @param channel: canal de leitura do arquivo
+     * @param size: tamanho atual do arquivo
+     * @param checkpoint: checkpoint do processamento anterior
+     *
+     * @return byte[], bytes do header registrado no checkpoint, ou null caso o arquivo deva ser processado desde o início
+     *
+     * @throws IOException: verificação para casos de arquivos que não podem ser lidos
+     */
+    private static byte[] readCheckpointHeader(FileChannel channel, long size, FileCheckpoint checkpoint) throws IOException {
+        if (!checkpoint.hasHeader() || size < checkpoint.getOffset()) {
+            return null;
+        }
+        byte[] header = readRange(channel, checkpoint.getHeaderOffset(), checkpoint.getHeaderLength());
+        if (!FileCheckpoint.fingerprint(header, 0, header.length).equals(checkpoint.getHeaderFingerprint())) {
+            return null;
+        }
+        int tailLength = (int) Math.min(FileProcessorConstants.INCREMENTAL_TAIL_SIZE, checkpoint.getOffset());
+        byte[] tail = readRange(channel, checkpoint.getOffset() - tailLength, tailLength);
+        return FileCheckpoint.fingerprint(tail, 0, tail.length).equals(checkpoint.getTailFingerprint()) ? header : null;
+    }
+
+    /**
+     * Método responsável por criar o checkpoint do fim da última linha processada, calculando a impressão digital do
+     * trecho anterior à posição
+     *
+     * @param channel: canal de leitura do arquivo
+     * @param offset: posição, em bytes, do fim da última linha processada
+     * @param lineCount: quantidade de linhas do arquivo até a posição
+     * @param headerOffset: posição do header
+     * @param headerLength: tamanho do header, incluindo o final de linha
+     * @param headerFingerprint: impressão digital do header
+     *
+     * @return FileCheckpoint, checkpoint para o próximo processamento
+     *
+     * @throws IOException: verificação para casos de arquivos que não podem ser lidos
+     */
+    private static FileCheckpoint newCheckpoint(FileChannel channel, long offset, long lineCount, long headerOffset, int headerLength,
+                                                String headerFingerprint) throws IOException {
+        int tailLength = (int) Math.min(FileProcessorConstants.INCREMENTAL_TAIL_SIZE, offset);
+        byte[] tail = readRange(channel, offset - tailLength, tailLength);
+        return new FileCheckpoint(offset, lineCount, headerOffset, headerLength, headerFingerprint, FileCheckpoint.fingerprint(tail, 0, tail.length));
+    }
+
+    /**
+     * Método responsável por ler um trecho do arquivo
+     *
+     * @param channel: canal de leitura do arquivo
+     * @param position: início do trecho
+     * @param length: tamanho do trecho
+     *
+     * @return byte[], conteúdo do trecho
+     *
+     * @throws IOException: verificação para casos em que o trecho não pode ser lido ou é maior que um array
+     */
+    private static byte[] readRange(FileChannel channel, long position, long length) throws IOException {
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IOException("Trecho do arquivo muito grande: " + length);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Método responsável pelas validações finais do processamento incremental. Diferente do processamento completo, a
+     * ausência de linhas de dados não é um erro, já que o arquivo pode não ter recebido novas linhas
+     *
+     * @param metaData: metaData onde são registrados os erros
+     * @param state: estado do processamento das linhas
+     * @param hasRecords: indica se alguma linha completa foi lida
+     *
+     * @throws FileProcessException, caso o header não tenha sido encontrado nas linhas lidas ou alguma linha seja inválida
+     */
+    private void validateIncrementalState(FileProcessorMetaData metaData, LinesState state, boolean hasRecords) throws FileProcessException {
+        if (state.mapping == null ? hasRecords : state.hasRows) {
+            validateLinesState(metaData, state);
+        }
+    }
+
+    /**
+     * Função que processa o arquivo dividindo suas linhas em blocos que são processados em paralelo no ForkJoinPool
+     * comum da JVM
+     *
+     * @param file: parâmetro que contém as informações do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     *
+     * @return List<?>, lista do tipo da classe base, contendo os dados presentes no arquivo na ordem original
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    public List<?> processParallel(FileP file, Class classe) throws FileProcessException {
+        return processParallel(file, classe, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Função que processa o arquivo dividindo suas linhas em blocos (getChunksFromFile) que são processados em paralelo
+     * no executor informado. Cada bloco possui seu próprio metaData, iniciado com o número de linhas anteriores ao bloco,
+     * de modo que as mensagens de erro apontam a linha correta do arquivo. Ao final os blocos são unidos na ordem
+     * original e as mesmas validações do processamento em streaming são aplicadas.
+     *
+     * @param file: parâmetro que contém as informações do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param executor: executor onde os blocos serão processados
+     *
+     * @return List<?>, lista do tipo da classe base, contendo os dados presentes no arquivo na ordem original
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    public List<?> processParallel(FileP file, Class classe, Executor executor) throws FileProcessException {
+        FileProcessorMetaData metaData = initMetaData(file, classe);
+        try {
+            return processChunks(metaData, file, classe, executor);
+        } finally {
+            publishMetrics(metaData);
+        }
+    }
+
+    /**
+     * Método responsável por dividir o arquivo em blocos, processá-los no executor e unir os resultados na ordem
+     * original
+     *
+     * @param metaData: contexto do processamento do arquivo
+     * @param file: parâmetro que contém as informações do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param executor: executor onde os blocos serão processados
+     *
+     * @return List<?>, lista do tipo da classe base, contendo os dados presentes no arquivo na ordem original
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    private List<?> processChunks(FileProcessorMetaData metaData, FileP file, Class classe, Executor executor) throws FileProcessException {
+        EntityBindingPlan plan = EntityBindingPlan.of(classe);
+        FileProcessorMetrics metrics = metaData.getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        int chunkSize = Math.max(FileProcessorConstants.PARALLEL_MIN_CHUNK_SIZE,
+            file.getContent().length / (Runtime.getRuntime().availableProcessors() * FileProcessorConstants.PARALLEL_CHUNKS_PER_CORE) + 1);
+        List<FileChunk> chunks = FileCompression.fromFileName(file.getName()) != FileCompression.NONE
+            ? Collections.singletonList(new FileChunk(file.getContent(), 0, file.getContent().length, 0))
+            : getChunksFromFile(file, chunkSize);
+        if (metrics != null) {
+            metrics.addReadNanos(System.nanoTime() - start);
+        }
+        AtomicInteger fileErrors = new AtomicInteger();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        List<CompletableFuture<ChunkResult>> futures = new ArrayList<>();
+        ColumnMapping mapping = null;
+        int index = 0;
+        while (index < chunks.size() && mapping == null && !interrupted.get()) {
+            ChunkResult chunk = processChunk(metaData, chunks.get(index++), plan, null, fileErrors, interrupted);
+            futures.add(CompletableFuture.completedFuture(chunk));
+            mapping = chunk.state.mapping;
+        }
+        ColumnMapping headerMapping = mapping;
+        if (!interrupted.get()) {
+            for (FileChunk chunk : chunks.subList(index, chunks.size())) {
+                futures.add(CompletableFuture.supplyAsync(() -> processChunk(metaData, chunk, plan, headerMapping, fileErrors, interrupted), executor));
+            }
+        }
+        List<Object> result = new ArrayList<>();
+        LinesState state = new LinesState();
+        state.mapping = mapping;
+        FileProcessException failure = null;
+        for (CompletableFuture<ChunkResult> future : futures) {
+            ChunkResult chunk;
+            try {
+                chunk = future.join();
+            } catch (CompletionException e) {
+                throw getCause(e);
+            }
+            failure = failure != null ? failure : chunk.failure;
+            state.hasRows |= chunk.state.hasRows;
+            state.linesValid &= chunk.state.linesValid;
+            if (failure == null) {
+                result.addAll(chunk.entities);
+            }
+            metaData.getLogErros().merge(chunk.metaData.getLogErros());
+            metaData.setLineCount(chunk.metaData.getLineCount());
+            if (metrics != null) {
+                metrics.merge(chunk.metaData.getMetrics());
+                metrics.updatePeakBatchSize(chunk.entities.size());
+            }
+        }
+        if (failure != null) {
+            throw new FileProcessException(failure.getMessage(), metaData.getLogErros(), failure.getTypeError());
+        }
+        validateLinesState(metaData, state);
+        return result;
+    }
+
+    /**
+     * Método responsável por processar as partes independentes de um arquivo (como as planilhas de um xlsx), retornando
+     * as entidades de cada parte separadamente
+     *
+     * @param fileName: nome do arquivo, utilizado nas mensagens de erro
+     * @param parts: partes do arquivo que serão processadas
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param executor: executor onde as partes serão processadas
+     *
+     * @return Map<String, List<T>>, entidades de cada parte, indexadas pelo nome da parte na ordem das partes
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    protected <T> Map<String, List<T>> processParts(String fileName, List<? extends FilePart<LINE_TYPE>> parts, Class<T> classe, Executor executor) throws FileProcessException {
+        Map<String, List<T>> result = new LinkedHashMap<>();
+        for (FilePart<LINE_TYPE> part : parts) {
+            result.put(part.getName(), new ArrayList<>());
+        }
+        processParts(fileName, parts, classe, executor, (partName, entity) -> result.get(partName).add(entity));
+        return result;
+    }
+
+    /**
+     * Método responsável por processar as partes independentes de um arquivo (como as planilhas de um xlsx) ao mesmo
+     * tempo no executor informado. Cada parte é validada como um arquivo: possui seu próprio header, sua própria
+     * numeração de linhas e seus erros são registrados com o nome da parte. Os erros de todas as partes são lançados
+     * juntos ao final do processamento, com o tipo do primeiro erro na ordem das partes. Quando uma parte é
+     * interrompida, as demais param de ler as linhas, e a exceção só é lançada após o término de todas as partes, de
+     * modo que o consumer não é mais chamado após o retorno
+     *
+     * @param fileName: nome do arquivo, utilizado nas mensagens de erro
+     * @param parts: partes do arquivo que serão processadas
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param executor: executor onde as partes serão processadas
+     * @param consumer: função que recebe o nome da parte e cada entidade processada. É chamada pelas threads do
+     * executor, ao mesmo tempo para partes diferentes, e na ordem das linhas dentro de uma mesma parte
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    protected <T> void processParts(String fileName, List<? extends FilePart<LINE_TYPE>> parts, Class<T> classe, Executor executor,
+                                    BiConsumer<String, ? super T> consumer) throws FileProcessException {
+        FileProcessorMetaData metaData = initMetaData(fileName, classe);
+        try {
+            EntityBindingPlan plan = EntityBindingPlan.of(classe);
+            AtomicBoolean interrupted = new AtomicBoolean();
+            List<CompletableFuture<ChunkResult>> futures = new ArrayList<>();
+            for (FilePart<LINE_TYPE> part : parts) {
+                futures.add(CompletableFuture.supplyAsync(() -> processPart(metaData, part, plan, entity -> consumer.accept(part.getName(), classe.cast(entity)), interrupted),
+                    executor));
+            }
+            FileProcessException failure = null;
+            CompletionException unexpected = null;
+            for (CompletableFuture<ChunkResult> future : futures) {
+                ChunkResult part;
+                try {
+                    part = future.join();
+                } catch (CompletionException e) {
+                    unexpected = unexpected != null ? unexpected : e;
+                    continue;
+                }
+                if (part.failure != null) {
+                    failure = failure != null ? failure : part.failure;
+                } else if (!part.stopped) {
+                    try {
+                        validateLinesState(part.metaData, part.state);
+                    } catch (FileProcessException e) {
+                        failure = failure != null ? failure : e;
+                    }
+                }
+                metaData.getLogErros().merge(part.metaData.getLogErros());
+                if (metaData.getMetrics() != null) {
+                    metaData.getMetrics().merge(part.metaData.getMetrics());
+                }
+            }
+            if (unexpected != null) {
+                throw getCause(unexpected);
+            }
+            if (failure != null) {
+                throw new FileProcessException(failure.getMessage(), metaData.getLogErros(), failure.getTypeError());
+            }
+        } finally {
+            publishMetrics(metaData);
+        }
+    }
+
+    /**
+     * Função que retorna a exceção lançada por um bloco ou uma parte processada no executor, sem o CompletionException
+     * adicionado pelo CompletableFuture, de modo que o erro é o mesmo lançado pelo processamento sequencial
+     *
+     * @param e: exceção lançada pelo join do bloco ou da parte
+     *
+     * @return RuntimeException, exceção lançada pelo processamento do bloco ou da parte
+     *
+     * @throws Error, caso o processamento do bloco ou da parte tenha lançado um Error
+     */
+    private static RuntimeException getCause(CompletionException e) {
+        if (e.getCause() instanceof Error) {
+            throw (Error) e.getCause();
+        }
+        return e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+    }
+
+    /**
+     * Método responsável por selecionar as partes de um arquivo pelo nome, mantendo a ordem das partes no arquivo
+     *
+     * @param parts: partes do arquivo
+     * @param partNames: nomes das partes selecionadas, ou null para selecionar todas as partes
+     *
+     * @return List<P>, partes selecionadas
+     *
+     * @throws IllegalArgumentException, caso algum dos nomes informados não corresponda a uma parte do arquivo
+     */
+    protected static <P extends FilePart<?>> List<P> selectParts(List<P> parts, Collection<String> partNames) {
+        if (partNames == null) {
+            return parts;
+        }
+        List<P> selected = new ArrayList<>();
+        Set<String> missing = new LinkedHashSet<>(partNames);
+        for (P part : parts) {
+            if (missing.remove(part.getName())) {
+                selected.add(part);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Partes não encontradas no arquivo: " + missing);
+        }
+        return selected;
+    }
 
-    private FileProcessorMetaData metaData;
+    /**
+     * Método responsável por processar uma parte do arquivo. Cada parte possui seu próprio metaData, com a numeração
+     * das linhas iniciada no começo da parte. Os erros que interrompem o processamento são guardados no resultado, e as
+     * demais partes deixam de ler as linhas (e de chamar o consumer) assim que uma parte é interrompida
+     *
+     * @param metaData: contexto do processamento do arquivo
+     * @param part: parte do arquivo a ser processada
+     * @param plan: plano de binding da classe base
+     * @param consumer: função que recebe cada entidade da parte
+     * @param interrupted: indica, para todas as partes, que o processamento do arquivo foi interrompido
+     *
+     * @return ChunkResult, metaData, estado e o erro que interrompeu a parte, caso exista
+     */
+    private ChunkResult processPart(FileProcessorMetaData metaData, FilePart<LINE_TYPE> part, EntityBindingPlan plan, Consumer<Object> consumer,
+                                    AtomicBoolean interrupted) {
+        FileProcessorMetaData partMetaData = new FileProcessorMetaData(metaData.getFileName(), metaData.getEntityName(), part.getName(),
+            FileProcessorConstants.INITIAL_LINE, new FileProcessErrors(maxErrors, failFastErrors),
+            metaData.getMetrics() != null ? new FileProcessorMetrics(metaData.getFileName(), metaData.getEntityName()) : null);
+        ChunkResult result = new ChunkResult(partMetaData);
+        try {
+            readLines(partMetaData, part::readLines, line -> {
+                if (interrupted.get()) {
+                    throw new LinesInterruptedException(null);
+                }
+                processLine(partMetaData, line, plan, result.state, consumer);
+            });
+        } catch (LinesInterruptedException e) {
+            result.failure = e.getCause();
+            result.stopped = e.getCause() == null;
+        } catch (IOException | UncheckedIOException e) {
+            result.failure = new FileProcessException(buildMessageExceptionInvalidFile(metaData.getFileName()), partMetaData.getLogErros(), FileProcessorExceptionType.INFALID_FILE);
+        } catch (RuntimeException | Error e) {
+            interrupted.set(true);
+            throw e;
+        }
+        if (result.failure != null) {
+            interrupted.set(true);
+        }
+        return result;
+    }
 
     /**
-     * Função na qual o metaData é iniciado e onde se inicia o processamento do arquivo
+     * Método responsável por dividir o conteúdo do arquivo em blocos de linhas que podem ser processados de forma
+     * independente. Por padrão o arquivo inteiro é retornado como um único bloco, devendo as classes que suportam
+     * a divisão sobrescrever este método
      *
-     * @param file: parâmetro que contém as informações do arquivo que será processado
-     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param file: parâmetro que contém o conteúdo do arquivo
+     * @param chunkSize: tamanho aproximado, em bytes, de cada bloco
      *
-     * @return List<?>, lista do tipo da classe base, contendo os dados presentes no arquivo
+     * @return List<FileChunk>, blocos do arquivo na ordem original
+     */
+    protected List<FileChunk> getChunksFromFile(FileP file, int chunkSize) {
+        return Collections.singletonList(new FileChunk(file.getContent(), 0, file.getContent().length, 0));
+    }
+
+    /**
+     * Método responsável por ler as linhas de um conteúdo cujo charset já foi identificado a partir do arquivo inteiro,
+     * como os blocos do processamento paralelo após o primeiro, que não possuem o BOM do início do arquivo. Por padrão
+     * o charset é desconsiderado e o conteúdo é lido pelo readLinesFromStream, devendo os processadores de texto
+     * sobrescrever este método
      *
-     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @param input: stream contendo o conteúdo do arquivo
+     * @param charset: charset do conteúdo, ou null caso seja identificado pelo próprio conteúdo
+     * @param consumer: função que recebe cada linha do arquivo
+     *
+     * @throws IOException: verificação para casos de arquivos corrompidos
      */
-    public List<?> process(FileP file, Class classe) throws FileProcessException {
-        initMetaData(file, classe);
-        List<Object> result = new ArrayList<>();
-        List<LINE_TYPE> lines = getLines(file);
-        processLines(lines, classe, result);
+    protected void readLinesFromStream(InputStream input, Charset charset, Consumer<LINE_TYPE> consumer) throws IOException {
+        readLinesFromStream(input, consumer);
+    }
+
+    /**
+     * Método responsável por processar um bloco do arquivo durante o processamento paralelo. Cada bloco possui seu
+     * próprio metaData, iniciado com o número de linhas anteriores ao bloco, e contabiliza seus erros também no contador
+     * do arquivo, de modo que a interrupção por quantidade de erros considera todos os blocos. Os erros que interrompem
+     * o processamento são guardados no resultado, e os demais blocos deixam de ler as linhas assim que um bloco é
+     * interrompido.
+     *
+     * Os blocos são processados na thread atual até que o header seja encontrado, e somente então os blocos restantes
+     * são distribuídos entre as threads, já com a associação entre fields e colunas resolvida.
+     *
+     * @param metaData: contexto do processamento do arquivo
+     * @param chunk: bloco do arquivo a ser processado
+     * @param plan: plano de binding da classe base
+     * @param mapping: associação entre fields e colunas, ou null caso o header ainda não tenha sido encontrado
+     * @param fileErrors: contador dos erros do arquivo, compartilhado entre os blocos
+     * @param interrupted: indica, para todos os blocos, que o processamento do arquivo foi interrompido
+     *
+     * @return ChunkResult, entidades, erros e o erro que interrompeu o bloco, caso exista
+     */
+    private ChunkResult processChunk(FileProcessorMetaData metaData, FileChunk chunk, EntityBindingPlan plan, ColumnMapping mapping,
+                                     AtomicInteger fileErrors, AtomicBoolean interrupted) {
+        FileProcessErrors errors = new FileProcessErrors(maxErrors, failFastErrors, fileErrors);
+        FileProcessorMetaData chunkMetaData = new FileProcessorMetaData(metaData.getFileName(), metaData.getEntityName(), null,
+            FileProcessorConstants.INITIAL_LINE + chunk.getLineOffset(), errors,
+            metaData.getMetrics() != null ? new FileProcessorMetrics(metaData.getFileName(), metaData.getEntityName()) : null);
+        ChunkResult result = new ChunkResult(chunkMetaData);
+        result.state.mapping = mapping;
+        try {
+            readLines(chunkMetaData, new ByteArrayInputStream(chunk.getContent(), chunk.getOffset(), chunk.getLength()), chunk.getCharset(), line -> {
+                if (interrupted.get() || errors.isFailFastReached()) {
+                    throw new LinesInterruptedException(null);
+                }
+                processLine(chunkMetaData, line, plan, result.state, result.entities::add);
+            });
+        } catch (LinesInterruptedException e) {
+            result.failure = e.getCause();
+        } catch (IOException | UncheckedIOException e) {
+            result.failure = new FileProcessException(buildMessageExceptionInvalidFile(metaData.getFileName()), errors, FileProcessorExceptionType.INFALID_FILE);
+        }
+        if (result.failure != null) {
+            interrupted.set(true);
+        }
         return result;
     }
 
     /**
-     * Função que remove as linhas que não contém dados a serem processados, e percorre o restante
-     * realizando o processamento
+     * Método responsável por realizar as validações finais do processamento das linhas
+     *
+     * @param metaData: metaData do arquivo ou da parte do arquivo, onde são registrados os erros
+     * @param state: estado do processamento
+     *
+     * @throws FileProcessException, caso o header não tenha sido encontrado (NONSTANDARD_FILE), caso não existam linhas
+     * após o header (INCOMPLETE_FILE) ou caso alguma linha seja inválida (NONSTANDARD_FILE)
+     */
+    private void validateLinesState(FileProcessorMetaData metaData, LinesState state) throws FileProcessException {
+        if (state.mapping == null) {
+            metaData.getLogErros().addError(FileProcessError.incorrectFileFormat(metaData.getFileName(), metaData.getEntityName(), metaData.getPartName(), metaData.getLineCount()));
+            throw new FileProcessException(buildMessageExceptionNonstandardFile(metaData.getFileName()), metaData.getLogErros(), FileProcessorExceptionType.NONSTANDARD_FILE);
+        }
+        if (!state.hasRows) {
+            metaData.getLogErros().addError(FileProcessError.incorrectFileFormat(metaData.getFileName(), metaData.getEntityName(), metaData.getPartName(), metaData.getLineCount()));
+            throw new FileProcessException(buildMessageExceptionIncompleteFile(metaData.getFileName()), metaData.getLogErros(), FileProcessorExceptionType.INCOMPLETE_FILE);
+        }
+        if (!state.linesValid) {
+            throw new FileProcessException(buildMessageExceptionNonstandardFile(metaData.getFileName()), metaData.getLogErros(), FileProcessorExceptionType.NONSTANDARD_FILE);
+        }
+    }
+
+    /**
+     * Método responsável por realizar o processamento de uma única linha do arquivo. A linha é dividida em colunas
+     * através do método getColsFromLineAsList uma única vez, e as colunas são utilizadas tanto para a validação quanto
+     * para a montagem da entidade: enquanto o header não é encontrado cada linha é verificada como possível header, e
+     * após isto as linhas com número de colunas diferente do header são descartadas e as demais são transformadas em
+     * um objeto (classe base) e entregues ao consumer.
+     *
+     * @param metaData: metaData onde são registrados a linha atual e os erros
+     * @param line: linha contendo os dados que serão adicionados na entity
+     * @param plan: plano de binding da classe base
+     * @param state: estado do processamento das linhas
+     * @param consumer: função que recebe a entidade montada. No processamento colunar (state com colunas) os valores
+     * são adicionados às colunas, sem a criação da entidade, e o consumer não é utilizado
+     *
+     * É neste método onde o objeto é efetivamente formado, portando caso ocorra alguma incompatibilidade de tipo entre
+     * o arquivo e o objeto, isso desencadeará um erro. No entanto o erro não será passado a frente até que todas as
+     * linhas sejam processadas, sendo somente registrado no metaData e no state.
+     */
+    private void processLine(FileProcessorMetaData metaData, LINE_TYPE line, EntityBindingPlan plan, LinesState state, Consumer<Object> consumer) {
+        FileProcessorMetrics metrics = metaData.getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        updateLineMetaData(metaData);
+        List<COL_TYPE> columns = getColsFromLineAsList(line);
+        long tokenized = metrics != null ? System.nanoTime() : 0L;
+        if (metrics != null) {
+            metrics.addLine();
+            metrics.addTokenizeNanos(tokenized - start);
+        }
+        if (state.mapping == null) {
+            state.mapping = plan.resolveColumns(getHeaderValues(columns));
+            if (metrics != null && state.mapping == null) {
+                metrics.addSkippedLine();
+            }
+            return;
+        }
+        if (columns.size() != state.mapping.getExpectedColumns()) {
+            if (metrics != null) {
+                metrics.addSkippedLine();
+            }
+            return;
+        }
+        state.hasRows = true;
+        if (!matchesFilters(columns, state.mapping, plan)) {
+            if (metrics != null) {
+                metrics.addTokenizeNanos(System.nanoTime() - tokenized);
+                metrics.addFilteredRow();
+            }
+            return;
+        }
+        if (state.dateFormats == null) {
+            state.dateFormats = plan.newDateFormats();
+            state.dictionaries = state.columns == null ? plan.newDictionaries() : null;
+        }
+        Object entity = null;
+        boolean valid;
+        if (state.columns != null) {
+            valid = bindColumns(metaData, state.columns, columns, state.mapping, plan.getBoundFields(), state.dateFormats);
+        } else {
+            try {
+                entity = getEmptyInstanceOfEntity(metaData, plan);
+            } catch (FileProcessException e) {
+                throw new LinesInterruptedException(e);
+            }
+            valid = processColumns(metaData, entity, columns, state.mapping, plan.getBoundFields(), state.dateFormats, state.dictionaries);
+        }
+        if (!valid) {
+            state.linesValid = false;
+            if (metrics != null) {
+                metrics.addBindingNanos(System.nanoTime() - tokenized);
+                metrics.addRejectedRow(FileProcessorExceptionType.NONSTANDARD_FILE);
+            }
+            if (metaData.getLogErros().isFailFastReached()) {
+                throw new LinesInterruptedException(new FileProcessException(buildMessageExceptionNonstandardFile(metaData.getFileName()),
+                    metaData.getLogErros(), FileProcessorExceptionType.NONSTANDARD_FILE));
+            }
+            return;
+        }
+        if (state.columns != null) {
+            if (metrics != null) {
+                metrics.addBindingNanos(System.nanoTime() - tokenized);
+                metrics.addRow();
+            }
+            return;
+        }
+        if (metrics == null) {
+            consumer.accept(entity);
+            return;
+        }
+        long bound = System.nanoTime();
+        metrics.addBindingNanos(bound - tokenized);
+        consumer.accept(entity);
+        metrics.addDeliveryNanos(System.nanoTime() - bound);
+        metrics.addRow();
+    }
+
+    /**
+     * Método que verifica se as colunas de uma linha atendem às condições da consulta. As colunas que são trechos do
+     * conteúdo da linha são verificadas diretamente no conteúdo, sem a criação de strings
+     *
+     * @param columns: colunas da linha
+     * @param mapping: associação entre os fields e as colunas
+     * @param plan: plano de binding com as condições da consulta
+     *
+     * @return boolean, true caso a linha atenda a todas as condições e false caso contrário
+     */
+    private boolean matchesFilters(List<COL_TYPE> columns, ColumnMapping mapping, EntityBindingPlan plan) {
+        int[] filterFields = plan.getFilterFields();
+        if (filterFields.length == 0) {
+            return true;
+        }
+        ColumnPredicate[] filters = plan.getFilters();
+        ColumnSlices slices = columns instanceof ColumnSlices ? (ColumnSlices) columns : null;
+        for (int i = 0; i < filterFields.length; i++) {
+            int index = mapping.getColumnIndexes()[filterFields[i]];
+            boolean matches;
+            if (slices != null && slices.isSlice(index)) {
+                matches = filters[i].test(slices.getContent(), slices.getStart(index), slices.getEnd(index));
+            } else {
+                String value = getValueFromColumnAsString(columns.get(index));
+                matches = value != null ? filters[i].test(value, 0, value.length()) : filters[i].test("", 0, 0);
+            }
+            if (!matches) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Método responsável por expor as colunas de uma linha como strings, para a verificação do header. A conversão
+     * é feita somente para as colunas consultadas
+     *
+     * @param columns: colunas da linha
+     *
+     * @return List<String>, valores das colunas no formato string
+     */
+    private List<String> getHeaderValues(List<COL_TYPE> columns) {
+        return new AbstractList<String>() {
+            @Override
+            public String get(int index) {
+                return getValueFromColumnAsString(columns.get(index));
+            }
+
+            @Override
+            public int size() {
+                return columns.size();
+            }
+        };
+    }
+
+    /**
+     * Função que percorre as linhas do arquivo realizando o processamento. Cada linha é dividida em colunas uma única
+     * vez, sendo no mesmo passo identificado o header, descartadas as linhas que não possuem o número de colunas do
+     * header e montadas as entidades das demais linhas.
      *
+     * @param metaData: contexto do processamento do arquivo
      * @param lines: lista do tipo LINE_TYPE que contém todas as linhas do arquivo
-     * @param classe: classe que será tomada como base para o processamento do arquivo
-     * @param result: váriavel onde será montado o resultado do processamento, sendo retornado ao final
+     * @param plan: plano de binding da classe base, já com a consulta aplicada
+     * @param state: estado do processamento das linhas, contendo as colunas no processamento colunar
+     * @param consumer: função que recebe cada entidade montada, ou null no processamento colunar
      *
      * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo.
      * Como neste método é feito o processamento de todas as linhas, ele também é resposável por repassar o erro que ocorreu
      * durante o processamento de cada linha. Deste modo, somente ao finalizar o processamento os erro são gerados.
      *
      */
-    private void processLines(List<LINE_TYPE> lines, Class classe, List<Object> result) throws FileProcessException {
-        List<Field> fields = getValidFields(classe);
-        removeUnnecessaryLines(lines, fields);
-        removeHeader(lines);
-        boolean isLinesValids = true;
-        for(int i = 0; i < lines.size(); i++) {
-            updateLineMetaData();
-            LINE_TYPE line = lines.get(i);
-            Object entity = getEmptyInstanceOfEntity(classe);
-            try {
-                processLine(entity, line, fields);
-                result.add(entity);
-            } catch (FileProcessException e) {
-                isLinesValids = false;
+    private void processLines(FileProcessorMetaData metaData, List<LINE_TYPE> lines, EntityBindingPlan plan, LinesState state, Consumer<Object> consumer) throws FileProcessException {
+        try {
+            for (LINE_TYPE line : lines) {
+                processLine(metaData, line, plan, state, consumer);
             }
+        } catch (LinesInterruptedException e) {
+            throw e.getCause();
         }
-        if (!isLinesValids) {
-            throw new FileProcessException(buildMessageExceptionNonstandardFile(metaData.getFileName()), metaData.getLogErros(), FileProcessorExceptionType.NONSTANDARD_FILE);
-        }
+        validateLinesState(metaData, state);
     }
 
     /**
-     * Método responsável por realizar o processamento de uma única linha do arquivo. Neste método os dados presentes
-     * nesta linha serão transformados em um objeto (classe base). Para isso inicialmente é recuperada todas as colunas
-     * da linha através do método getColsFromLineAsList implementado pela classe externa. Após isto cada coluna é setada
-     * em seu respectivo campo no objeto processado.
+     * Método responsável por setar na entity as colunas de uma linha já dividida. Os erros de cada coluna são adicionados
+     * ao metaData, e todas as colunas são processadas mesmo que alguma delas seja inválida.
      *
+     * @param metaData: metaData onde os erros são registrados. Recebido por parâmetro para que blocos processados em
+     * paralelo registrem seus erros separadamente
      * @param entity: objeto instanciado do tipo da classe base
-     * @param line: linha contendo os dados que serão adicionados na entity
-     * @param fields: fields válido da classe base
+     * @param columns: colunas da linha que serão adicionadas na entity
+     * @param mapping: associação entre os fields e as colunas. Colunas não associadas a nenhum field não são lidas. Caso
+     * a lista de colunas implemente ColumnSlices, as colunas são lidas diretamente do conteúdo da linha
+     * @param fields: fields válido da classe base que serão preenchidos
+     * @param dateFormats: formatos travados pelas colunas de data do arquivo
+     * @param dictionaries: dicionários dos fields String do arquivo, utilizados para reaproveitar as strings repetidas
      *
-     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
-     * É neste método onde o objeto é efetivamente formado, portando caso ocorra alguma incompatibilidade de tipo entre
-     * o arquivo e o objeto, isso desencadeará um erro. No entanto o erro não será passado a frente até que toda a linha
-     * seja processada.
+     * @return boolean, true caso todas as colunas sejam compatíveis com o tipo do seu field e false caso contrário
      */
-    private void processLine(Object entity, LINE_TYPE line, List<Field> fields) throws FileProcessException {
-        List<COL_TYPE> columns = getColsFromLineAsList(line);
+    private boolean processColumns(FileProcessorMetaData metaData, Object entity, List<COL_TYPE> columns, ColumnMapping mapping, List<FieldBinding> fields, int[] dateFormats,
+                                   StringDictionary[] dictionaries) {
         boolean isEntityValid = true;
-        for(int i = 0; i < columns.size(); i++) {
-            COL_TYPE column = columns.get(i);
-            Field field = fields.get(i);
+        int[] columnIndexes = mapping.getColumnIndexes();
+        ColumnSlices slices = columns instanceof ColumnSlices ? (ColumnSlices) columns : null;
+        for(int i = 0; i < fields.size(); i++) {
+            FieldBinding field = fields.get(i);
+            int index = columnIndexes[field.getPosition()];
+            StringDictionary dictionary = dictionaries[field.getPosition()];
             try {
-                processField(field, column, entity);
-            } catch (InvocationTargetException | IllegalAccessException | NumberFormatException e) {
+                if (slices != null && slices.isSlice(index)) {
+                    if (dictionary != null) {
+                        String value = dictionary.intern(slices.getContent(), slices.getStart(index), slices.getEnd(index));
+                        field.bind(entity, value, 0, value.length(), dateFormats);
+                    } else {
+                        field.bind(entity, slices.getContent(), slices.getStart(index), slices.getEnd(index), dateFormats);
+                    }
+                } else {
+                    processField(field, columns.get(index), entity, dateFormats, dictionary);
+                }
+            } catch (InvocationTargetException | IllegalAccessException | IllegalArgumentException | DateTimeException e) {
                 isEntityValid = false;
-                metaData.getLogErros().add(buildMessageErrorIncompatibleTypes(metaData, getValueFromColumnAsString(column), field.getType().getName()));
+                addIncompatibleTypeError(metaData, columns, slices, index, field);
             }
         }
-        if (!isEntityValid) {
-            throw new FileProcessException(buildMessageExceptionNonstandardFile(metaData.getFileName()), metaData.getLogErros(), FileProcessorExceptionType.NONSTANDARD_FILE);
+        return isEntityValid;
+    }
+
+    /**
+     * Método responsável por adicionar as colunas de uma linha já dividida às colunas do processamento colunar. Assim
+     * como no processColumns, os erros de cada coluna são adicionados ao metaData e todas as colunas são processadas.
+     * A linha é confirmada somente quando todos os valores são compatíveis, sendo descartada caso contrário
+     *
+     * @param metaData: metaData onde os erros são registrados
+     * @param target: colunas do resultado do processamento
+     * @param columns: colunas da linha
+     * @param mapping: associação entre os fields e as colunas
+     * @param fields: fields válido da classe base que serão preenchidos, na ordem das colunas do resultado
+     * @param dateFormats: formatos travados pelas colunas de data do arquivo
+     *
+     * @return boolean, true caso todas as colunas sejam compatíveis com o tipo do seu field e false caso contrário
+     */
+    private boolean bindColumns(FileProcessorMetaData metaData, FileColumns target, List<COL_TYPE> columns, ColumnMapping mapping, List<FieldBinding> fields, int[] dateFormats) {
+        boolean isRowValid = true;
+        int[] columnIndexes = mapping.getColumnIndexes();
+        ColumnSlices slices = columns instanceof ColumnSlices ? (ColumnSlices) columns : null;
+        for (int i = 0; i < fields.size(); i++) {
+            FieldBinding field = fields.get(i);
+            int index = columnIndexes[field.getPosition()];
+            try {
+                if (slices != null && slices.isSlice(index)) {
+                    target.append(i, slices.getContent(), slices.getStart(index), slices.getEnd(index), dateFormats);
+                } else {
+                    String value = getValueFromColumnAsString(columns.get(index));
+                    target.append(i, value, 0, value != null ? value.length() : 0, dateFormats);
+                }
+            } catch (InvocationTargetException | IllegalArgumentException | DateTimeException e) {
+                isRowValid = false;
+                addIncompatibleTypeError(metaData, columns, slices, index, field);
+            }
+        }
+        if (isRowValid) {
+            target.commitRow();
+        } else {
+            target.rollbackRow();
+        }
+        return isRowValid;
+    }
+
+    /**
+     * Método responsável por registrar no logErros um valor incompatível com o tipo do field. Para colunas que são
+     * trechos do conteúdo da linha é guardado somente o trecho, sem a criação de uma string
+     *
+     * @param metaData: metaData onde é registrado o erro
+     * @param columns: colunas da linha
+     * @param slices: colunas da linha como trechos do conteúdo, ou null caso não sejam suportadas
+     * @param index: índice da coluna com o valor incompatível
+     * @param field: binding do field que recebeu o valor
+     */
+    private void addIncompatibleTypeError(FileProcessorMetaData metaData, List<COL_TYPE> columns, ColumnSlices slices, int index, FieldBinding field) {
+        FileProcessErrors errors = metaData.getLogErros();
+        if (errors.isFull()) {
+            errors.countError();
+            return;
+        }
+        CharSequence content;
+        int start;
+        int end;
+        if (slices != null && slices.isSlice(index)) {
+            content = slices.getContent();
+            start = slices.getStart(index);
+            end = slices.getEnd(index);
+        } else {
+            content = getValueFromColumnAsString(columns.get(index));
+            start = 0;
+            end = content != null ? content.length() : 0;
         }
+        errors.addError(FileProcessError.incompatibleTypes(metaData.getFileName(), metaData.getEntityName(), metaData.getPartName(), metaData.getLineCount(),
+            index, field.getTypeName(), content, start, end));
     }
 
     /**
      * Método responsável por realizar o processamento de uma coluna. Inicialmente é recuperado o dado da coluna através
      * da função getValueFromColumnAsString, que deverá ser implementada pela classe externa. Em seguida o valor recuperado da
-     * coluna é trasformado de acordo com o tipo do field. Por fim a entity é setada com o valor transformado.
+     * coluna é trasformado e setado na entity pelo binding do field, que já possui o parser e o setter resolvidos.
      *
-     * @param field: field da classe base que será setato
+     * @param field: binding do field da classe base que será setato
      * @param column: coluna do arquivo contendo a informação utilizada para preencher a entity
      * @param entity: instancia da classe base onde será setado o dado presente na coluna
+     * @param dateFormats: formatos travados pelas colunas de data do arquivo
+     * @param dictionary: dicionário do field no arquivo, ou null caso o field não possua dicionário
      *
      * @throws InvocationTargetException, verifica se o tipo field existe no map utilizado para fazer o parser. Caso este erro
      * apareça, basta implementar no parser o tipo que ele tentou processar e que não existe la
      * @throws IllegalAccessException, verificação requisitada pelo método set do field (field.set)
-     * @throws NumberFormatException, verificação para o caso de se tentar transformar uma string em números e a string não possuir
-     * o formato correto
+     * @throws IllegalArgumentException, verificação para o caso de se tentar transformar uma string em números (ou em
+     * enum, UUID, ...) e a string não possuir o formato correto
      */
-    private void processField(Field field, COL_TYPE column, Object entity) throws InvocationTargetException, IllegalAccessException, NumberFormatException {
-        String strValue = getValueFromColumnAsString(column);
-        Object value = new TypeParser().parse(field.getType(), strValue);
-        field.setAccessible(Boolean.TRUE);
-        field.set(entity, field.getType().cast(value));
+    private void processField(FieldBinding field, COL_TYPE column, Object entity, int[] dateFormats, StringDictionary dictionary)
+        throws InvocationTargetException, IllegalAccessException, IllegalArgumentException {
+        String value = getValueFromColumnAsString(column);
+        if (dictionary != null && value != null) {
+            value = dictionary.intern(value, 0, value.length());
+        }
+        field.bind(entity, value, dateFormats);
     }
 
     /**
      * Método responsável por iniciar as informações de metaData. As metadas são as informações que serão usadas
-     * para auxiliar no processamento do arquivo. O atributo foi criado visando evitar passar muitos parâmetro pelas
-     * funções.
+     * para auxiliar no processamento do arquivo, funcionando como o contexto de uma chamada: são criadas a cada
+     * processamento e repassadas pelas funções, nunca guardadas no processador, para que uma mesma instância possa
+     * processar vários arquivos ao mesmo tempo.
      *
      * @param file: arquivo a ser processado. De onde será recuperado o nome do arquivo
      * @param classe: classe base. De onde será recuperado o nome da classe
+     *
+     * @return FileProcessorMetaData, contexto do processamento do arquivo
+     */
+    private FileProcessorMetaData initMetaData(FileP file, Class classe) {
+        return initMetaData(file.getName(), classe);
+    }
+
+    /**
+     * Método responsável por iniciar as informações de metaData a partir do nome do arquivo
+     *
+     * @param fileName: nome do arquivo a ser processado
+     * @param classe: classe base. De onde será recuperado o nome da classe
+     *
+     * @return FileProcessorMetaData, contexto do processamento do arquivo
      */
-    private void initMetaData(FileP file, Class classe) {
-        this.metaData = new FileProcessorMetaData(file.getName(), classe.getSimpleName(), FileProcessorConstants.INITIAL_LINE, new ArrayList<>());
+    private FileProcessorMetaData initMetaData(String fileName, Class classe) {
+        FileProcessorMetrics metrics = getMetricsListener() != FileProcessorMetricsListener.NOOP ? new FileProcessorMetrics(fileName, classe.getSimpleName()) : null;
+        return new FileProcessorMetaData(fileName, classe.getSimpleName(), null, FileProcessorConstants.INITIAL_LINE,
+            new FileProcessErrors(maxErrors, failFastErrors), metrics);
     }
 
     /**
-     * Método responsável por encapsular o método getLinesFromFileAsList implementado pela classe que extender desta.
-     * Como durante a execução dele pode ser que ocorra uma exceção pelo arquivo estar corrompido. é feito aqui o tratamento
-     * desta exceção.
+     * Método responsável por recuperar o listener de métricas do processador, ou o listener padrão caso nenhum tenha
+     * sido definido
      *
-     * @param file: parâmetro que contém as informações do arquivo que será processado
+     * @return FileProcessorMetricsListener, listener que receberá as métricas
+     */
+    private FileProcessorMetricsListener getMetricsListener() {
+        return metricsListener != null ? metricsListener : defaultMetricsListener;
+    }
+
+    /**
+     * Método responsável por finalizar as métricas do arquivo e entregá-las ao listener. Exceções do listener são
+     * ignoradas, para que a coleta de métricas nunca altere o resultado do processamento
      *
-     * @return List<LINE_TYPE>, contendo as informações de todas as linhas do arquivo a ser oricessadi
+     * @param metaData: contexto do processamento do arquivo
+     */
+    private void publishMetrics(FileProcessorMetaData metaData) {
+        FileProcessorMetrics metrics = metaData.getMetrics();
+        if (metrics == null) {
+            return;
+        }
+        metrics.finish();
+        try {
+            getMetricsListener().onFileProcessed(metrics);
+        } catch (RuntimeException e) {
+            // falhas do listener não devem interromper o processamento do arquivo
+        }
+    }
+
+    /**
+     * Método responsável por executar a leitura das linhas, registrando nas métricas o tempo de leitura, que
+     * corresponde ao tempo total da leitura menos o tempo gasto com as linhas
      *
-     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @param metaData: metaData do arquivo, do bloco ou da parte sendo processada
+     * @param reader: leitura das linhas
+     * @param consumer: função que recebe cada linha do arquivo
+     *
+     * @throws IOException: verificação para casos de arquivos corrompidos
      */
-    private List<LINE_TYPE> getLines(FileP file) throws FileProcessException {
+    private void readLines(FileProcessorMetaData metaData, LinesReader<LINE_TYPE> reader, Consumer<LINE_TYPE> consumer) throws IOException {
+        FileProcessorMetrics metrics = metaData.getMetrics();
+        if (metrics == null) {
+            reader.read(consumer);
+            return;
+        }
+        long linesNanos = metrics.getLinesNanos();
+        long start = System.nanoTime();
         try {
-            return getLinesFromFileAsList(file);
-        } catch (IOException e) {
-            throw new FileProcessException(buildMessageExceptionInvalidFile(metaData.getFileName()), metaData.getLogErros(), FileProcessorExceptionType.INFALID_FILE);
+            reader.read(consumer);
+        } finally {
+            metrics.addReadNanos(System.nanoTime() - start - (metrics.getLinesNanos() - linesNanos));
         }
     }
 
     /**
-     * Método resposável por retornar os fields válidos da classe base. Para isto foram considerados
-     * fields válidos, todos aqueles que não forem estáticos e que não estiverem anotados com a
-     * annotation @FileProcessorIgnore
+     * Método responsável por encapsular o método readLinesFromStream, registrando nas métricas a quantidade de bytes
+     * lidos (compactados, no caso de arquivos compactados) e o tempo de leitura
      *
-     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param metaData: metaData do arquivo ou do bloco sendo processado
+     * @param input: stream contendo o conteúdo do arquivo
+     * @param consumer: função que recebe cada linha do arquivo
      *
-     * @return List<Field>, contendo todos os fields válidos encontrados na classe
+     * @throws IOException: verificação para casos de arquivos corrompidos
      */
-    private List<Field> getValidFields(Class classe) {
-        return Arrays.stream(classe.getDeclaredFields()).filter(field -> !isStaticField(field) && !isToIgnoreField(field)).collect(Collectors.toList());
+    private void readLines(FileProcessorMetaData metaData, InputStream input, Consumer<LINE_TYPE> consumer) throws IOException {
+        readLines(metaData, input, null, consumer);
     }
 
     /**
-     * Método que verifica se o field informado é um field estático
+     * Método responsável por encapsular o método readLinesFromStream de um conteúdo cujo charset já foi identificado,
+     * registrando nas métricas a quantidade de bytes lidos e o tempo de leitura
      *
-     * @param field: field a ser verificado
+     * @param metaData: metaData do arquivo ou do bloco sendo processado
+     * @param input: stream contendo o conteúdo do arquivo
+     * @param charset: charset do conteúdo, ou null caso seja identificado pelo próprio conteúdo
+     * @param consumer: função que recebe cada linha do arquivo
      *
-     * @return boolean, de modo que é retornado true no caso do field ser do tipo estático
-     * e false caso contrário
+     * @throws IOException: verificação para casos de arquivos corrompidos
      */
-    private boolean isStaticField(Field field) {
-        return Modifier.isStatic(field.getModifiers());
+    private void readLines(FileProcessorMetaData metaData, InputStream input, Charset charset, Consumer<LINE_TYPE> consumer) throws IOException {
+        FileProcessorMetrics metrics = metaData.getMetrics();
+        if (metrics == null) {
+            readDecompressedLines(metaData, input, charset, consumer);
+            return;
+        }
+        CountingInputStream countingInput = new CountingInputStream(input);
+        try {
+            readLines(metaData, lines -> readDecompressedLines(metaData, countingInput, charset, lines), consumer);
+        } finally {
+            metrics.addBytes(countingInput.count);
+        }
     }
 
     /**
-     * Método que verifica se o field foi anotado com a annotation @FileProcessorIgnore
+     * Método responsável por ler as linhas do stream, descompactando o conteúdo quando o nome do arquivo possui a
+     * extensão de uma compressão (FileCompression). A descompactação é feita em uma thread separada, ao mesmo tempo que
+     * o processamento das linhas
      *
-     * @param field: field a ser verificado
+     * @param metaData: metaData do arquivo ou do bloco sendo processado
+     * @param input: stream contendo o conteúdo do arquivo, compactado ou não
+     * @param charset: charset do conteúdo, ou null caso seja identificado pelo próprio conteúdo
+     * @param consumer: função que recebe cada linha do arquivo
      *
-     * @return boolean, de modo que é retornado true no caso do field ter sido anotado com
-     * a annotation e false caso contrário
+     * @throws IOException: verificação para casos de arquivos corrompidos
      */
-    private boolean isToIgnoreField(Field field) {
-        return (field.getAnnotationsByType(FileProcessorIgnore.class).length > 0);
+    private void readDecompressedLines(FileProcessorMetaData metaData, InputStream input, Charset charset, Consumer<LINE_TYPE> consumer) throws IOException {
+        FileCompression compression = FileCompression.fromFileName(metaData.getFileName());
+        if (compression == FileCompression.NONE) {
+            readLinesFromStream(input, charset, consumer);
+            return;
+        }
+        try (InputStream content = compression.decompress(input)) {
+            readLinesFromStream(content, charset, consumer);
+        }
     }
 
     /**
-     * Método responsável por remover as linhas desnecessárias para o processamento do arquivo. Para isto
-     * foram consideradas linhas desnecessárias, todas aquelas que não possuem o numéro de colunas iguais
-     * ao número de fields válidos da classe base informada
+     * Método responsável por encapsular o método readLinesFromSource, registrando nas métricas o tamanho da origem e o
+     * tempo de leitura. Origens compactadas são lidas como stream, sendo descompactadas durante a leitura
      *
-     * @param lines: linhas recuperadas do arquivo
-     * @param fields: fields válidos da classe base
+     * @param metaData: metaData do arquivo
+     * @param source: origem do conteúdo do arquivo
+     * @param consumer: função que recebe cada linha do arquivo
      *
-     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo.
-     * Neste método é feito a validação do formato do arquivo, pois caso ao remover todas as linhas desnecessárias não
-     * restarem linhas para serem processadas, isso quer dizer que o arquivo não está no formato correto para o processamento
-     * da classe informada.
-     * Sendo assim, duas coisas podem estar acontencendo, ou o arquivo realmente está errado, ou a classe informada possui mais
-     * campos do que o arquivo está preenchendo, ou seja, deve-se anotar os campos que o arquivo não irá fornecer com @FileProcessorIgnore
+     * @throws IOException: verificação para casos de arquivos corrompidos ou que não podem ser acessados
      */
-    private void removeUnnecessaryLines(List<LINE_TYPE> lines, List<Field> fields) throws FileProcessException {
-        int index = 0;
-        while (index < lines.size()) {
-            updateLineMetaData();
-            LINE_TYPE line = lines.get(index);
-            List<COL_TYPE> columns = getColsFromLineAsList(line);
-            if (columns.size() != fields.size()) {
-                lines.remove(index);
-            } else {
-                index += 1;
+    private void readLines(FileProcessorMetaData metaData, FileSource source, Consumer<LINE_TYPE> consumer) throws IOException {
+        if (FileCompression.fromFileName(metaData.getFileName()) != FileCompression.NONE) {
+            try (InputStream input = source.openStream()) {
+                readLines(metaData, input, consumer);
             }
+            return;
         }
-        if (lines.isEmpty()) {
-            metaData.getLogErros().add(buildMessageErrorIncorrectFileFormat(metaData));
-            throw new FileProcessException(buildMessageExceptionNonstandardFile(metaData.getFileName()), metaData.getLogErros(), FileProcessorExceptionType.NONSTANDARD_FILE);
+        FileProcessorMetrics metrics = metaData.getMetrics();
+        if (metrics == null) {
+            readLinesFromSource(source, consumer);
+            return;
         }
+        readLines(metaData, lines -> readLinesFromSource(source, lines), consumer);
+        metrics.addBytes(source.getSize());
     }
 
     /**
-     * Método responsável por remover o header das. Assume-se que todos os arquivos possuem um header para identificar cada
-     * coluna, e como o header não possui informações relevantes para o processamento ele deve ser removido
+     * Método responsável por encapsular o método getLinesFromFileAsList implementado pela classe que extender desta.
+     * Como durante a execução dele pode ser que ocorra uma exceção pelo arquivo estar corrompido. é feito aqui o tratamento
+     * desta exceção. Arquivos compactados são descompactados durante a leitura das linhas.
+     *
+     * @param metaData: contexto do processamento do arquivo
+     * @param file: parâmetro que contém as informações do arquivo que será processado
      *
-     * @param lines: linhas recuperadas do arquivo
+     * @return List<LINE_TYPE>, contendo as informações de todas as linhas do arquivo a ser oricessadi
      *
-     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo.
-     * Neste método é feita a validação da completude do arquivo, pois caso após a remoção do header não sobrarem linhas
-     * para serem processadas, significa que o arquivo está no formato certo, no entanto as linhas estão com informações
-     * incompletas.
-     */
-    private void removeHeader(List<LINE_TYPE> lines) throws FileProcessException {
-        updateLineMetaData();
-        lines.remove(FileProcessorConstants.HEADER_INDEX);
-        if (lines.isEmpty()) {
-            metaData.getLogErros().add(buildMessageErrorIncorrectFileFormat(metaData));
-            throw new FileProcessException(buildMessageExceptionIncompleteFile(metaData.getFileName()), metaData.getLogErros(), FileProcessorExceptionType.INCOMPLETE_FILE);
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    private List<LINE_TYPE> getLines(FileProcessorMetaData metaData, FileP file) throws FileProcessException {
+        FileProcessorMetrics metrics = metaData.getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0L;
+        try {
+            List<LINE_TYPE> lines;
+            if (FileCompression.fromFileName(file.getName()) != FileCompression.NONE) {
+                lines = new ArrayList<>();
+                readDecompressedLines(metaData, new ByteArrayInputStream(file.getContent()), null, lines::add);
+            } else {
+                lines = getLinesFromFileAsList(file);
+            }
+            if (metrics != null) {
+                metrics.addReadNanos(System.nanoTime() - start);
+                metrics.addBytes(file.getContent().length);
+            }
+            return lines;
+        } catch (IOException e) {
+            throw new FileProcessException(buildMessageExceptionInvalidFile(metaData.getFileName()), metaData.getLogErros(), FileProcessorExceptionType.INFALID_FILE);
         }
     }
 
@@ -263,26 +1548,277 @@ public abstract class FileProcessor<LINE_TYPE, COL_TYPE> implements FileProcesso
      * Método responsável por atualizar o contador de linha presente no metaData. Visando a melhor forma de identificar onde está o erro
      * no arquivo, foi colocado um contator de linha dentro do metaData, para quando ocorrer um Exception, ser printado no log onde o
      * erro foi encontrado de forma mais exata.
+     *
+     * @param metaData: metaData do arquivo ou do bloco sendo processado
      */
-    private void updateLineMetaData() {
-        this.metaData.setLineCount(this.metaData.getLineCount()+1);
+    private void updateLineMetaData(FileProcessorMetaData metaData) {
+        metaData.setLineCount(metaData.getLineCount()+1);
     }
 
     /**
      * Método responsável por criar uma instancia vazia da classe base do processamento
      *
-     * @param classe: classe base do processamento
+     * @param metaData: metaData do arquivo, do bloco ou da parte sendo processada
+     * @param plan: plano de binding da classe base do processamento
      *
      * @return Object, contendo uma instancia vazia da classe a ser processada
      *
      * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo.
      * Neste caso, é verificado se a classe base é possível de ser instanciada, caso não seja é iniciada uma Exception
      */
-    private Object getEmptyInstanceOfEntity(Class classe) throws FileProcessException {
+    private Object getEmptyInstanceOfEntity(FileProcessorMetaData metaData, EntityBindingPlan plan) throws FileProcessException {
         try {
-            return classe.newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
+            return plan.newInstance();
+        } catch (InstantiationException | InvocationTargetException e) {
             throw new FileProcessException(buildMessageExceptionInvalidEntityClass(metaData.getEntityName()), metaData.getLogErros(), FileProcessorExceptionType.INVALID_ENTITY_CLASS);
         }
     }
+
+    /**
+     * Estado do processamento das linhas, onde é registrada a associação entre fields e colunas resolvida a partir
+     * do header (null enquanto o header não é encontrado), se alguma linha de dados foi lida, se todas as linhas
+     * eram válidas, o formato travado por cada coluna de data, os dicionários dos fields String e, no processamento
+     * colunar, as colunas do resultado
+     */
+    private static class LinesState {
+        private ColumnMapping mapping;
+        private FileColumns columns;
+        private boolean hasRows;
+        private boolean linesValid = true;
+        private int[] dateFormats;
+        private StringDictionary[] dictionaries;
+    }
+
+    /**
+     * Agrupa as entidades em lotes, entregando cada lote ao BatchConsumer assim que ele atinge o tamanho definido
+     */
+    private static class BatchBuffer<T> implements Consumer<T> {
+        private final BatchConsumer<T> consumer;
+        private final int batchSize;
+        private final FileProcessorMetrics metrics;
+        private List<T> batch;
+
+        private BatchBuffer(BatchConsumer<T> consumer, int batchSize, FileProcessorMetrics metrics) {
+            this.consumer = consumer;
+            this.batchSize = batchSize;
+            this.metrics = metrics;
+            this.batch = new ArrayList<>(batchSize);
+        }
+
+        @Override
+        public void accept(T entity) {
+            batch.add(entity);
+            if (batch.size() == batchSize) {
+                flush();
+            }
+        }
+
+        /**
+         * Método responsável por entregar o lote atual ao consumer, caso ele possua alguma entidade
+         */
+        private void flush() {
+            if (!batch.isEmpty()) {
+                List<T> completed = batch;
+                batch = new ArrayList<>(batchSize);
+                if (metrics != null) {
+                    metrics.updatePeakBatchSize(completed.size());
+                }
+                consumer.accept(completed);
+            }
+        }
+    }
+
+    /**
+     * Localização do fim de cada linha completa de um trecho do arquivo, utilizada pelo processamento incremental. Recebe
+     * o conteúdo, o início do trecho, que é sempre o início de uma linha, e o tamanho do trecho, e retorna a posição
+     * seguinte ao final de cada linha completa, na ordem das linhas
+     */
+    @FunctionalInterface
+    protected interface RecordEndsLocator {
+        int[] find(byte[] content, int offset, int length);
+    }
+
+    /**
+     * Stream das linhas completas de um trecho do arquivo, utilizado pelo processamento incremental. O trecho é lido do
+     * canal em janelas de tamanho fixo (INCREMENTAL_WINDOW_SIZE), e somente os bytes até o fim da última linha completa
+     * da janela são entregues, sendo a linha incompleta levada para a próxima janela. Ao final do trecho, a linha
+     * incompleta é descartada. A posição do fim de cada linha entregue é guardada até ser consumida pelo nextRecordEnd
+     */
+    private static class RecordsInputStream extends InputStream {
+        private final FileChannel channel;
+        private final long size;
+        private final RecordEndsLocator locator;
+        private long position;
+        private long bufferStart;
+        private byte[] buffer = new byte[FileProcessorConstants.INCREMENTAL_WINDOW_SIZE];
+        private int limit;
+        private int available;
+        private int next;
+        private long[] ends = new long[16];
+        private int endsHead;
+        private int endsSize;
+
+        private RecordsInputStream(FileChannel channel, long start, long size, RecordEndsLocator locator) {
+            this.channel = channel;
+            this.size = size;
+            this.locator = locator;
+            this.position = start;
+            this.bufferStart = start;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (next == available) {
+                if (!fill()) {
+                    return -1;
+                }
+            }
+            int count = Math.min(len, available - next);
+            System.arraycopy(buffer, next, b, off, count);
+            next += count;
+            return count;
+        }
+
+        /**
+         * Método responsável por recuperar a posição, no arquivo, do fim da próxima linha entregue
+         *
+         * @return long, posição seguinte ao final de linha
+         */
+        private long nextRecordEnd() {
+            if (endsSize == 0) {
+                return bufferStart + available;
+            }
+            endsSize--;
+            return ends[endsHead++];
+        }
+
+        /**
+         * Método responsável por ler a próxima janela do trecho, mantendo no início do buffer a linha incompleta da
+         * janela anterior. O buffer cresce somente quando uma única linha é maior que ele
+         *
+         * @return boolean, true caso a janela tenha sido lida e false ao final do trecho
+         *
+         * @throws IOException: verificação para casos de arquivos que não podem ser lidos
+         */
+        private boolean fill() throws IOException {
+            if (position == size) {
+                return false;
+            }
+            int carry = limit - available;
+            System.arraycopy(buffer, available, buffer, 0, carry);
+            bufferStart += available;
+            limit = carry;
+            available = 0;
+            next = 0;
+            if (limit == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            ByteBuffer window = ByteBuffer.wrap(buffer, limit, (int) Math.min(buffer.length - limit, size - position));
+            while (window.hasRemaining()) {
+                int read = channel.read(window, position);
+                if (read < 0) {
+                    throw new EOFException();
+                }
+                position += read;
+            }
+            limit = window.position();
+            int[] found = locator.find(buffer, 0, limit);
+            if (endsHead > 0) {
+                System.arraycopy(ends, endsHead, ends, 0, endsSize);
+                endsHead = 0;
+            }
+            if (endsSize + found.length > ends.length) {
+                ends = Arrays.copyOf(ends, Math.max(ends.length * 2, endsSize + found.length));
+            }
+            for (int end : found) {
+                ends[endsSize++] = bufferStart + end;
+            }
+            available = found.length > 0 ? found[found.length - 1] : 0;
+            return true;
+        }
+    }
+
+    /**
+     * Leitura das linhas de um arquivo, que entrega cada linha ao consumer informado
+     */
+    @FunctionalInterface
+    private interface LinesReader<LINE_TYPE> {
+        void read(Consumer<LINE_TYPE> consumer) throws IOException;
+    }
+
+    /**
+     * Stream que contabiliza a quantidade de bytes lidos, utilizado somente quando as métricas estão ativas
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream input) {
+            super(input);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long length) throws IOException {
+            long skipped = super.skip(length);
+            count += skipped;
+            return skipped;
+        }
+    }
+
+    /**
+     * Resultado do processamento de um bloco no processamento paralelo, ou de uma parte do arquivo
+     */
+    private static class ChunkResult {
+        private final List<Object> entities = new ArrayList<>();
+        private final LinesState state = new LinesState();
+        private final FileProcessorMetaData metaData;
+        private FileProcessException failure;
+        private boolean stopped;
+
+        private ChunkResult(FileProcessorMetaData metaData) {
+            this.metaData = metaData;
+        }
+    }
+
+    /**
+     * Exceção utilizada para interromper a leitura das linhas quando ocorre um erro que impede a continuação do
+     * processamento, como uma classe base que não pode ser instanciada. A FileProcessException original é relançada
+     * ao final do processamento.
+     */
+    private static class LinesInterruptedException extends RuntimeException {
+        private LinesInterruptedException(FileProcessException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized FileProcessException getCause() {
+            return (FileProcessException) super.getCause();
+        }
+    }
 }
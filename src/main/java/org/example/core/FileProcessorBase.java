@@ -1,5 +1,6 @@
 package org.example.core;
 
+import org.example.exception.FileProcessError;
 import org.example.exception.FileProcessExceptionMessages;
 import org.example.util.FileProcessorConstants;
 
@@ -38,19 +39,12 @@ public interface FileProcessorBase {
     }
 
     default String buildMessageErrorIncompatibleTypes(FileProcessorMetaData metaData, String columnValue, String fieldType) {
-        return FileProcessExceptionMessages.BASE_MESSAGE_ERROR_INCOMPATIBLE_TYPES
-            .replace("#F", metaData.getFileName())
-            .replace("#L", metaData.getLineCount().toString())
-            .replace("#E", metaData.getEntityName())
-            .replace("#T", fieldType)
-            .replace("#V", columnValue);
+        return FileProcessError.incompatibleTypes(metaData.getFileName(), metaData.getEntityName(), metaData.getPartName(), metaData.getLineCount(),
+            FileProcessError.NO_COLUMN, fieldType, columnValue, 0, columnValue.length()).getMessage();
     }
 
     default String buildMessageErrorIncorrectFileFormat(FileProcessorMetaData metaData) {
-        return FileProcessExceptionMessages.BASE_MESSAGE_ERROR_INCORRECT_FILE_FORMAT
-            .replace("#F", metaData.getFileName())
-            .replace("#L", metaData.getLineCount().toString())
-            .replace("#E", metaData.getEntityName());
+        return FileProcessError.incorrectFileFormat(metaData.getFileName(), metaData.getEntityName(), metaData.getPartName(), metaData.getLineCount()).getMessage();
     }
 
     default String buildMessageErrorConstraintViolation(ConstraintViolation<Object> constraint) {
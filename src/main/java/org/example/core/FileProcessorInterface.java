@@ -1,9 +1,12 @@
 package org.example.core;
 
 import org.example.util.FileP;
+import org.example.util.FileSource;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
 interface FileProcessorInterface<LINE_TYPE, COL_TYPE> {
     /**
@@ -17,6 +20,33 @@ interface FileProcessorInterface<LINE_TYPE, COL_TYPE> {
      */
     List<LINE_TYPE> getLinesFromFileAsList(FileP file) throws IOException;
 
+    /**
+     * Método responsável por percorrer o conteúdo de um stream entregando as linhas, uma de cada vez, ao consumer
+     * informado. Diferente do getLinesFromFileAsList, as linhas não devem ser acumuladas em memória
+     *
+     * @param input: stream contendo o conteúdo do arquivo. O stream não deve ser fechado por este método
+     * @param consumer: função que recebe cada linha do arquivo, na ordem em que aparecem
+     *
+     * @throws IOException: verificação para casos de arquivos corrompidos
+     */
+    void readLinesFromStream(InputStream input, Consumer<LINE_TYPE> consumer) throws IOException;
+
+    /**
+     * Método responsável por percorrer o conteúdo de uma origem entregando as linhas, uma de cada vez, ao consumer
+     * informado. Por padrão a origem é aberta como stream e lida pelo readLinesFromStream, podendo os processadores
+     * de texto utilizar o FileSource.openReader para decodificar o conteúdo diretamente da origem
+     *
+     * @param source: origem do conteúdo do arquivo
+     * @param consumer: função que recebe cada linha do arquivo, na ordem em que aparecem
+     *
+     * @throws IOException: verificação para casos de arquivos corrompidos ou que não podem ser acessados
+     */
+    default void readLinesFromSource(FileSource source, Consumer<LINE_TYPE> consumer) throws IOException {
+        try (InputStream input = source.openStream()) {
+            readLinesFromStream(input, consumer);
+        }
+    }
+
     /**
      * Método responsável por trasformar uma linha em uma lista de colunas do tipo COL_TYPE
      *
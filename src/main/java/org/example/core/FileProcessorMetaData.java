@@ -3,8 +3,7 @@ package org.example.core;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
-
-import java.util.List;
+import org.example.exception.FileProcessErrors;
 
 @Getter
 @Setter
@@ -12,6 +11,8 @@ import java.util.List;
 class FileProcessorMetaData {
     private String fileName;
     private String entityName;
+    private String partName;
     private Integer lineCount;
-    private List<String> logErros;
+    private FileProcessErrors logErros;
+    private FileProcessorMetrics metrics;
 }
@@ -0,0 +1,169 @@
+package org.example.core;
+
+import lombok.Getter;
+import org.example.exception.FileProcessorExceptionType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Métricas do processamento de um arquivo. Os tempos são medidos em nanossegundos e separados por etapa:
+ *
+ * readNanos: leitura e decodificação do arquivo em linhas
+ * tokenizeNanos: divisão das linhas em colunas e identificação do header
+ * bindingNanos: criação das entidades e transformação das colunas nos tipos dos fields
+ * deliveryNanos: entrega das entidades ao consumer (tempo gasto pelo código de quem chamou o processamento)
+ * totalNanos: tempo total do processamento do arquivo
+ *
+ * As linhas descartadas pelas condições de uma consulta (FileProcessorQuery) são contabilizadas em filteredRows, e o
+ * tempo da verificação das condições nestas linhas faz parte do tokenizeNanos.
+ *
+ * No processamento paralelo os tempos das etapas são somados entre as threads, podendo ser maiores que o totalNanos.
+ */
+@Getter
+public class FileProcessorMetrics {
+
+    private final String fileName;
+    private final String entityName;
+    private final long startNanos;
+    private long totalNanos;
+    private long readNanos;
+    private long tokenizeNanos;
+    private long bindingNanos;
+    private long deliveryNanos;
+    private long bytes;
+    private long lines;
+    private long rows;
+    private long skippedLines;
+    private long filteredRows;
+    private int peakBatchSize;
+    private final Map<FileProcessorExceptionType, Long> rejectedRows = new EnumMap<>(FileProcessorExceptionType.class);
+
+    FileProcessorMetrics(String fileName, String entityName) {
+        this.fileName = fileName;
+        this.entityName = entityName;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Método responsável por recuperar a quantidade de linhas rejeitadas por tipo de erro
+     *
+     * @return Map<FileProcessorExceptionType, Long>, linhas rejeitadas por tipo de erro
+     */
+    public Map<FileProcessorExceptionType, Long> getRejectedRows() {
+        return Collections.unmodifiableMap(rejectedRows);
+    }
+
+    /**
+     * Método responsável por recuperar a quantidade de linhas rejeitadas por um tipo de erro
+     *
+     * @param type: tipo do erro
+     *
+     * @return long, quantidade de linhas rejeitadas pelo tipo de erro
+     */
+    public long getRejectedRows(FileProcessorExceptionType type) {
+        return rejectedRows.getOrDefault(type, 0L);
+    }
+
+    /**
+     * Método responsável por calcular a quantidade de entidades processadas por segundo
+     *
+     * @return double, entidades por segundo ou 0 caso o tempo total não tenha sido registrado
+     */
+    public double getRowsPerSecond() {
+        return perSecond(rows);
+    }
+
+    /**
+     * Método responsável por calcular a quantidade de bytes lidos por segundo
+     *
+     * @return double, bytes por segundo ou 0 caso o tempo total não tenha sido registrado
+     */
+    public double getBytesPerSecond() {
+        return perSecond(bytes);
+    }
+
+    private double perSecond(long value) {
+        return totalNanos > 0 ? value * 1_000_000_000d / totalNanos : 0;
+    }
+
+    void addReadNanos(long nanos) {
+        readNanos += Math.max(0, nanos);
+    }
+
+    void addTokenizeNanos(long nanos) {
+        tokenizeNanos += nanos;
+    }
+
+    void addBindingNanos(long nanos) {
+        bindingNanos += nanos;
+    }
+
+    void addDeliveryNanos(long nanos) {
+        deliveryNanos += nanos;
+    }
+
+    void addBytes(long count) {
+        bytes += count;
+    }
+
+    void addLine() {
+        lines++;
+    }
+
+    void addRow() {
+        rows++;
+    }
+
+    void addSkippedLine() {
+        skippedLines++;
+    }
+
+    void addFilteredRow() {
+        filteredRows++;
+    }
+
+    void addRejectedRow(FileProcessorExceptionType type) {
+        rejectedRows.merge(type, 1L, Long::sum);
+    }
+
+    void updatePeakBatchSize(int batchSize) {
+        peakBatchSize = Math.max(peakBatchSize, batchSize);
+    }
+
+    /**
+     * Método responsável por recuperar o tempo gasto com as linhas após a leitura (divisão em colunas, binding e
+     * entrega), utilizado para separar o tempo de leitura do tempo total de leitura das linhas
+     *
+     * @return long, tempo em nanossegundos
+     */
+    long getLinesNanos() {
+        return tokenizeNanos + bindingNanos + deliveryNanos;
+    }
+
+    /**
+     * Método responsável por somar as métricas de um bloco do processamento paralelo
+     *
+     * @param chunk: métricas do bloco
+     */
+    void merge(FileProcessorMetrics chunk) {
+        readNanos += chunk.readNanos;
+        tokenizeNanos += chunk.tokenizeNanos;
+        bindingNanos += chunk.bindingNanos;
+        deliveryNanos += chunk.deliveryNanos;
+        lines += chunk.lines;
+        rows += chunk.rows;
+        skippedLines += chunk.skippedLines;
+        filteredRows += chunk.filteredRows;
+        peakBatchSize = Math.max(peakBatchSize, chunk.peakBatchSize);
+        chunk.rejectedRows.forEach((type, count) -> rejectedRows.merge(type, count, Long::sum));
+    }
+
+    /**
+     * Método responsável por registrar o fim do processamento do arquivo
+     */
+    void finish() {
+        totalNanos = System.nanoTime() - startNanos;
+    }
+}
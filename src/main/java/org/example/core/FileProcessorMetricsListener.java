@@ -0,0 +1,23 @@
+package org.example.core;
+
+/**
+ * Listener que recebe as métricas de cada arquivo processado, permitindo que elas sejam repassadas para um registro de
+ * métricas externo. O listener é chamado ao final do processamento de cada arquivo, inclusive quando o processamento
+ * termina com uma FileProcessException. Exceções lançadas pelo listener são ignoradas, para que a coleta de métricas
+ * nunca interfira no processamento.
+ *
+ * Quando nenhum listener é configurado (NOOP), as métricas não são coletadas e o processamento não realiza nenhuma
+ * medição de tempo.
+ */
+@FunctionalInterface
+public interface FileProcessorMetricsListener {
+
+    FileProcessorMetricsListener NOOP = metrics -> { };
+
+    /**
+     * Método chamado ao final do processamento de um arquivo
+     *
+     * @param metrics: métricas do arquivo processado
+     */
+    void onFileProcessed(FileProcessorMetrics metrics);
+}
@@ -0,0 +1,97 @@
+package org.example.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Consulta aplicada durante o processamento de um arquivo, composta pela projeção (fields que serão preenchidos) e
+ * pelas condições sobre o valor bruto das colunas (ColumnPredicate). As condições são verificadas logo após a divisão
+ * da linha em colunas, antes da criação da entidade e da transformação dos valores, de modo que as linhas descartadas
+ * não geram objetos nem erros. Os fields fora da projeção não são lidos, mantendo o valor padrão da classe base.
+ *
+ * Os fields são identificados pelo nome do field na classe base. A consulta é imutável e pode ser reutilizada entre
+ * arquivos e threads.
+ */
+public final class FileProcessorQuery {
+
+    private static final FileProcessorQuery ALL = new FileProcessorQuery(null, Collections.emptyMap());
+
+    private final Set<String> fields;
+    private final Map<String, ColumnPredicate> predicates;
+
+    private FileProcessorQuery(Set<String> fields, Map<String, ColumnPredicate> predicates) {
+        this.fields = fields;
+        this.predicates = predicates;
+    }
+
+    /**
+     * Método responsável por criar a consulta que preenche todos os fields da classe base
+     *
+     * @return FileProcessorQuery, consulta sem projeção e sem condições
+     */
+    public static FileProcessorQuery all() {
+        return ALL;
+    }
+
+    /**
+     * Método responsável por criar a consulta que preenche somente os fields informados. Sem fields, a consulta
+     * preenche todos os fields da classe base, assim como o all()
+     *
+     * @param fields: nomes dos fields que serão preenchidos
+     *
+     * @return FileProcessorQuery, consulta com a projeção informada e sem condições
+     */
+    public static FileProcessorQuery select(String... fields) {
+        if (fields.length == 0) {
+            return ALL;
+        }
+        return new FileProcessorQuery(Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(fields))), Collections.emptyMap());
+    }
+
+    /**
+     * Método responsável por adicionar uma condição sobre a coluna de um field. As linhas são processadas somente
+     * quando atendem a todas as condições da consulta. O field não precisa fazer parte da projeção
+     *
+     * @param field: nome do field cuja coluna será verificada
+     * @param predicate: condição sobre o valor bruto da coluna
+     *
+     * @return FileProcessorQuery, nova consulta contendo a condição
+     */
+    public FileProcessorQuery where(String field, ColumnPredicate predicate) {
+        Map<String, ColumnPredicate> where = new LinkedHashMap<>(predicates);
+        ColumnPredicate previous = where.get(field);
+        where.put(field, previous == null ? predicate : (content, start, end) -> previous.test(content, start, end) && predicate.test(content, start, end));
+        return new FileProcessorQuery(fields, Collections.unmodifiableMap(where));
+    }
+
+    /**
+     * Método que verifica se a consulta não possui projeção nem condições
+     *
+     * @return boolean, true caso todos os fields sejam preenchidos e todas as linhas processadas
+     */
+    public boolean isAll() {
+        return fields == null && predicates.isEmpty();
+    }
+
+    /**
+     * Método responsável por recuperar os fields da projeção
+     *
+     * @return Set<String>, nomes dos fields que serão preenchidos, ou null caso todos sejam preenchidos
+     */
+    Set<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Método responsável por recuperar as condições da consulta
+     *
+     * @return Map<String, ColumnPredicate>, condição de cada field, na ordem em que foram adicionadas
+     */
+    Map<String, ColumnPredicate> getPredicates() {
+        return predicates;
+    }
+}
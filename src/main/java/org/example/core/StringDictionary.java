@@ -0,0 +1,181 @@
+package org.example.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dicionário de strings de uma coluna, onde cada valor distinto é guardado uma única vez. A busca é feita diretamente
+ * sobre o trecho da coluna, de modo que a string é criada somente na primeira ocorrência de cada valor e as demais
+ * ocorrências reutilizam a mesma instância.
+ *
+ * O dicionário é limitado pela quantidade de valores distintos. Ao atingir o limite, os novos valores deixam de ser
+ * adicionados ou, nos dicionários descartáveis (criados automaticamente para colunas de baixa cardinalidade), o
+ * dicionário é descartado e as ocorrências seguintes voltam a criar uma string por valor.
+ */
+final class StringDictionary {
+
+    static final int NOT_FOUND = -1;
+
+    private static final int INITIAL_TABLE_SIZE = 16;
+
+    private final int maxSize;
+    private final boolean discardWhenFull;
+    private String[] values = new String[INITIAL_TABLE_SIZE / 2];
+    private int[] table = new int[INITIAL_TABLE_SIZE];
+    private int size;
+
+    /**
+     * @param maxSize: quantidade máxima de valores distintos do dicionário
+     * @param discardWhenFull: indica se o dicionário deve ser descartado ao atingir o limite
+     */
+    StringDictionary(int maxSize, boolean discardWhenFull) {
+        this.maxSize = maxSize;
+        this.discardWhenFull = discardWhenFull;
+    }
+
+    /**
+     * Método responsável por recuperar a instância canônica de um valor, adicionando-o ao dicionário caso ainda não
+     * exista e o limite não tenha sido atingido
+     *
+     * @param value: conteúdo onde está o valor
+     * @param start: início do valor no conteúdo
+     * @param end: fim do valor no conteúdo
+     *
+     * @return String, instância guardada no dicionário ou uma nova string caso o valor não possa ser adicionado
+     */
+    String intern(CharSequence value, int start, int end) {
+        int code = code(value, start, end);
+        return code != NOT_FOUND ? values[code] : value.subSequence(start, end).toString();
+    }
+
+    /**
+     * Método responsável por recuperar o código de um valor, que é a sua posição no dicionário, adicionando-o caso
+     * ainda não exista. A tabela de busca utiliza endereçamento aberto com o mesmo hash do String.hashCode, guardando
+     * o código + 1
+     *
+     * @param value: conteúdo onde está o valor
+     * @param start: início do valor no conteúdo
+     * @param end: fim do valor no conteúdo
+     *
+     * @return int, código do valor ou NOT_FOUND caso o valor não exista e o dicionário tenha atingido o limite
+     */
+    int code(CharSequence value, int start, int end) {
+        if (table == null) {
+            return NOT_FOUND;
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + value.charAt(i);
+        }
+        int mask = table.length - 1;
+        int slot = spread(hash) & mask;
+        while (table[slot] != 0) {
+            if (matches(values[table[slot] - 1], value, start, end)) {
+                return table[slot] - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == maxSize) {
+            if (discardWhenFull) {
+                discard();
+            }
+            return NOT_FOUND;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size] = value.subSequence(start, end).toString();
+        table[slot] = ++size;
+        if (size * 2 > table.length) {
+            rehash();
+        }
+        return size - 1;
+    }
+
+    /**
+     * Método responsável por recuperar o valor de um código
+     *
+     * @param code: código do valor
+     *
+     * @return String, valor guardado no dicionário
+     */
+    String get(int code) {
+        return values[code];
+    }
+
+    /**
+     * Método responsável por recuperar os valores do dicionário, na ordem dos códigos
+     *
+     * @return List<String>, valores distintos do dicionário
+     */
+    List<String> asList() {
+        return new AbstractList<String>() {
+            @Override
+            public String get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+                }
+                return values[index];
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isDiscarded() {
+        return values == null;
+    }
+
+    /**
+     * Método responsável por liberar a tabela de busca quando não serão adicionados novos valores. Os valores
+     * continuam disponíveis pelo código
+     */
+    void trim() {
+        table = null;
+        if (values != null) {
+            values = Arrays.copyOf(values, size);
+        }
+    }
+
+    private void discard() {
+        table = null;
+        values = null;
+        size = 0;
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        int mask = table.length - 1;
+        for (int code = 0; code < size; code++) {
+            int slot = spread(values[code].hashCode()) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = code + 1;
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches(String candidate, CharSequence value, int start, int end) {
+        if (candidate.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < candidate.length(); i++) {
+            if (candidate.charAt(i) != value.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,19 +1,29 @@
 package org.example.core;
 
-import org.apache.commons.lang3.time.DateUtils;
-import org.example.util.FileProcessorConstants;
-
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
-import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 class TypeParser {
 
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final String TRUE = "true";
+
     private static final Map<Class, Function<String, ?>> parses = new HashMap<>();
 
     static {
@@ -22,9 +32,18 @@ class TypeParser {
         parses.put(String.class, String::toString);
         parses.put(Double.class, Double::parseDouble);
         parses.put(Float.class, Float::parseFloat);
-        parses.put(Date.class, TypeParser::parseDate);
+        parses.put(Date.class, DateParser.of(Date.class, null)::parse);
         parses.put(Boolean.class, Boolean::valueOf);
         parses.put(BigDecimal.class, BigDecimal::new);
+        parses.put(long.class, Long::parseLong);
+        parses.put(int.class, Integer::parseInt);
+        parses.put(double.class, Double::parseDouble);
+        parses.put(float.class, Float::parseFloat);
+        parses.put(boolean.class, Boolean::valueOf);
+        parses.put(LocalDate.class, DateParser.of(LocalDate.class, null)::parse);
+        parses.put(LocalDateTime.class, DateParser.of(LocalDateTime.class, null)::parse);
+        parses.put(Instant.class, DateParser.of(Instant.class, null)::parse);
+        parses.put(UUID.class, value -> UUID.fromString(value.trim()));
     }
 
     /**
@@ -38,21 +57,153 @@ class TypeParser {
      * apareça, basta implementar no parser o tipo que ele tentou processar e que não existe la
      */
     Object parse(Class targetType, String value) throws InvocationTargetException {
-        return value != null ? parses.get(targetType).apply(value) : null;
+        Function<String, ?> parser = getParser(targetType);
+        if (parser == null) {
+            throw new InvocationTargetException(null, "Tipo não suportado: " + targetType.getName());
+        }
+        return value != null ? parser.apply(value) : null;
     }
 
     /**
-     * Método responsável por transformar uma string em Date
+     * Função responsável por recuperar o parser de um tipo, permitindo que ele seja resolvido uma única vez
+     * e reutilizado para todas as células do mesmo field. Para enums o valor é comparado com o nome das constantes,
+     * sem diferenciar maiúsculas de minúsculas
      *
-     * @param value: valor da data no formato string
+     * @param targetType: tipo em que as strings serão transformadas
      *
-     * @return Date, contendo a data presente no value
+     * @return Function<String, ?>, parser do tipo informado ou null caso o tipo não seja suportado
      */
-    private static Date parseDate(String value) {
-        try {
-            return DateUtils.parseDate(value, FileProcessorConstants.DATE_FORMATES);
-        } catch (ParseException e) {
-            return null;
+    static Function<String, ?> getParser(Class<?> targetType) {
+        if (targetType.isEnum()) {
+            return getEnumParser(targetType);
         }
+        return parses.get(targetType);
+    }
+
+    /**
+     * Método responsável por transformar um trecho de texto em int, sem criar uma string intermediária
+     *
+     * @param value: conteúdo onde está o valor
+     * @param start: início do valor
+     * @param end: fim do valor
+     *
+     * @return int, valor presente no trecho
+     *
+     * @throws NumberFormatException, caso o trecho não possua um número inteiro válido
+     */
+    static int parseInt(CharSequence value, int start, int end) {
+        return Integer.parseInt(value, start, end, 10);
+    }
+
+    /**
+     * Método responsável por transformar um trecho de texto em long, sem criar uma string intermediária
+     *
+     * @param value: conteúdo onde está o valor
+     * @param start: início do valor
+     * @param end: fim do valor
+     *
+     * @return long, valor presente no trecho
+     *
+     * @throws NumberFormatException, caso o trecho não possua um número inteiro válido
+     */
+    static long parseLong(CharSequence value, int start, int end) {
+        return Long.parseLong(value, start, end, 10);
+    }
+
+    /**
+     * Método responsável por transformar um trecho de texto em double. Valores no formato decimal simples com até 15
+     * dígitos significativos e até 22 casas decimais são calculados diretamente dos caracteres, com o mesmo
+     * arredondamento do Double.parseDouble. Os demais formatos (expoente, NaN, Infinity, ...) são repassados ao
+     * Double.parseDouble
+     *
+     * @param value: conteúdo onde está o valor
+     * @param start: início do valor
+     * @param end: fim do valor
+     *
+     * @return double, valor presente no trecho
+     *
+     * @throws NumberFormatException, caso o trecho não possua um número válido
+     */
+    static double parseDouble(CharSequence value, int start, int end) {
+        int i = start;
+        int last = end;
+        while (i < last && value.charAt(i) <= ' ') {
+            i++;
+        }
+        while (last > i && value.charAt(last - 1) <= ' ') {
+            last--;
+        }
+        boolean negative = false;
+        if (i < last && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            negative = value.charAt(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean hasDigit = false;
+        boolean hasPoint = false;
+        for (; i < last; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if ((mantissa != 0 || c != '0') && ++digits > MAX_EXACT_DIGITS) {
+                    return Double.parseDouble(value.subSequence(start, end).toString());
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                hasDigit = true;
+                if (hasPoint) {
+                    scale++;
+                }
+            } else if (c == '.' && !hasPoint) {
+                hasPoint = true;
+            } else {
+                return Double.parseDouble(value.subSequence(start, end).toString());
+            }
+        }
+        if (!hasDigit || scale >= POWERS_OF_TEN.length) {
+            return Double.parseDouble(value.subSequence(start, end).toString());
+        }
+        double result = mantissa / POWERS_OF_TEN[scale];
+        return negative ? -result : result;
+    }
+
+    /**
+     * Método responsável por transformar um trecho de texto em boolean, seguindo a regra do Boolean.parseBoolean
+     *
+     * @param value: conteúdo onde está o valor
+     * @param start: início do valor
+     * @param end: fim do valor
+     *
+     * @return boolean, true caso o trecho seja "true" (sem diferenciar maiúsculas de minúsculas) e false caso contrário
+     */
+    static boolean parseBoolean(CharSequence value, int start, int end) {
+        if (end - start != TRUE.length()) {
+            return false;
+        }
+        for (int i = 0; i < TRUE.length(); i++) {
+            if (Character.toLowerCase(value.charAt(start + i)) != TRUE.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Método responsável por montar o parser de um enum, indexando as constantes pelo nome
+     *
+     * @param enumType: classe do enum
+     *
+     * @return Function<String, ?>, parser que retorna a constante correspondente ao valor
+     */
+    private static Function<String, ?> getEnumParser(Class<?> enumType) {
+        Map<String, Object> constants = Arrays.stream(enumType.getEnumConstants())
+            .collect(Collectors.toMap(constant -> ((Enum<?>) constant).name().toUpperCase(Locale.ROOT), constant -> constant, (first, second) -> first));
+        return value -> {
+            Object constant = constants.get(value.trim().toUpperCase(Locale.ROOT));
+            if (constant == null) {
+                throw new IllegalArgumentException("Valor " + value + " não encontrado em " + enumType.getName());
+            }
+            return constant;
+        };
     }
 }
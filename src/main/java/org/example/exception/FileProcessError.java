@@ -0,0 +1,131 @@
+package org.example.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Registro de um erro encontrado durante o processamento de um arquivo. O erro guarda somente as informações
+ * necessárias para identificá-lo (linha, coluna, tipo esperado e o trecho do conteúdo com o valor recebido), sendo a
+ * mensagem montada apenas quando ela é consultada.
+ */
+@Getter
+@AllArgsConstructor
+public class FileProcessError {
+
+    public static final int NO_COLUMN = -1;
+
+    private FileProcessErrorType type;
+    private String fileName;
+    private String entityName;
+    private String partName;
+    private int line;
+    private int column;
+    private String fieldType;
+    private CharSequence content;
+    private int start;
+    private int end;
+
+    /**
+     * Método responsável por criar o registro de um valor incompatível com o tipo do field
+     *
+     * @param fileName: nome do arquivo
+     * @param entityName: nome da classe base
+     * @param partName: nome da parte do arquivo (como a planilha de um xlsx), ou null caso o arquivo não seja dividido
+     * @param line: linha do arquivo onde está o valor
+     * @param column: índice da coluna onde está o valor
+     * @param fieldType: tipo esperado pelo field
+     * @param content: conteúdo onde está o valor, como a linha inteira do arquivo
+     * @param start: início do valor no conteúdo
+     * @param end: fim do valor no conteúdo
+     *
+     * @return FileProcessError, registro do erro
+     */
+    public static FileProcessError incompatibleTypes(String fileName, String entityName, String partName, int line, int column, String fieldType, CharSequence content, int start, int end) {
+        return new FileProcessError(FileProcessErrorType.INCOMPATIBLE_TYPES, fileName, entityName, partName, line, column, fieldType, content, start, end);
+    }
+
+    /**
+     * Método responsável por criar o registro de um arquivo fora do formato esperado
+     *
+     * @param fileName: nome do arquivo
+     * @param entityName: nome da classe base
+     * @param partName: nome da parte do arquivo (como a planilha de um xlsx), ou null caso o arquivo não seja dividido
+     * @param line: última linha lida do arquivo
+     *
+     * @return FileProcessError, registro do erro
+     */
+    public static FileProcessError incorrectFileFormat(String fileName, String entityName, String partName, int line) {
+        return new FileProcessError(FileProcessErrorType.INCORRECT_FILE_FORMAT, fileName, entityName, partName, line, NO_COLUMN, null, null, 0, 0);
+    }
+
+    /**
+     * Método responsável por recuperar o valor recebido no arquivo
+     *
+     * @return String, valor recebido ou null caso o erro não esteja associado a um valor
+     */
+    public String getValue() {
+        return content != null ? content.subSequence(start, end).toString() : null;
+    }
+
+    /**
+     * Método responsável por montar a mensagem do erro, substituindo as marcações da mensagem base em uma única
+     * passagem. Nos arquivos divididos em partes, a linha é precedida pelo nome da parte (Planilha!12)
+     *
+     * @return String, mensagem do erro
+     */
+    public String getMessage() {
+        String baseMessage = type.getBaseMessage();
+        StringBuilder message = new StringBuilder(baseMessage.length() + 64);
+        for (int i = 0; i < baseMessage.length(); i++) {
+            char c = baseMessage.charAt(i);
+            if (c == '#' && i + 1 < baseMessage.length() && appendMark(message, baseMessage.charAt(i + 1))) {
+                i++;
+            } else {
+                message.append(c);
+            }
+        }
+        return message.toString();
+    }
+
+    /**
+     * Método responsável por adicionar na mensagem o valor de uma marcação da mensagem base
+     *
+     * @param message: mensagem sendo montada
+     * @param mark: caractere da marcação (F, L, E, T ou V)
+     *
+     * @return boolean, true caso a marcação exista e false caso contrário
+     */
+    private boolean appendMark(StringBuilder message, char mark) {
+        switch (mark) {
+            case 'F':
+                message.append(fileName);
+                return true;
+            case 'L':
+                if (partName != null) {
+                    message.append(partName).append('!');
+                }
+                message.append(line);
+                return true;
+            case 'E':
+                message.append(entityName);
+                return true;
+            case 'T':
+                message.append(fieldType);
+                return true;
+            case 'V':
+                if (content != null) {
+                    message.append(content, start, end);
+                } else {
+                    message.append((String) null);
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+}
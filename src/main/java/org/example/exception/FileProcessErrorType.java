@@ -0,0 +1,14 @@
+package org.example.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum FileProcessErrorType {
+
+    INCOMPATIBLE_TYPES(FileProcessExceptionMessages.BASE_MESSAGE_ERROR_INCOMPATIBLE_TYPES),
+    INCORRECT_FILE_FORMAT(FileProcessExceptionMessages.BASE_MESSAGE_ERROR_INCORRECT_FILE_FORMAT);
+
+    private String baseMessage;
+}
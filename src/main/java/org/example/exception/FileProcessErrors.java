@@ -0,0 +1,140 @@
+package org.example.exception;
+
+import lombok.Getter;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lista dos erros encontrados durante o processamento de um arquivo. Somente os primeiros maxErrors erros são
+ * guardados, sendo os demais apenas contabilizados em totalErrors, e as mensagens são montadas somente quando
+ * consultadas. Deste modo, arquivos com muitos valores inválidos não acumulam uma string para cada erro.
+ *
+ * Como lista de strings, cada elemento corresponde à mensagem de um dos erros guardados. Os registros completos dos
+ * erros podem ser recuperados pelo getErrors.
+ *
+ * No processamento paralelo cada bloco possui sua própria lista, e o total de erros do arquivo é contabilizado em um
+ * contador compartilhado entre os blocos, de modo que a interrupção (failFastErrors) considera os erros de todos eles.
+ */
+public class FileProcessErrors extends AbstractList<String> {
+
+    private final List<FileProcessError> errors = new ArrayList<>();
+    @Getter
+    private final int maxErrors;
+    @Getter
+    private final int failFastErrors;
+    @Getter
+    private int totalErrors;
+    private final AtomicInteger fileErrors;
+
+    /**
+     * @param maxErrors: quantidade máxima de erros guardados
+     * @param failFastErrors: quantidade de erros a partir da qual o processamento é interrompido, ou 0 para processar
+     * o arquivo inteiro
+     */
+    public FileProcessErrors(int maxErrors, int failFastErrors) {
+        this(maxErrors, failFastErrors, null);
+    }
+
+    /**
+     * @param maxErrors: quantidade máxima de erros guardados
+     * @param failFastErrors: quantidade de erros a partir da qual o processamento é interrompido, ou 0 para processar
+     * o arquivo inteiro
+     * @param fileErrors: contador dos erros do arquivo, compartilhado entre as listas dos blocos processados em
+     * paralelo, ou null caso a lista contenha todos os erros do arquivo
+     */
+    public FileProcessErrors(int maxErrors, int failFastErrors, AtomicInteger fileErrors) {
+        this.maxErrors = maxErrors;
+        this.failFastErrors = failFastErrors;
+        this.fileErrors = fileErrors;
+    }
+
+    /**
+     * Método responsável por registrar um erro, que é guardado somente caso o limite ainda não tenha sido atingido
+     *
+     * @param error: erro encontrado
+     */
+    public void addError(FileProcessError error) {
+        countError();
+        if (!isFull()) {
+            errors.add(error);
+        }
+    }
+
+    /**
+     * Método responsável por contabilizar um erro sem guardá-lo, utilizado quando o limite já foi atingido para que o
+     * registro do erro nem seja criado
+     */
+    public void countError() {
+        totalErrors++;
+        if (fileErrors != null) {
+            fileErrors.incrementAndGet();
+        }
+    }
+
+    /**
+     * Método que verifica se o limite de erros guardados foi atingido
+     *
+     * @return boolean, true caso novos erros não sejam mais guardados e false caso contrário
+     */
+    public boolean isFull() {
+        return errors.size() >= maxErrors;
+    }
+
+    /**
+     * Método responsável por adicionar os erros de outra lista, como a de um bloco do processamento paralelo,
+     * respeitando o limite desta lista
+     *
+     * @param other: lista com os erros a serem adicionados
+     */
+    public void merge(FileProcessErrors other) {
+        for (FileProcessError error : other.errors) {
+            if (isFull()) {
+                break;
+            }
+            errors.add(error);
+        }
+        totalErrors += other.totalErrors;
+    }
+
+    /**
+     * Método que verifica se a quantidade de erros atingiu o limite para a interrupção do processamento. Quando a lista
+     * possui o contador compartilhado, é considerado o total de erros do arquivo
+     *
+     * @return boolean, true caso o processamento deva ser interrompido e false caso contrário
+     */
+    public boolean isFailFastReached() {
+        return failFastErrors > 0 && (fileErrors != null ? fileErrors.get() : totalErrors) >= failFastErrors;
+    }
+
+    /**
+     * Método que verifica se algum erro deixou de ser guardado por causa do limite
+     *
+     * @return boolean, true caso existam erros não guardados e false caso contrário
+     */
+    public boolean isTruncated() {
+        return totalErrors > errors.size();
+    }
+
+    /**
+     * Método responsável por recuperar os registros dos erros guardados
+     *
+     * @return List<FileProcessError>, erros guardados, na ordem em que foram encontrados
+     */
+    public List<FileProcessError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    @Override
+    public String get(int index) {
+        return errors.get(index).getMessage();
+    }
+
+    @Override
+    public int size() {
+        return errors.size();
+    }
+}
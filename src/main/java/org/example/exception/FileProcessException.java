@@ -2,6 +2,7 @@ package org.example.exception;
 
 import lombok.Getter;
 
+import java.util.Collections;
 import java.util.List;
 
 @Getter
@@ -15,4 +16,24 @@ public class FileProcessException extends Exception {
         this.logErros = logErros;
         this.typeError = typeError;
     }
+
+    /**
+     * Método responsável por recuperar os registros dos erros do arquivo, com linha, coluna e valor de cada erro
+     *
+     * @return List<FileProcessError>, erros guardados durante o processamento, ou uma lista vazia caso o logErros não
+     * possua os registros
+     */
+    public List<FileProcessError> getErrors() {
+        return logErros instanceof FileProcessErrors ? ((FileProcessErrors) logErros).getErrors() : Collections.emptyList();
+    }
+
+    /**
+     * Método responsável por recuperar a quantidade total de erros do arquivo, incluindo os que não foram guardados
+     * por causa do limite de erros
+     *
+     * @return int, quantidade total de erros
+     */
+    public int getTotalErrors() {
+        return logErros instanceof FileProcessErrors ? ((FileProcessErrors) logErros).getTotalErrors() : logErros.size();
+    }
 }
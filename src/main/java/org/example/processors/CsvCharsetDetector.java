@@ -0,0 +1,120 @@
+package org.example.processors;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Identificação do charset de um csv. O charset é identificado pelo BOM (UTF-8, UTF-16BE ou UTF-16LE) e, na ausência
+ * dele, cada registro é considerado UTF-8 quando é um UTF-8 válido e lido como ISO-8859-1 caso contrário.
+ */
+final class CsvCharsetDetector {
+
+    static final int MAX_BOM_LENGTH = 3;
+
+    private static final byte[] UTF_8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final byte[] UTF_16BE_BOM = {(byte) 0xFE, (byte) 0xFF};
+    private static final byte[] UTF_16LE_BOM = {(byte) 0xFF, (byte) 0xFE};
+
+    private CsvCharsetDetector() {
+    }
+
+    /**
+     * Método responsável por identificar o charset pelo BOM presente no início do conteúdo
+     *
+     * @param head: bytes do início do conteúdo
+     * @param length: quantidade de bytes lidos em head
+     *
+     * @return Charset, charset indicado pelo BOM ou null caso o conteúdo não possua BOM
+     */
+    static Charset detectBom(byte[] head, int length) {
+        if (startsWith(head, length, UTF_8_BOM)) {
+            return StandardCharsets.UTF_8;
+        }
+        if (startsWith(head, length, UTF_16BE_BOM)) {
+            return StandardCharsets.UTF_16BE;
+        }
+        if (startsWith(head, length, UTF_16LE_BOM)) {
+            return StandardCharsets.UTF_16LE;
+        }
+        return null;
+    }
+
+    /**
+     * Método responsável por recuperar o tamanho, em bytes, do BOM de um charset
+     *
+     * @param charset: charset identificado pelo detectBom
+     *
+     * @return int, tamanho do BOM
+     */
+    static int getBomLength(Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset) ? UTF_8_BOM.length : UTF_16BE_BOM.length;
+    }
+
+    /**
+     * Método que verifica se o charset representa os caracteres ASCII com um único byte, com o mesmo valor, e nunca
+     * utiliza estes valores dentro de caracteres multibyte. Nestes charsets os registros e colunas podem ser localizados
+     * diretamente nos bytes
+     *
+     * @param charset: charset do conteúdo
+     *
+     * @return boolean, true caso o charset seja UTF-8, ISO-8859-1 ou US-ASCII e false caso contrário
+     */
+    static boolean isAsciiCompatible(Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.ISO_8859_1.equals(charset) || StandardCharsets.US_ASCII.equals(charset);
+    }
+
+    /**
+     * Método que verifica se um trecho de bytes está de acordo com a estrutura do UTF-8 (byte inicial seguido da
+     * quantidade correta de bytes de continuação)
+     *
+     * @param bytes: conteúdo a ser verificado
+     * @param offset: início do trecho
+     * @param length: tamanho do trecho
+     *
+     * @return boolean, true caso o trecho seja um UTF-8 válido e false caso contrário
+     */
+    static boolean isValidUtf8(byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            int c = bytes[i] & 0xFF;
+            if (c < 0x80) {
+                i++;
+                continue;
+            }
+            int continuation;
+            if (c >= 0xC2 && c <= 0xDF) {
+                continuation = 1;
+            } else if (c >= 0xE0 && c <= 0xEF) {
+                continuation = 2;
+            } else if (c >= 0xF0 && c <= 0xF4) {
+                continuation = 3;
+            } else {
+                return false;
+            }
+            int last = Math.min(i + continuation, end - 1);
+            for (int j = i + 1; j <= last; j++) {
+                if ((bytes[j] & 0xC0) != 0x80) {
+                    return false;
+                }
+            }
+            if (i + continuation >= end) {
+                return false;
+            }
+            i += continuation + 1;
+        }
+        return true;
+    }
+
+    private static boolean startsWith(byte[] head, int length, byte[] bom) {
+        if (length < bom.length) {
+            return false;
+        }
+        for (int i = 0; i < bom.length; i++) {
+            if (head[i] != bom[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
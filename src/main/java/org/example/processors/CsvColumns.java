@@ -0,0 +1,88 @@
+package org.example.processors;
+
+import org.example.core.ColumnSlices;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Colunas de um registro csv. São guardados somente os limites de cada coluna dentro do registro, e o valor da coluna
+ * é transformado em string apenas quando consultado, evitando a criação de strings para colunas não utilizadas.
+ * Colunas sem aspas escapadas também podem ser lidas diretamente do registro através da interface ColumnSlices.
+ */
+class CsvColumns extends AbstractList<String> implements RandomAccess, ColumnSlices {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final String record;
+    private final CsvTokenizer tokenizer;
+    private int[] bounds = new int[INITIAL_CAPACITY * 2];
+    private boolean[] escaped;
+    private int size;
+
+    CsvColumns(String record, CsvTokenizer tokenizer) {
+        this.record = record;
+        this.tokenizer = tokenizer;
+    }
+
+    /**
+     * Método responsável por registrar uma coluna
+     *
+     * @param start: início do valor da coluna no registro
+     * @param end: fim do valor da coluna no registro
+     * @param needsUnescape: indica se o valor precisa do unescape ao ser consultado
+     */
+    void add(int start, int end, boolean needsUnescape) {
+        if (size * 2 == bounds.length) {
+            bounds = Arrays.copyOf(bounds, bounds.length * 2);
+        }
+        bounds[size * 2] = start;
+        bounds[size * 2 + 1] = end;
+        if (needsUnescape) {
+            if (escaped == null || escaped.length < bounds.length / 2) {
+                escaped = escaped == null ? new boolean[bounds.length / 2] : Arrays.copyOf(escaped, bounds.length / 2);
+            }
+            escaped[size] = true;
+        }
+        size++;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int start = bounds[index * 2];
+        int end = bounds[index * 2 + 1];
+        if (!isSlice(index)) {
+            return tokenizer.unescape(record, start, end);
+        }
+        return record.substring(start, end);
+    }
+
+    @Override
+    public CharSequence getContent() {
+        return record;
+    }
+
+    @Override
+    public int getStart(int index) {
+        return bounds[index * 2];
+    }
+
+    @Override
+    public int getEnd(int index) {
+        return bounds[index * 2 + 1];
+    }
+
+    @Override
+    public boolean isSlice(int index) {
+        return escaped == null || index >= escaped.length || !escaped[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
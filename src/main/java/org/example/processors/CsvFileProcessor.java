@@ -1,22 +1,71 @@
 package org.example.processors;
 
+import org.example.core.FileCheckpoint;
+import org.example.core.FileChunk;
+import org.example.core.FileIncrementalResult;
 import org.example.core.FileProcessor;
+import org.example.exception.FileProcessException;
+import org.example.exception.FileProcessorExceptionType;
 import org.example.util.FileP;
 import org.example.util.FileProcessorConstants;
+import org.example.util.FileSource;
 
-import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
-
-;
+import java.util.function.Consumer;
 
+/**
+ * Processador de arquivos csv. Quando o charset não é informado, ele é identificado pelo BOM (UTF-8, UTF-16BE ou
+ * UTF-16LE, sendo o BOM descartado) e, na ausência dele, cada registro é lido como UTF-8 quando é um UTF-8 válido e
+ * como ISO-8859-1 caso contrário.
+ *
+ * Nos charsets em que os caracteres ASCII ocupam um único byte (UTF-8, ISO-8859-1 e US-ASCII), os registros são
+ * localizados diretamente nos bytes do arquivo e cada registro é transformado em string uma única vez, sem a
+ * decodificação em um buffer de caracteres. As colunas são trechos desta string, e somente as colunas associadas a
+ * fields são transformadas.
+ */
 public class CsvFileProcessor extends FileProcessor<String, String> {
 
+    private final CsvTokenizer tokenizer;
+    private final Charset charset;
+
+    public CsvFileProcessor() {
+        this(FileProcessorConstants.CSV_DEFAULT_DELIMITER);
+    }
+
+    /**
+     * Construtor que permite informar o delimitador das colunas, possibilitando o processamento de arquivos
+     * separados por ';' ou tab, por exemplo
+     *
+     * @param delimiter: caractere que separa as colunas do arquivo
+     */
+    public CsvFileProcessor(char delimiter) {
+        this(delimiter, null);
+    }
+
+    /**
+     * Construtor que permite informar o delimitador das colunas e o charset do arquivo
+     *
+     * @param delimiter: caractere que separa as colunas do arquivo
+     * @param charset: charset do arquivo, ou null para que seja identificado pelo conteúdo. O BOM do charset informado,
+     * caso presente, é descartado
+     */
+    public CsvFileProcessor(char delimiter, Charset charset) {
+        this.tokenizer = new CsvTokenizer(delimiter);
+        this.charset = charset;
+    }
+
     /**
      * Método responsável por trasformar o conteudo do arquivo csv em uma lista de linhas
      *
@@ -28,8 +77,181 @@ public class CsvFileProcessor extends FileProcessor<String, String> {
      */
     @Override
     public List<String> getLinesFromFileAsList(FileP file) throws IOException {
-        BufferedReader buffer = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(file.getContent()), StandardCharsets.UTF_8));
-        return buffer.lines().collect(Collectors.toList());
+        List<String> lines = new ArrayList<>();
+        readLinesFromStream(new ByteArrayInputStream(file.getContent()), lines::add);
+        return lines;
+    }
+
+    /**
+     * Método responsável por ler o conteúdo do csv linha a linha, entregando cada linha ao consumer. Quebras de linha
+     * dentro de colunas entre aspas não encerram a linha. O BOM é descartado e, quando o charset permite, os registros
+     * são localizados diretamente nos bytes do stream
+     *
+     * @param input: stream contendo o conteúdo do arquivo
+     * @param consumer: função que recebe cada linha do arquivo
+     *
+     * @throws IOException: verificação para casos de arquivos corrompidos
+     */
+    @Override
+    public void readLinesFromStream(InputStream input, Consumer<String> consumer) throws IOException {
+        readLinesFromStream(input, null, consumer);
+    }
+
+    /**
+     * Método responsável por ler o conteúdo do csv linha a linha com o charset identificado a partir do arquivo
+     * inteiro, como nos blocos do processamento paralelo. O charset identificado é tratado como o charset informado no
+     * processador, sendo o seu BOM descartado caso presente
+     *
+     * @param input: stream contendo o conteúdo do arquivo
+     * @param contentCharset: charset do conteúdo, ou null para utilizar o charset do processador ou identificá-lo pelo
+     * conteúdo
+     * @param consumer: função que recebe cada linha do arquivo
+     *
+     * @throws IOException: verificação para casos de arquivos corrompidos
+     */
+    @Override
+    protected void readLinesFromStream(InputStream input, Charset contentCharset, Consumer<String> consumer) throws IOException {
+        Charset known = contentCharset != null ? contentCharset : charset;
+        PushbackInputStream stream = new PushbackInputStream(input, CsvCharsetDetector.MAX_BOM_LENGTH);
+        byte[] head = stream.readNBytes(CsvCharsetDetector.MAX_BOM_LENGTH);
+        Charset bom = getBomCharset(head, head.length, known);
+        int bomLength = bom != null ? CsvCharsetDetector.getBomLength(bom) : 0;
+        stream.unread(head, bomLength, head.length - bomLength);
+        Charset resolved = known != null ? known : bom != null ? bom : StandardCharsets.UTF_8;
+        if (tokenizer.supportsBytes(resolved)) {
+            readRecords(tokenizer.newRecordReader(stream, resolved, known == null && bom == null), consumer);
+        } else {
+            readRecords(tokenizer.newRecordReader(new InputStreamReader(stream, resolved)), consumer);
+        }
+    }
+
+    /**
+     * Método responsável por ler o conteúdo do csv a partir da origem. Quando os registros podem ser localizados nos
+     * bytes, o conteúdo é lido pelo openStream da origem (com o MappedFileSource, diretamente das janelas mapeadas do
+     * arquivo) da mesma forma que no readLinesFromStream, inclusive com a troca para o ISO-8859-1 nos registros que
+     * não são UTF-8 válido. Nos demais charsets, o texto é decodificado diretamente da origem (FileSource.openReader)
+     *
+     * @param source: origem do conteúdo do arquivo
+     * @param consumer: função que recebe cada linha do arquivo
+     *
+     * @throws IOException: verificação para casos de arquivos corrompidos ou que não podem ser acessados
+     */
+    @Override
+    public void readLinesFromSource(FileSource source, Consumer<String> consumer) throws IOException {
+        byte[] head;
+        try (InputStream input = source.openStream()) {
+            head = input.readNBytes(CsvCharsetDetector.MAX_BOM_LENGTH);
+        }
+        Charset bom = getBomCharset(head, head.length, charset);
+        Charset resolved = charset != null ? charset : bom != null ? bom : StandardCharsets.UTF_8;
+        if (tokenizer.supportsBytes(resolved)) {
+            try (InputStream input = source.openStream()) {
+                readLinesFromStream(input, consumer);
+            }
+            return;
+        }
+        try (Reader reader = source.openReader(resolved)) {
+            if (bom != null) {
+                reader.skip(1);
+            }
+            readRecords(tokenizer.newRecordReader(reader), consumer);
+        }
+    }
+
+    /**
+     * Método responsável por identificar o BOM do início do conteúdo. Quando o charset é conhecido, somente o BOM do
+     * próprio charset é considerado
+     *
+     * @param head: bytes do início do conteúdo
+     * @param length: quantidade de bytes lidos
+     * @param known: charset informado ou identificado a partir do arquivo inteiro, ou null caso seja desconhecido
+     *
+     * @return Charset, charset do BOM ou null caso o conteúdo não possua um BOM a ser descartado
+     */
+    private Charset getBomCharset(byte[] head, int length, Charset known) {
+        Charset bom = CsvCharsetDetector.detectBom(head, length);
+        return known == null || known.equals(bom) ? bom : null;
+    }
+
+    /**
+     * Método responsável por ler os registros do leitor, entregando cada registro ao consumer
+     *
+     * @param reader: leitor de registros do conteúdo do arquivo
+     * @param consumer: função que recebe cada linha do arquivo
+     *
+     * @throws IOException: verificação para casos de arquivos corrompidos
+     */
+    private void readRecords(CsvTokenizer.RecordReader reader, Consumer<String> consumer) throws IOException {
+        String line;
+        while ((line = reader.readRecord()) != null) {
+            consumer.accept(line);
+        }
+    }
+
+    /**
+     * Método responsável por dividir o conteúdo do csv em blocos para o processamento paralelo. Os blocos terminam
+     * sempre no final de uma linha, respeitando colunas entre aspas com quebras de linha. O charset informado ou
+     * identificado pelo BOM é guardado em cada bloco, já que somente o primeiro bloco possui o BOM. Arquivos em charsets
+     * como o UTF-16, em que os registros não podem ser localizados nos bytes, são processados em um único bloco
+     *
+     * @param file: parâmetro que contém o conteúdo do arquivo
+     * @param chunkSize: tamanho aproximado, em bytes, de cada bloco
+     *
+     * @return List<FileChunk>, blocos do arquivo na ordem original
+     */
+    @Override
+    protected List<FileChunk> getChunksFromFile(FileP file, int chunkSize) {
+        byte[] content = file.getContent();
+        Charset known = charset != null ? charset : getBomCharset(content, content.length, null);
+        if (!tokenizer.supportsBytes(known != null ? known : StandardCharsets.UTF_8)) {
+            return super.getChunksFromFile(file, chunkSize);
+        }
+        return tokenizer.splitIntoChunks(content, chunkSize, known);
+    }
+
+    /**
+     * Função que processa de forma incremental um arquivo CSV que cresce por adição de linhas. O primeiro
+     * processamento (checkpoint null) lê o arquivo inteiro, e os seguintes leem somente as linhas adicionadas após o
+     * checkpoint, reaproveitando o header registrado nele. Somente as linhas completas (com final de linha) são
+     * processadas, de modo que uma linha ainda sendo escrita é processada somente no próximo processamento.
+     *
+     * Caso o arquivo tenha sido truncado ou o header ou o trecho anterior ao checkpoint tenham sido alterados, o
+     * arquivo é processado desde o início e o resultado é marcado como reset. Os erros das linhas não interrompem o
+     * processamento e são retornados no resultado, junto com o checkpoint do fim da última linha processada.
+     *
+     * O processamento incremental localiza as linhas nos bytes do arquivo, o que exige um charset em que o delimitador,
+     * as aspas e as quebras de linha ocupam um único byte. Arquivos em outros charsets (como o UTF-16) são rejeitados
+     * sem serem processados, com o erro INFALID_FILE no resultado.
+     *
+     * @param path: caminho do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param checkpoint: checkpoint retornado pelo processamento anterior, ou null para processar o arquivo inteiro
+     * @param consumer: função que recebe cada entidade das linhas adicionadas
+     *
+     * @return FileIncrementalResult, checkpoint para o próximo processamento e erros das linhas processadas
+     *
+     * @throws IllegalArgumentException, caso o arquivo seja compactado
+     */
+    public <T> FileIncrementalResult processIncremental(Path path, Class<T> classe, FileCheckpoint checkpoint, Consumer<? super T> consumer) {
+        Charset resolved = charset;
+        if (resolved == null) {
+            try (InputStream input = Files.newInputStream(path)) {
+                byte[] head = input.readNBytes(CsvCharsetDetector.MAX_BOM_LENGTH);
+                Charset bom = getBomCharset(head, head.length, null);
+                resolved = bom != null ? bom : StandardCharsets.UTF_8;
+            } catch (IOException e) {
+                // o arquivo que não pode ser lido é reportado pelo processamento
+                resolved = StandardCharsets.UTF_8;
+            }
+        }
+        if (!tokenizer.supportsBytes(resolved)) {
+            List<String> errors = new ArrayList<>();
+            errors.add("Processamento incremental não suportado para o charset " + resolved);
+            FileProcessException error = new FileProcessException(buildMessageExceptionInvalidFile(path.getFileName().toString()), errors,
+                FileProcessorExceptionType.INFALID_FILE);
+            return new FileIncrementalResult(checkpoint, false, 0L, error);
+        }
+        return processIncremental(path, classe, checkpoint, consumer, tokenizer::findRecordEnds);
     }
 
     /**
@@ -41,7 +263,7 @@ public class CsvFileProcessor extends FileProcessor<String, String> {
      */
     @Override
     public List<String> getColsFromLineAsList(String line) {
-        return Arrays.asList(line.split(FileProcessorConstants.REGEX_IGNORA_VIRG_ASPAS, -1));
+        return tokenizer.tokenize(line);
     }
 
     /**
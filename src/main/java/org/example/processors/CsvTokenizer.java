@@ -0,0 +1,475 @@
+package org.example.processors;
+
+import org.example.core.FileChunk;
+import org.example.util.FileProcessorConstants;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Classe responsável por dividir o conteúdo de um csv em registros e colunas seguindo a RFC 4180. A divisão é feita
+ * por uma máquina de estados que percorre cada caractere uma única vez, suportando colunas entre aspas, aspas
+ * escapadas ("") e quebras de linha dentro de colunas entre aspas. As aspas que delimitam a coluna são removidas.
+ *
+ * Aspas que aparecem no meio de uma coluna sem aspas, assim como caracteres após o fechamento das aspas, são
+ * mantidos como parte do valor, evitando que arquivos levemente fora do padrão sejam rejeitados.
+ */
+class CsvTokenizer {
+
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_ASCII = 0x7F;
+
+    private final char delimiter;
+    private final char quote;
+
+    CsvTokenizer(char delimiter) {
+        this.delimiter = delimiter;
+        this.quote = FileProcessorConstants.CSV_QUOTE;
+    }
+
+    /**
+     * Método responsável por dividir um registro em colunas. Durante a divisão são registrados somente os limites de
+     * cada coluna, sendo o valor de uma coluna transformado em string apenas quando ela é consultada. Deste modo,
+     * colunas que não são utilizadas no processamento não geram nenhuma string.
+     *
+     * @param record: registro do arquivo, podendo conter quebras de linha dentro de colunas entre aspas
+     *
+     * @return List<String>, na qual cada elemento corresponde ao valor de uma coluna
+     */
+    List<String> tokenize(String record) {
+        CsvColumns columns = new CsvColumns(record, this);
+        int state = FIELD_START;
+        int start = 0;
+        boolean quoted = false;
+        boolean escaped = false;
+        int length = record.length();
+        for (int i = 0; i < length; i++) {
+            char c = record.charAt(i);
+            switch (state) {
+                case FIELD_START:
+                    if (c == quote) {
+                        state = QUOTED;
+                        quoted = true;
+                    } else if (c == delimiter) {
+                        columns.add(i, i, false);
+                        start = i + 1;
+                    } else {
+                        state = UNQUOTED;
+                    }
+                    break;
+                case UNQUOTED:
+                    if (c == delimiter) {
+                        addColumn(columns, state, start, i, quoted, escaped);
+                        state = FIELD_START;
+                        start = i + 1;
+                        quoted = false;
+                        escaped = false;
+                    }
+                    break;
+                case QUOTED:
+                    if (c == quote) {
+                        state = QUOTE_IN_QUOTED;
+                    }
+                    break;
+                default:
+                    if (c == delimiter) {
+                        addColumn(columns, state, start, i, quoted, escaped);
+                        state = FIELD_START;
+                        start = i + 1;
+                        quoted = false;
+                        escaped = false;
+                    } else {
+                        state = c == quote ? QUOTED : UNQUOTED;
+                        escaped = true;
+                    }
+                    break;
+            }
+        }
+        addColumn(columns, state, start, length, quoted, escaped);
+        return columns;
+    }
+
+    /**
+     * Método responsável por registrar os limites de uma coluna. Colunas entre aspas sem aspas escapadas têm as aspas
+     * descartadas dos limites, enquanto as que possuem aspas escapadas ou caracteres após o fechamento das aspas são
+     * registradas por inteiro e tratadas pelo unescape somente quando consultadas
+     *
+     * @param columns: colunas do registro
+     * @param state: estado da máquina ao final da coluna
+     * @param start: início da coluna no registro
+     * @param end: fim da coluna no registro
+     * @param quoted: indica se a coluna inicia com aspas
+     * @param escaped: indica se a coluna precisa do unescape
+     */
+    private void addColumn(CsvColumns columns, int state, int start, int end, boolean quoted, boolean escaped) {
+        if (!quoted) {
+            columns.add(start, end, false);
+        } else if (escaped) {
+            columns.add(start, end, true);
+        } else {
+            columns.add(start + 1, state == QUOTE_IN_QUOTED ? end - 1 : end, false);
+        }
+    }
+
+    /**
+     * Método responsável por montar o valor de uma coluna entre aspas que possui aspas escapadas ou caracteres após o
+     * fechamento das aspas
+     *
+     * @param record: registro do arquivo
+     * @param start: início da coluna, na aspa de abertura
+     * @param end: fim da coluna
+     *
+     * @return String, valor da coluna sem as aspas delimitadoras e com as aspas escapadas resolvidas
+     */
+    String unescape(String record, int start, int end) {
+        StringBuilder value = new StringBuilder(end - start);
+        boolean inQuotes = true;
+        int i = start + 1;
+        while (i < end) {
+            char c = record.charAt(i);
+            if (inQuotes && c == quote) {
+                if (i + 1 < end && record.charAt(i + 1) == quote) {
+                    value.append(quote);
+                    i += 2;
+                    continue;
+                }
+                inQuotes = false;
+            } else {
+                value.append(c);
+            }
+            i++;
+        }
+        return value.toString();
+    }
+
+    /**
+     * Método responsável por criar um leitor de registros a partir de um Reader
+     *
+     * @param reader: reader com o conteúdo do arquivo
+     *
+     * @return RecordReader, leitor que retorna um registro por vez
+     */
+    RecordReader newRecordReader(Reader reader) {
+        return new CharRecordReader(reader);
+    }
+
+    /**
+     * Método responsável por criar um leitor de registros que localiza os registros diretamente nos bytes do stream,
+     * sem decodificar o conteúdo em um buffer de caracteres. Cada registro é transformado em string uma única vez, a
+     * partir dos seus bytes, sendo as colunas trechos desta string. Deve ser utilizado somente quando o supportsBytes
+     * retornar true para o charset
+     *
+     * @param input: stream com o conteúdo do arquivo, sem o BOM
+     * @param charset: charset do conteúdo
+     * @param detect: indica se o charset foi presumido. Neste caso, cada registro é lido como UTF-8 quando é um UTF-8
+     * válido e como ISO-8859-1 caso contrário
+     *
+     * @return RecordReader, leitor que retorna um registro por vez
+     */
+    RecordReader newRecordReader(InputStream input, Charset charset, boolean detect) {
+        return new ByteRecordReader(input, charset, detect);
+    }
+
+    /**
+     * Método que verifica se os registros do conteúdo podem ser localizados diretamente nos bytes, o que ocorre quando
+     * o delimitador e as aspas são ASCII e o charset representa os caracteres ASCII com um único byte
+     *
+     * @param charset: charset do conteúdo
+     *
+     * @return boolean, true caso o conteúdo possa ser lido pelo leitor de bytes e false caso contrário
+     */
+    boolean supportsBytes(Charset charset) {
+        return delimiter <= MAX_ASCII && quote <= MAX_ASCII && CsvCharsetDetector.isAsciiCompatible(charset);
+    }
+
+    /**
+     * Método responsável por dividir o conteúdo do arquivo em blocos que terminam sempre no final de um registro,
+     * nunca dentro de uma coluna entre aspas. Como o delimitador, as aspas e as quebras de linha são caracteres ASCII,
+     * que em UTF-8 nunca fazem parte de um caractere multibyte, a busca é feita diretamente nos bytes, sem decodificação.
+     * Caso o delimitador não seja ASCII, o conteúdo é retornado em um único bloco.
+     *
+     * @param content: conteúdo do arquivo
+     * @param chunkSize: tamanho mínimo, em bytes, de cada bloco
+     * @param charset: charset do arquivo, guardado em cada bloco, ou null caso seja identificado pelo conteúdo de cada bloco
+     *
+     * @return List<FileChunk>, blocos do arquivo, com a quantidade de registros anteriores a cada bloco
+     */
+    List<FileChunk> splitIntoChunks(byte[] content, int chunkSize, Charset charset) {
+        if (delimiter > MAX_ASCII || quote > MAX_ASCII) {
+            return Collections.singletonList(new FileChunk(content, 0, content.length, 0, charset));
+        }
+        List<FileChunk> chunks = new ArrayList<>();
+        int state = FIELD_START;
+        int chunkStart = 0;
+        int chunkLineOffset = 0;
+        int records = 0;
+        for (int i = 0; i < content.length; i++) {
+            char c = (char) (content[i] & 0xFF);
+            if ((c == '\n' || c == '\r') && state != QUOTED) {
+                if (c == '\r' && i + 1 < content.length && content[i + 1] == '\n') {
+                    i++;
+                }
+                records++;
+                state = FIELD_START;
+                int end = i + 1;
+                if (end - chunkStart >= chunkSize && end < content.length) {
+                    chunks.add(new FileChunk(content, chunkStart, end - chunkStart, chunkLineOffset, charset));
+                    chunkStart = end;
+                    chunkLineOffset = records;
+                }
+            } else {
+                state = advance(state, c);
+            }
+        }
+        chunks.add(new FileChunk(content, chunkStart, content.length - chunkStart, chunkLineOffset, charset));
+        return chunks;
+    }
+
+    /**
+     * Método responsável por localizar o fim de cada registro completo de um trecho do conteúdo, utilizando a mesma
+     * busca nos bytes do splitIntoChunks. Um registro só é completo quando possui o final de linha: o registro sem final
+     * de linha ao fim do trecho, assim como um \r no último byte (que pode ser seguido por um \n ainda não escrito),
+     * não são considerados
+     *
+     * @param content: conteúdo do arquivo
+     * @param offset: início do trecho, que deve ser o início de um registro
+     * @param length: tamanho do trecho
+     *
+     * @return int[], posição seguinte ao final de linha de cada registro completo
+     */
+    int[] findRecordEnds(byte[] content, int offset, int length) {
+        int[] ends = new int[16];
+        int records = 0;
+        int state = FIELD_START;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            char c = (char) (content[i] & 0xFF);
+            if ((c == '\n' || c == '\r') && state != QUOTED) {
+                if (c == '\r') {
+                    if (i + 1 == end) {
+                        break;
+                    }
+                    if (content[i + 1] == '\n') {
+                        i++;
+                    }
+                }
+                if (records == ends.length) {
+                    ends = Arrays.copyOf(ends, records * 2);
+                }
+                ends[records++] = i + 1;
+                state = FIELD_START;
+            } else {
+                state = advance(state, c);
+            }
+        }
+        return Arrays.copyOf(ends, records);
+    }
+
+    /**
+     * Método responsável por calcular o próximo estado da máquina após a leitura de um caractere, sem montar as colunas.
+     * Utilizado para localizar o fim dos registros
+     *
+     * @param state: estado atual
+     * @param c: caractere lido
+     *
+     * @return int, próximo estado
+     */
+    private int advance(int state, char c) {
+        switch (state) {
+            case FIELD_START:
+                return c == quote ? QUOTED : c == delimiter ? FIELD_START : UNQUOTED;
+            case UNQUOTED:
+                return c == delimiter ? FIELD_START : UNQUOTED;
+            case QUOTED:
+                return c == quote ? QUOTE_IN_QUOTED : QUOTED;
+            default:
+                return c == quote ? QUOTED : c == delimiter ? FIELD_START : UNQUOTED;
+        }
+    }
+
+    /**
+     * Leitor que divide o conteúdo de um arquivo em registros. Assim como o BufferedReader.readLine, são aceitos os
+     * finais de linha \n, \r e \r\n, porém quebras de linha dentro de colunas entre aspas fazem parte do registro.
+     */
+    abstract static class RecordReader {
+
+        /**
+         * Método responsável por ler o próximo registro
+         *
+         * @return String, contendo o registro sem o final de linha, ou null ao final do arquivo
+         *
+         * @throws IOException: verificação para casos de arquivos corrompidos
+         */
+        abstract String readRecord() throws IOException;
+    }
+
+    /**
+     * Leitor de registros a partir dos caracteres de um Reader
+     */
+    private class CharRecordReader extends RecordReader {
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private final StringBuilder record = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean skipLineFeed;
+
+        private CharRecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        String readRecord() throws IOException {
+            record.setLength(0);
+            int state = FIELD_START;
+            boolean hasContent = false;
+            while (true) {
+                if (position >= limit && !fill()) {
+                    return hasContent ? record.toString() : null;
+                }
+                int start = position;
+                while (position < limit) {
+                    char c = buffer[position];
+                    if (skipLineFeed) {
+                        skipLineFeed = false;
+                        if (c == '\n') {
+                            position++;
+                            start = position;
+                            continue;
+                        }
+                    }
+                    hasContent = true;
+                    if ((c == '\n' || c == '\r') && state != QUOTED) {
+                        record.append(buffer, start, position - start);
+                        position++;
+                        skipLineFeed = c == '\r';
+                        return record.toString();
+                    }
+                    state = advance(state, c);
+                    position++;
+                }
+                record.append(buffer, start, position - start);
+            }
+        }
+
+        private boolean fill() throws IOException {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Leitor de registros a partir dos bytes de um stream. Os registros são localizados nos bytes e, quando um registro
+     * está inteiro no buffer, a string é criada diretamente do buffer, sem cópias intermediárias
+     */
+    private class ByteRecordReader extends RecordReader {
+        private final InputStream input;
+        private final boolean detect;
+        private final Charset charset;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private byte[] record = new byte[BUFFER_SIZE];
+        private int recordLength;
+        private int position;
+        private int limit;
+        private boolean skipLineFeed;
+
+        private ByteRecordReader(InputStream input, Charset charset, boolean detect) {
+            this.input = input;
+            this.charset = charset;
+            this.detect = detect;
+        }
+
+        @Override
+        String readRecord() throws IOException {
+            recordLength = 0;
+            int state = FIELD_START;
+            boolean hasContent = false;
+            while (true) {
+                if (position >= limit && !fill()) {
+                    return hasContent ? decode(record, 0, recordLength) : null;
+                }
+                int start = position;
+                while (position < limit) {
+                    byte b = buffer[position];
+                    if (skipLineFeed) {
+                        skipLineFeed = false;
+                        if (b == '\n') {
+                            position++;
+                            start = position;
+                            continue;
+                        }
+                    }
+                    hasContent = true;
+                    if ((b == '\n' || b == '\r') && state != QUOTED) {
+                        String value;
+                        if (recordLength == 0) {
+                            value = decode(buffer, start, position - start);
+                        } else {
+                            append(start, position);
+                            value = decode(record, 0, recordLength);
+                        }
+                        position++;
+                        skipLineFeed = b == '\r';
+                        return value;
+                    }
+                    state = advance(state, (char) (b & 0xFF));
+                    position++;
+                }
+                append(start, position);
+            }
+        }
+
+        /**
+         * Método responsável por transformar os bytes de um registro em string. Quando o charset é presumido, somente o
+         * registro que não é um UTF-8 válido é lido como ISO-8859-1, e os registros seguintes voltam a ser lidos como UTF-8
+         *
+         * @param bytes: conteúdo onde está o registro
+         * @param offset: início do registro
+         * @param length: tamanho do registro
+         *
+         * @return String, registro decodificado
+         */
+        private String decode(byte[] bytes, int offset, int length) {
+            if (detect && !CsvCharsetDetector.isValidUtf8(bytes, offset, length)) {
+                return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+            }
+            return new String(bytes, offset, length, charset);
+        }
+
+        private void append(int start, int end) {
+            int length = end - start;
+            if (recordLength + length > record.length) {
+                record = Arrays.copyOf(record, Math.max(record.length * 2, recordLength + length));
+            }
+            System.arraycopy(buffer, start, record, recordLength, length);
+            recordLength += length;
+        }
+
+        private boolean fill() throws IOException {
+            limit = input.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return false;
+            }
+            return true;
+        }
+    }
+}
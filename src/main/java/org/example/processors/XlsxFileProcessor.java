@@ -1,20 +1,32 @@
 package org.example.processors;
 
 import org.apache.commons.collections4.IteratorUtils;
+import org.apache.poi.POIXMLException;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.DataFormatter;
 import org.apache.poi.ss.usermodel.DateUtil;
 import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.example.core.FilePart;
 import org.example.core.FileProcessor;
+import org.example.exception.FileProcessException;
+import org.example.exception.FileProcessorExceptionType;
 import org.example.util.FileP;
 import org.example.util.FileProcessorConstants;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 public class XlsxFileProcessor extends FileProcessor<Row, Cell> {
 
@@ -35,6 +47,81 @@ public class XlsxFileProcessor extends FileProcessor<Row, Cell> {
         return IteratorUtils.toList(rowIterator);
     }
 
+    /**
+     * Método responsável por percorrer as linhas da primeira planilha do arquivo, entregando cada linha ao consumer.
+     * Como o XSSFWorkbook carrega o documento completo, o consumo de memória da leitura é o mesmo do
+     * getLinesFromFileAsList, sendo evitado somente o acúmulo das entidades
+     *
+     * @param input: stream contendo o conteúdo do arquivo
+     * @param consumer: função que recebe cada linha do arquivo
+     *
+     * @throws IOException: verificação para casos de arquivos corrompidos
+     */
+    @Override
+    public void readLinesFromStream(InputStream input, Consumer<Row> consumer) throws IOException {
+        XSSFWorkbook content = new XSSFWorkbook(input);
+        Iterator<Row> rowIterator = content.getSheetAt(0).iterator();
+        content.close();
+        rowIterator.forEachRemaining(consumer);
+    }
+
+    /**
+     * Função que processa as planilhas informadas ao mesmo tempo no executor, retornando as entidades de cada planilha.
+     * Cada planilha possui seu próprio header, e as linhas dos erros são registradas com o nome da planilha
+     *
+     * @param file: parâmetro que contém as informações do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param sheetNames: nomes das planilhas que serão processadas, ou null para processar todas as planilhas
+     * @param executor: executor onde as planilhas serão processadas
+     *
+     * @return Map<String, List<T>>, entidades de cada planilha, indexadas pelo nome na ordem das planilhas do arquivo
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @throws IllegalArgumentException, caso alguma das planilhas informadas não exista no arquivo
+     */
+    public <T> Map<String, List<T>> processSheets(FileP file, Class<T> classe, Collection<String> sheetNames, Executor executor) throws FileProcessException {
+        return processParts(file.getName(), selectParts(getSheets(file), sheetNames), classe, executor);
+    }
+
+    /**
+     * Função que processa as planilhas informadas ao mesmo tempo no executor, entregando as entidades ao consumer
+     * junto com o nome da planilha. O consumer é chamado pelas threads do executor
+     *
+     * @param file: parâmetro que contém as informações do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param sheetNames: nomes das planilhas que serão processadas, ou null para processar todas as planilhas
+     * @param executor: executor onde as planilhas serão processadas
+     * @param consumer: função que recebe o nome da planilha e cada entidade processada
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @throws IllegalArgumentException, caso alguma das planilhas informadas não exista no arquivo
+     */
+    public <T> void processSheets(FileP file, Class<T> classe, Collection<String> sheetNames, Executor executor,
+                                  BiConsumer<String, ? super T> consumer) throws FileProcessException {
+        processParts(file.getName(), selectParts(getSheets(file), sheetNames), classe, executor, consumer);
+    }
+
+    /**
+     * Método responsável por recuperar as planilhas do arquivo
+     *
+     * @param file: parâmetro que contém o conteúdo do arquivo
+     *
+     * @return List<FilePart<Row>>, planilhas do arquivo na ordem do workbook
+     *
+     * @throws FileProcessException, caso o arquivo esteja corrompido
+     */
+    private List<FilePart<Row>> getSheets(FileP file) throws FileProcessException {
+        List<FilePart<Row>> sheets = new ArrayList<>();
+        try (XSSFWorkbook content = new XSSFWorkbook(new ByteArrayInputStream(file.getContent()))) {
+            for (Sheet sheet : content) {
+                sheets.add(new XlsxSheet(sheet));
+            }
+        } catch (IOException | POIXMLException e) {
+            throw new FileProcessException(buildMessageExceptionInvalidFile(file.getName()), new ArrayList<>(), FileProcessorExceptionType.INFALID_FILE);
+        }
+        return sheets;
+    }
+
     /**
      * Método responsável por trasformar uma linha em uma lista de colunas
      *
@@ -73,4 +160,25 @@ public class XlsxFileProcessor extends FileProcessor<Row, Cell> {
                 return null;
         }
     }
+
+    /**
+     * Planilha do workbook já carregado, cujas linhas são percorridas pelo iterator da planilha
+     */
+    private static class XlsxSheet implements FilePart<Row> {
+        private final Sheet sheet;
+
+        private XlsxSheet(Sheet sheet) {
+            this.sheet = sheet;
+        }
+
+        @Override
+        public String getName() {
+            return sheet.getSheetName();
+        }
+
+        @Override
+        public void readLines(Consumer<Row> consumer) {
+            sheet.iterator().forEachRemaining(consumer);
+        }
+    }
 }
@@ -0,0 +1,184 @@
+package org.example.processors;
+
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.example.util.FileProcessorConstants;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Handler SAX responsável por percorrer o xml de uma planilha do arquivo xlsx. Cada linha (elemento row) é entregue
+ * ao consumer como uma lista com o valor de cada célula já convertido em string, seguindo as mesmas regras do
+ * XlsxFileProcessor.getValueFromColumnAsString, de modo que o resultado seja o mesmo da leitura com XSSFWorkbook.
+ */
+class XlsxSheetHandler extends DefaultHandler {
+
+    private static final String ROW = "row";
+    private static final String CELL = "c";
+    private static final String VALUE = "v";
+    private static final String FORMULA = "f";
+    private static final String INLINE_TEXT = "t";
+    private static final String INLINE_STRING = "is";
+
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final StylesTable styles;
+    private final boolean date1904;
+    private final Consumer<List<String>> consumer;
+    private final DataFormatter formatter = new DataFormatter();
+    private final StringBuilder value = new StringBuilder();
+    private final StringBuilder formula = new StringBuilder();
+
+    private List<String> row;
+    private String cellType;
+    private String cellStyle;
+    private boolean hasValue;
+    private boolean hasFormula;
+    private boolean insideInlineString;
+    private boolean collectingValue;
+    private boolean collectingFormula;
+
+    XlsxSheetHandler(ReadOnlySharedStringsTable sharedStrings, StylesTable styles, boolean date1904, Consumer<List<String>> consumer) {
+        this.sharedStrings = sharedStrings;
+        this.styles = styles;
+        this.date1904 = date1904;
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        switch (localName) {
+            case ROW:
+                row = new ArrayList<>();
+                break;
+            case CELL:
+                cellType = attributes.getValue("t");
+                cellStyle = attributes.getValue("s");
+                hasValue = false;
+                hasFormula = false;
+                value.setLength(0);
+                formula.setLength(0);
+                break;
+            case VALUE:
+                hasValue = true;
+                collectingValue = true;
+                break;
+            case FORMULA:
+                hasFormula = true;
+                collectingFormula = true;
+                break;
+            case INLINE_STRING:
+                insideInlineString = true;
+                break;
+            case INLINE_TEXT:
+                if (insideInlineString) {
+                    hasValue = true;
+                    collectingValue = true;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+        switch (localName) {
+            case ROW:
+                consumer.accept(row);
+                row = null;
+                break;
+            case CELL:
+                row.add(getCellValueAsString());
+                break;
+            case VALUE:
+                collectingValue = false;
+                break;
+            case FORMULA:
+                collectingFormula = false;
+                break;
+            case INLINE_STRING:
+                insideInlineString = false;
+                break;
+            case INLINE_TEXT:
+                if (insideInlineString) {
+                    collectingValue = false;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (collectingValue) {
+            value.append(ch, start, length);
+        } else if (collectingFormula) {
+            formula.append(ch, start, length);
+        }
+    }
+
+    /**
+     * Método responsável por transformar a célula lida em string, de acordo com o tipo da célula
+     *
+     * @return String, contendo o valor da célula ou null para células em branco ou com erro
+     */
+    private String getCellValueAsString() {
+        if (hasFormula) {
+            return formula.toString().trim();
+        }
+        if ("s".equals(cellType)) {
+            return sharedStrings.getEntryAt(Integer.parseInt(value.toString())).trim();
+        }
+        if ("inlineStr".equals(cellType) || "str".equals(cellType)) {
+            return value.toString().trim();
+        }
+        if ("b".equals(cellType)) {
+            return String.valueOf("1".equals(value.toString()));
+        }
+        if ("e".equals(cellType) || !hasValue) {
+            return null;
+        }
+        return getNumericValueAsString(Double.parseDouble(value.toString()));
+    }
+
+    /**
+     * Método responsável por transformar uma célula numérica em string. Caso o estilo da célula seja de data, a data
+     * é formatada pelo DataFormatter, caso contrário o número é retornado sem casas decimais
+     *
+     * @param numericValue: valor numérico presente na célula
+     *
+     * @return String, contendo o valor da célula formatado
+     */
+    private String getNumericValueAsString(double numericValue) {
+        XSSFCellStyle style = getCellStyle();
+        if (style != null && DateUtil.isValidExcelDate(numericValue) && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString())) {
+            return formatter.formatRawCellContents(numericValue, style.getDataFormat(), style.getDataFormatString(), date1904).trim();
+        }
+        return BigDecimal.valueOf(numericValue).setScale(FileProcessorConstants.INDEX_CELULA_INICIAL_XLSX).toPlainString();
+    }
+
+    /**
+     * Método responsável por recuperar o estilo da célula. Assim como no XSSFCell, células sem o atributo de estilo
+     * utilizam o estilo padrão do arquivo
+     *
+     * @return XSSFCellStyle, estilo da célula ou null caso o arquivo não possua estilos
+     */
+    private XSSFCellStyle getCellStyle() {
+        if (styles == null) {
+            return null;
+        }
+        if (cellStyle != null) {
+            return styles.getStyleAt(Integer.parseInt(cellStyle));
+        }
+        return styles.getNumCellStyles() > 0 ? styles.getStyleAt(0) : null;
+    }
+}
@@ -0,0 +1,314 @@
+package org.example.processors;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.util.SAXHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.example.core.FilePart;
+import org.example.core.FileProcessor;
+import org.example.exception.FileProcessException;
+import org.example.exception.FileProcessorExceptionType;
+import org.example.util.FileP;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Processador de arquivos xlsx baseado no modelo de eventos do POI. Ao invés de montar o XSSFWorkbook com todo o
+ * documento em memória, o xml da primeira planilha é percorrido via SAX e cada linha é entregue para o processamento
+ * assim que é lida, já com o valor das células convertido em string.
+ *
+ * As demais planilhas podem ser processadas pelo processSheets, no qual cada planilha (uma parte xml independente do
+ * arquivo) é lida ao mesmo tempo que as demais.
+ */
+public class XlsxStreamingFileProcessor extends FileProcessor<List<String>, String> {
+
+    /**
+     * Método responsável por trasformar o conteudo do arquivo xlsx em uma lista de linhas
+     *
+     * @param file: parâmetro que contém o conteúdo do arquivo a ser trasformado
+     *
+     * @return List<List<String>>, na qual cada elemento corresponde à uma linha do arquivo
+     *
+     * @throws IOException: verificação para casos de arquivos corrompidos
+     */
+    @Override
+    public List<List<String>> getLinesFromFileAsList(FileP file) throws IOException {
+        List<List<String>> lines = new ArrayList<>();
+        readLinesFromStream(new ByteArrayInputStream(file.getContent()), lines::add);
+        return lines;
+    }
+
+    /**
+     * Método responsável por percorrer a primeira planilha do arquivo via SAX, entregando cada linha ao consumer
+     *
+     * @param input: stream contendo o conteúdo do arquivo
+     * @param consumer: função que recebe cada linha do arquivo
+     *
+     * @throws IOException: verificação para casos de arquivos corrompidos
+     */
+    @Override
+    public void readLinesFromStream(InputStream input, Consumer<List<String>> consumer) throws IOException {
+        OPCPackage pkg = openPackage(input);
+        try {
+            List<XlsxSheet> sheets = getSheets(pkg);
+            if (sheets.isEmpty()) {
+                throw new IOException("Arquivo xlsx sem planilhas");
+            }
+            sheets.get(0).readLines(consumer);
+        } finally {
+            pkg.revert();
+        }
+    }
+
+    /**
+     * Função que processa as planilhas informadas ao mesmo tempo no executor, retornando as entidades de cada planilha.
+     * Cada planilha possui seu próprio header, e as linhas dos erros são registradas com o nome da planilha
+     *
+     * @param file: parâmetro que contém as informações do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param sheetNames: nomes das planilhas que serão processadas, ou null para processar todas as planilhas
+     * @param executor: executor onde as planilhas serão processadas
+     *
+     * @return Map<String, List<T>>, entidades de cada planilha, indexadas pelo nome na ordem das planilhas do arquivo
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @throws IllegalArgumentException, caso alguma das planilhas informadas não exista no arquivo
+     */
+    public <T> Map<String, List<T>> processSheets(FileP file, Class<T> classe, Collection<String> sheetNames, Executor executor) throws FileProcessException {
+        OPCPackage pkg = openPackage(file);
+        try {
+            return processParts(file.getName(), selectParts(getSheets(file, pkg), sheetNames), classe, executor);
+        } finally {
+            pkg.revert();
+        }
+    }
+
+    /**
+     * Função que processa as planilhas informadas ao mesmo tempo no executor, entregando as entidades ao consumer
+     * junto com o nome da planilha. O consumer é chamado pelas threads do executor
+     *
+     * @param file: parâmetro que contém as informações do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param sheetNames: nomes das planilhas que serão processadas, ou null para processar todas as planilhas
+     * @param executor: executor onde as planilhas serão processadas
+     * @param consumer: função que recebe o nome da planilha e cada entidade processada
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @throws IllegalArgumentException, caso alguma das planilhas informadas não exista no arquivo
+     */
+    public <T> void processSheets(FileP file, Class<T> classe, Collection<String> sheetNames, Executor executor,
+                                  BiConsumer<String, ? super T> consumer) throws FileProcessException {
+        OPCPackage pkg = openPackage(file);
+        try {
+            processParts(file.getName(), selectParts(getSheets(file, pkg), sheetNames), classe, executor, consumer);
+        } finally {
+            pkg.revert();
+        }
+    }
+
+    /**
+     * Método responsável por trasformar uma linha em uma lista de colunas. Como a linha já é formada pelos valores das
+     * células, ela própria é retornada
+     *
+     * @param line: corresponde à uma linha do arquivo
+     *
+     * @return List<String>, na qual cada elemento corresponde a uma coluna presente na linha
+     */
+    @Override
+    public List<String> getColsFromLineAsList(List<String> line) {
+        return line;
+    }
+
+    /**
+     * Método responsável por transformar o conteúdo de uma coluna em string
+     *
+     * @param column: valor da coluna
+     *
+     * @return String, retorna o valor da coluna trasformado em string
+     */
+    @Override
+    public String getValueFromColumnAsString(String column) {
+        return column;
+    }
+
+    /**
+     * Método responsável por abrir o pacote OPC do arquivo xlsx
+     *
+     * @param input: stream contendo o conteúdo do arquivo
+     *
+     * @return OPCPackage, pacote contendo as partes (xmls) do arquivo
+     *
+     * @throws IOException: verificação para casos de arquivos corrompidos
+     */
+    private OPCPackage openPackage(InputStream input) throws IOException {
+        try {
+            return OPCPackage.open(input);
+        } catch (OpenXML4JException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Método responsável por abrir o pacote OPC de um arquivo xlsx para o processamento das planilhas
+     *
+     * @param file: parâmetro que contém o conteúdo do arquivo
+     *
+     * @return OPCPackage, pacote contendo as partes (xmls) do arquivo
+     *
+     * @throws FileProcessException, caso o arquivo esteja corrompido
+     */
+    private OPCPackage openPackage(FileP file) throws FileProcessException {
+        try {
+            return openPackage(new ByteArrayInputStream(file.getContent()));
+        } catch (IOException e) {
+            throw new FileProcessException(buildMessageExceptionInvalidFile(file.getName()), new ArrayList<>(), FileProcessorExceptionType.INFALID_FILE);
+        }
+    }
+
+    /**
+     * Método responsável por recuperar as planilhas do arquivo para o processamento das planilhas
+     *
+     * @param file: parâmetro que contém as informações do arquivo
+     * @param pkg: pacote do arquivo
+     *
+     * @return List<XlsxSheet>, planilhas do arquivo na ordem do workbook
+     *
+     * @throws FileProcessException, caso o arquivo esteja corrompido
+     */
+    private List<XlsxSheet> getSheets(FileP file, OPCPackage pkg) throws FileProcessException {
+        try {
+            return getSheets(pkg);
+        } catch (IOException e) {
+            throw new FileProcessException(buildMessageExceptionInvalidFile(file.getName()), new ArrayList<>(), FileProcessorExceptionType.INFALID_FILE);
+        }
+    }
+
+    /**
+     * Método responsável por recuperar as planilhas do arquivo. A tabela de strings compartilhadas e os estilos são
+     * lidos uma única vez e compartilhados entre as planilhas, que podem ser lidas ao mesmo tempo
+     *
+     * @param pkg: pacote do arquivo
+     *
+     * @return List<XlsxSheet>, planilhas do arquivo na ordem do workbook
+     *
+     * @throws IOException: verificação para casos de arquivos corrompidos
+     */
+    private List<XlsxSheet> getSheets(OPCPackage pkg) throws IOException {
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+            boolean date1904 = isDate1904(reader);
+            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) reader.getSheetsData();
+            List<XlsxSheet> sheets = new ArrayList<>();
+            while (iterator.hasNext()) {
+                iterator.next().close();
+                sheets.add(new XlsxSheet(iterator.getSheetName(), iterator.getSheetPart(), sharedStrings, styles, date1904));
+            }
+            return sheets;
+        } catch (OpenXML4JException | SAXException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Método responsável por percorrer um xml do arquivo com o handler informado
+     *
+     * @param xml: stream contendo o xml
+     * @param handler: handler SAX que receberá os eventos do xml
+     *
+     * @throws IOException: verificação para casos de arquivos corrompidos
+     * @throws SAXException: verificação para casos de xmls inválidos
+     */
+    private void parse(InputStream xml, DefaultHandler handler) throws IOException, SAXException {
+        try {
+            XMLReader parser = SAXHelper.newXMLReader();
+            parser.setContentHandler(handler);
+            parser.parse(new InputSource(xml));
+        } catch (ParserConfigurationException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    /**
+     * Método que verifica se o arquivo utiliza o sistema de datas de 1904, informação necessária para converter
+     * corretamente as células de data
+     *
+     * @param reader: reader do arquivo xlsx
+     *
+     * @return boolean, true caso o workbook esteja configurado com date1904 e false caso contrário
+     */
+    private boolean isDate1904(XSSFReader reader) throws IOException, OpenXML4JException, SAXException {
+        WorkbookPropertiesHandler handler = new WorkbookPropertiesHandler();
+        try (InputStream workbook = reader.getWorkbookData()) {
+            parse(workbook, handler);
+        }
+        return handler.date1904;
+    }
+
+    /**
+     * Planilha do arquivo xlsx, lida via SAX a partir do xml da planilha
+     */
+    private class XlsxSheet implements FilePart<List<String>> {
+        private final String name;
+        private final PackagePart part;
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final StylesTable styles;
+        private final boolean date1904;
+
+        private XlsxSheet(String name, PackagePart part, ReadOnlySharedStringsTable sharedStrings, StylesTable styles, boolean date1904) {
+            this.name = name;
+            this.part = part;
+            this.sharedStrings = sharedStrings;
+            this.styles = styles;
+            this.date1904 = date1904;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void readLines(Consumer<List<String>> consumer) throws IOException {
+            try (InputStream sheet = part.getInputStream()) {
+                parse(sheet, new XlsxSheetHandler(sharedStrings, styles, date1904, consumer));
+            } catch (SAXException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * Handler SAX que recupera as propriedades do workbook.xml necessárias para o processamento
+     */
+    private static class WorkbookPropertiesHandler extends DefaultHandler {
+        private boolean date1904;
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            if ("workbookPr".equals(localName)) {
+                String value = attributes.getValue("date1904");
+                date1904 = "1".equals(value) || "true".equalsIgnoreCase(value);
+            }
+        }
+    }
+}
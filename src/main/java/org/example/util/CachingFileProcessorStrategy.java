@@ -0,0 +1,479 @@
+package org.example.util;
+
+import org.example.core.BatchConsumer;
+import org.example.core.FileColumns;
+import org.example.core.FileProcessor;
+import org.example.core.FileProcessorQuery;
+import org.example.exception.FileProcessException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Estratégia que mantém em cache o resultado do processamento de arquivos, na frente de outra estratégia (como um
+ * FileType). O resultado é identificado pelo hash (SHA-256) do conteúdo do arquivo, pela compressão indicada no nome e
+ * pela classe base, de modo que um arquivo com conteúdo idêntico a um já processado é retornado sem ser lido
+ * novamente. Somente os processamentos de um FileP sem consulta (process e processParallel) utilizam o cache; os
+ * processamentos em modo streaming, com consulta ou colunares são repassados diretamente à estratégia.
+ *
+ * O cache é limitado pela quantidade de resultados e pela soma do tamanho dos arquivos, descartando os resultados
+ * utilizados há mais tempo (LRU). Com um diretório de spill, os resultados descartados cujas entidades são
+ * Serializable são gravados em disco e recuperados em um próximo acesso. Somente os resultados sem erros são
+ * guardados, e os resultados são compartilhados entre as chamadas: a lista retornada não pode ser alterada e as
+ * entidades não devem ser alteradas.
+ *
+ * A estratégia pode ser utilizada por várias threads ao mesmo tempo. Arquivos iguais processados ao mesmo tempo, antes
+ * do resultado do primeiro ser guardado, são processados por todas as chamadas.
+ */
+public class CachingFileProcessorStrategy implements FileProcessorQueryStrategy {
+
+    private static final String SPILL_EXTENSION = ".ser";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final FileProcessorQueryStrategy delegate;
+    private final int maxEntries;
+    private final long maxWeight;
+    private final Path spillDirectory;
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<String> spillClaims = new HashSet<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder spillHits = new LongAdder();
+    private long weight;
+
+    /**
+     * @param delegate: estratégia que processa os arquivos que não estão no cache
+     * @param maxEntries: quantidade máxima de resultados mantidos em memória
+     * @param maxWeight: soma máxima, em bytes, do tamanho dos arquivos cujos resultados são mantidos em memória
+     *
+     * @throws IllegalArgumentException, caso o maxEntries ou o maxWeight não sejam positivos
+     */
+    public CachingFileProcessorStrategy(FileProcessorQueryStrategy delegate, int maxEntries, long maxWeight) {
+        this(delegate, maxEntries, maxWeight, null);
+    }
+
+    /**
+     * @param delegate: estratégia que processa os arquivos que não estão no cache
+     * @param maxEntries: quantidade máxima de resultados mantidos em memória
+     * @param maxWeight: soma máxima, em bytes, do tamanho dos arquivos cujos resultados são mantidos em memória
+     * @param spillDirectory: diretório onde são gravados os resultados descartados da memória, ou null para descartá-los
+     *
+     * @throws IllegalArgumentException, caso o maxEntries ou o maxWeight não sejam positivos
+     */
+    public CachingFileProcessorStrategy(FileProcessorQueryStrategy delegate, int maxEntries, long maxWeight, Path spillDirectory) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries deve ser positivo: " + maxEntries);
+        }
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight deve ser positivo: " + maxWeight);
+        }
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public List<?> process(FileP file, Class classe) throws FileProcessException {
+        return processCached(file, classe, () -> delegate.process(file, classe));
+    }
+
+    @Override
+    public List<?> process(FileP file, Class classe, FileProcessorQuery query) throws FileProcessException {
+        if (!query.isAll()) {
+            return delegate.process(file, classe, query);
+        }
+        return process(file, classe);
+    }
+
+    @Override
+    public List<?> processParallel(FileP file, Class classe, Executor executor) throws FileProcessException {
+        return processCached(file, classe, () -> delegate.processParallel(file, classe, executor));
+    }
+
+    @Override
+    public <T> void process(InputStream input, String fileName, Class<T> classe, Consumer<? super T> consumer) throws FileProcessException {
+        delegate.process(input, fileName, classe, consumer);
+    }
+
+    @Override
+    public <T> void process(InputStream input, String fileName, Class<T> classe, FileProcessorQuery query, Consumer<? super T> consumer) throws FileProcessException {
+        delegate.process(input, fileName, classe, query, consumer);
+    }
+
+    @Override
+    public FileColumns processColumnar(FileP file, Class<?> classe, FileProcessorQuery query) throws FileProcessException {
+        return delegate.processColumnar(file, classe, query);
+    }
+
+    @Override
+    public FileColumns processColumnar(InputStream input, String fileName, Class<?> classe, FileProcessorQuery query) throws FileProcessException {
+        return delegate.processColumnar(input, fileName, classe, query);
+    }
+
+    @Override
+    public <T> void process(FileSource source, Class<T> classe, Consumer<? super T> consumer) throws FileProcessException {
+        delegate.process(source, classe, consumer);
+    }
+
+    @Override
+    public <T> void process(InputStream input, String fileName, Class<T> classe, BatchConsumer<T> consumer, int batchSize) throws FileProcessException {
+        delegate.process(input, fileName, classe, consumer, batchSize);
+    }
+
+    /**
+     * Método responsável por recuperar a quantidade de arquivos cujo resultado foi encontrado no cache, em memória ou
+     * no diretório de spill
+     *
+     * @return long, quantidade de acertos do cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Método responsável por recuperar a quantidade de arquivos processados pela estratégia por não estarem no cache
+     *
+     * @return long, quantidade de falhas do cache
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Método responsável por recuperar a quantidade de acertos do cache recuperados do diretório de spill
+     *
+     * @return long, quantidade de acertos lidos do disco
+     */
+    public long getSpillHits() {
+        return spillHits.sum();
+    }
+
+    /**
+     * Método responsável por recuperar a quantidade de resultados mantidos em memória
+     *
+     * @return int, quantidade de resultados em memória
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Método responsável por descartar os resultados mantidos em memória. Os resultados já gravados no diretório de
+     * spill não são removidos
+     */
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * Método responsável por recuperar o resultado do cache ou, caso ele não esteja presente, processar o arquivo e
+     * guardar o resultado
+     *
+     * @param file: arquivo a ser processado
+     * @param classe: classe base do processamento
+     * @param processing: processamento do arquivo pela estratégia
+     *
+     * @return List<?>, resultado do processamento, que não pode ser alterado
+     *
+     * @throws FileProcessException, erro do processamento do arquivo, que não é guardado no cache
+     */
+    private List<?> processCached(FileP file, Class classe, Processing processing) throws FileProcessException {
+        String key = getKey(file, classe);
+        List<?> result = get(key, classe);
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+        misses.increment();
+        result = Collections.unmodifiableList(new ArrayList<>(processing.process()));
+        put(key, new CacheEntry(result, file.getContent().length));
+        return result;
+    }
+
+    /**
+     * Método responsável por recuperar um resultado da memória ou, caso não esteja presente, do diretório de spill.
+     * O arquivo de spill é lido somente após a chave ser reservada (spillClaims), de modo que uma leitura não remove o
+     * arquivo que outra thread está lendo ou gravando para a mesma chave. Com a chave reservada por outra thread, o
+     * resultado é tratado como ausente. O resultado lido do disco volta a ser mantido em memória e o seu arquivo é
+     * removido
+     *
+     * @param key: chave do resultado
+     * @param classe: classe base, utilizada para ler as entidades gravadas
+     *
+     * @return List<?>, resultado guardado ou null caso não esteja no cache
+     */
+    private List<?> get(String key, Class<?> classe) {
+        synchronized (this) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null) {
+                return entry.result;
+            }
+            if (spillDirectory == null || !spillClaims.add(key)) {
+                return null;
+            }
+        }
+        try {
+            Path spillFile = spillDirectory.resolve(key + SPILL_EXTENSION);
+            if (!Files.exists(spillFile)) {
+                return null;
+            }
+            CacheEntry entry;
+            try (ObjectInputStream input = new EntityObjectInputStream(Files.newInputStream(spillFile), classe)) {
+                long entryWeight = input.readLong();
+                entry = new CacheEntry(Collections.unmodifiableList((List<?>) input.readObject()), entryWeight);
+            } catch (IOException | ClassNotFoundException | ClassCastException e) {
+                deleteSpillFile(spillFile);
+                return null;
+            }
+            deleteSpillFile(spillFile);
+            spillHits.increment();
+            put(key, entry);
+            return entry.result;
+        } finally {
+            releaseSpillClaim(key);
+        }
+    }
+
+    /**
+     * Método responsável por guardar um resultado em memória, descartando os resultados utilizados há mais tempo
+     * enquanto os limites do cache forem ultrapassados. Resultados maiores que o maxWeight não são guardados
+     *
+     * @param key: chave do resultado
+     * @param entry: resultado e tamanho do arquivo
+     */
+    private void put(String key, CacheEntry entry) {
+        List<Map.Entry<String, CacheEntry>> evicted = new ArrayList<>();
+        synchronized (this) {
+            if (entry.weight > maxWeight) {
+                return;
+            }
+            CacheEntry previous = entries.put(key, entry);
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += entry.weight;
+            Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || weight > maxWeight) && iterator.hasNext()) {
+                Map.Entry<String, CacheEntry> eldest = iterator.next();
+                weight -= eldest.getValue().weight;
+                evicted.add(eldest);
+                iterator.remove();
+            }
+        }
+        for (Map.Entry<String, CacheEntry> eldest : evicted) {
+            spill(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    /**
+     * Método responsável por gravar no diretório de spill um resultado descartado da memória. Resultados com entidades
+     * que não são Serializable não são gravados, e erros de gravação somente descartam o resultado. A gravação também
+     * reserva a chave, e o resultado não é gravado caso outra thread esteja lendo ou gravando o arquivo da chave
+     *
+     * @param key: chave do resultado
+     * @param entry: resultado descartado
+     */
+    private void spill(String key, CacheEntry entry) {
+        if (spillDirectory == null || !entry.result.stream().allMatch(entity -> entity == null || entity instanceof Serializable)) {
+            return;
+        }
+        synchronized (this) {
+            if (!spillClaims.add(key)) {
+                return;
+            }
+        }
+        Path spillFile = spillDirectory.resolve(key + SPILL_EXTENSION);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(spillDirectory);
+            tempFile = Files.createTempFile(spillDirectory, key, ".tmp");
+            try (ObjectOutputStream output = new ObjectOutputStream(Files.newOutputStream(tempFile))) {
+                output.writeLong(entry.weight);
+                output.writeObject(new ArrayList<>(entry.result));
+            }
+            Files.move(tempFile, spillFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            if (tempFile != null) {
+                deleteSpillFile(tempFile);
+            }
+        } finally {
+            releaseSpillClaim(key);
+        }
+    }
+
+    private synchronized void releaseSpillClaim(String key) {
+        spillClaims.remove(key);
+    }
+
+    private static void deleteSpillFile(Path spillFile) {
+        try {
+            Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+            // o arquivo será sobrescrito no próximo spill do mesmo resultado
+        }
+    }
+
+    /**
+     * Método responsável por montar a chave de um resultado, composta pelo hash do conteúdo, pela compressão indicada
+     * no nome do arquivo (o mesmo conteúdo é lido de forma diferente com e sem a extensão .gz, por exemplo) e pela
+     * classe base
+     *
+     * @param file: arquivo a ser processado
+     * @param classe: classe base do processamento
+     *
+     * @return String, chave do resultado, que também é utilizada como nome do arquivo de spill
+     */
+    private static String getKey(FileP file, Class<?> classe) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] hash = digest.digest(file.getContent());
+        StringBuilder key = new StringBuilder(hash.length * 2 + 64);
+        for (byte b : hash) {
+            key.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+        }
+        return key.append('-').append(FileCompression.fromFileName(file.getName()).name().toLowerCase(Locale.ROOT))
+            .append('-').append(classe.getName()).toString();
+    }
+
+    /**
+     * Resultado guardado no cache, junto com o tamanho do arquivo de onde foi processado
+     */
+    private static class CacheEntry {
+        private final List<?> result;
+        private final long weight;
+
+        private CacheEntry(List<?> result, long weight) {
+            this.result = result;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Processamento de um arquivo pela estratégia
+     */
+    @FunctionalInterface
+    private interface Processing {
+        List<?> process() throws FileProcessException;
+    }
+
+    /**
+     * Leitura dos resultados gravados, resolvendo as classes das entidades pelo class loader da classe base. Somente
+     * as classes que podem compor um resultado são aceitas: a classe base e suas superclasses, o ArrayList e o
+     * Object[] verificado por ele, os arrays de primitivos e os tipos dos fields preenchidos pelo processamento
+     * (FileProcessor.getFieldTypes), com suas superclasses e os tipos que eles serializam. Qualquer outra classe
+     * presente no arquivo rejeita a leitura, de modo que um arquivo alterado no diretório de spill não consegue
+     * instanciar classes arbitrárias
+     */
+    private static class EntityObjectInputStream extends ObjectInputStream {
+        private static final String JAVA_TIME_PACKAGE = "java.time";
+        private static final String JAVA_TIME_SERIAL_FORM = "java.time.Ser";
+
+        private final Class<?> entityClass;
+        private final Set<String> allowed = new HashSet<>();
+
+        private EntityObjectInputStream(InputStream input, Class<?> entityClass) throws IOException {
+            super(input);
+            this.entityClass = entityClass;
+            allowed.add(ArrayList.class.getName());
+            allowed.add(Object[].class.getName());
+            allowEntity(entityClass);
+            for (Class<?> type : FileProcessor.getFieldTypes(entityClass)) {
+                allowField(type);
+            }
+            setObjectInputFilter(this::checkClass);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass description) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(description.getName(), false, entityClass.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(description);
+            }
+        }
+
+        /**
+         * Método responsável por aceitar a classe base e suas superclasses
+         *
+         * @param type: classe base do processamento
+         */
+        private void allowEntity(Class<?> type) {
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                allowed.add(current.getName());
+            }
+        }
+
+        /**
+         * Método responsável por aceitar o tipo de um field e suas superclasses, junto com as constantes dos enums e os
+         * tipos dos fields serializados pelo tipo, como o BigInteger do BigDecimal. Os tipos do java.time são gravados
+         * pela forma serial do pacote (java.time.Ser)
+         *
+         * @param type: tipo aceito na leitura
+         */
+        private void allowField(Class<?> type) {
+            if (type.isPrimitive() || type.isArray()) {
+                return;
+            }
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                if (!allowed.add(current.getName())) {
+                    return;
+                }
+                if (current.isEnum()) {
+                    for (Object constant : current.getEnumConstants()) {
+                        allowed.add(constant.getClass().getName());
+                    }
+                }
+                if (current.getPackageName().equals(JAVA_TIME_PACKAGE)) {
+                    allowed.add(JAVA_TIME_SERIAL_FORM);
+                }
+                ObjectStreamClass description = ObjectStreamClass.lookup(current);
+                if (description != null) {
+                    for (ObjectStreamField field : description.getFields()) {
+                        allowField(field.getType());
+                    }
+                }
+            }
+        }
+
+        private ObjectInputFilter.Status checkClass(ObjectInputFilter.FilterInfo info) {
+            Class<?> type = info.serialClass();
+            if (type == null) {
+                return ObjectInputFilter.Status.UNDECIDED;
+            }
+            while (type.isArray() && type.getComponentType().isArray()) {
+                type = type.getComponentType();
+            }
+            boolean allowedType = allowed.contains(type.getName()) || type.isArray() && type.getComponentType().isPrimitive();
+            return allowedType ? ObjectInputFilter.Status.ALLOWED : ObjectInputFilter.Status.REJECTED;
+        }
+    }
+}
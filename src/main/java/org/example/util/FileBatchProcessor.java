@@ -0,0 +1,287 @@
+package org.example.util;
+
+import org.example.core.FileProcessorBase;
+import org.example.exception.FileProcessException;
+import org.example.exception.FileProcessorExceptionType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Classe responsável por processar vários arquivos de uma vez, a partir de um diretório ou de um arquivo zip. O
+ * FileType de cada arquivo é identificado pela extensão, e os arquivos são processados ao mesmo tempo em um conjunto
+ * limitado de threads (virtual threads, quando disponíveis na JVM).
+ *
+ * Somente parallelism arquivos são processados ao mesmo tempo: o próximo arquivo só é iniciado quando o resultado de
+ * um arquivo anterior é entregue ao consumer, de modo que um consumer lento também limita a leitura dos arquivos. O
+ * erro de um arquivo é retornado no seu resultado e não interrompe o processamento dos demais.
+ */
+public class FileBatchProcessor implements FileProcessorBase {
+
+    private final int parallelism;
+
+    public FileBatchProcessor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param parallelism: quantidade máxima de arquivos processados ao mesmo tempo
+     *
+     * @throws IllegalArgumentException, caso o parallelism não seja positivo
+     */
+    public FileBatchProcessor(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism deve ser positivo: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Função que processa os arquivos do diretório, incluindo os subdiretórios, retornando o resultado de cada arquivo
+     * na ordem dos caminhos
+     *
+     * @param directory: diretório com os arquivos
+     * @param glob: padrão (glob) do caminho dos arquivos, relativo ao diretório, como "*.csv", ou null para processar
+     * todos os arquivos
+     * @param classe: classe que será tomada como base para o processamento dos arquivos
+     *
+     * @return List<FileBatchResult<T>>, resultado de cada arquivo
+     *
+     * @throws IOException: verificação para casos em que o diretório não pode ser listado
+     */
+    public <T> List<FileBatchResult<T>> processDirectory(Path directory, String glob, Class<T> classe) throws IOException {
+        Map<Integer, FileBatchResult<T>> results = new TreeMap<>();
+        processDirectory(directory, glob, classe, results::put);
+        return new ArrayList<>(results.values());
+    }
+
+    /**
+     * Função que processa os arquivos do diretório, incluindo os subdiretórios, entregando o resultado de cada arquivo
+     * ao consumer assim que o arquivo é processado. O consumer é chamado na thread atual
+     *
+     * @param directory: diretório com os arquivos
+     * @param glob: padrão (glob) do caminho dos arquivos, relativo ao diretório, ou null para processar todos os arquivos
+     * @param classe: classe que será tomada como base para o processamento dos arquivos
+     * @param consumer: função que recebe o resultado de cada arquivo, na ordem em que são concluídos
+     *
+     * @throws IOException: verificação para casos em que o diretório não pode ser listado
+     */
+    public <T> void processDirectory(Path directory, String glob, Class<T> classe, Consumer<? super FileBatchResult<T>> consumer) throws IOException {
+        processDirectory(directory, glob, classe, (index, result) -> consumer.accept(result));
+    }
+
+    /**
+     * Método responsável por processar os arquivos do diretório, entregando o resultado de cada arquivo junto com a sua
+     * posição na ordem dos caminhos
+     *
+     * @param directory: diretório com os arquivos
+     * @param glob: padrão (glob) do caminho dos arquivos, relativo ao diretório, ou null para processar todos os arquivos
+     * @param classe: classe que será tomada como base para o processamento dos arquivos
+     * @param consumer: função que recebe a posição e o resultado de cada arquivo
+     *
+     * @throws IOException: verificação para casos em que o diretório não pode ser listado
+     */
+    private <T> void processDirectory(Path directory, String glob, Class<T> classe, BiConsumer<Integer, FileBatchResult<T>> consumer) throws IOException {
+        PathMatcher matcher = getMatcher(glob);
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files = paths.filter(Files::isRegularFile)
+                .filter(path -> matcher == null || matcher.matches(directory.relativize(path)))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+        List<Callable<FileBatchResult<T>>> tasks = new ArrayList<>();
+        for (Path file : files) {
+            String fileName = directory.relativize(file).toString();
+            tasks.add(() -> processFile(fileName, classe, (fileType, entities) -> fileType.process(FileSource.of(file), classe, entities::add)));
+        }
+        run(tasks, consumer);
+    }
+
+    /**
+     * Função que processa os arquivos presentes em um arquivo zip, retornando o resultado de cada arquivo na ordem das
+     * entradas do zip
+     *
+     * @param zip: caminho do arquivo zip
+     * @param glob: padrão (glob) do nome das entradas do zip, ou null para processar todas as entradas
+     * @param classe: classe que será tomada como base para o processamento dos arquivos
+     *
+     * @return List<FileBatchResult<T>>, resultado de cada arquivo
+     *
+     * @throws IOException: verificação para casos em que o zip não pode ser aberto
+     */
+    public <T> List<FileBatchResult<T>> processZip(Path zip, String glob, Class<T> classe) throws IOException {
+        Map<Integer, FileBatchResult<T>> results = new TreeMap<>();
+        processZip(zip, glob, classe, results::put);
+        return new ArrayList<>(results.values());
+    }
+
+    /**
+     * Função que processa os arquivos presentes em um arquivo zip, entregando o resultado de cada arquivo ao consumer
+     * assim que o arquivo é processado. As entradas são lidas diretamente do zip, sem serem extraídas
+     *
+     * @param zip: caminho do arquivo zip
+     * @param glob: padrão (glob) do nome das entradas do zip, ou null para processar todas as entradas
+     * @param classe: classe que será tomada como base para o processamento dos arquivos
+     * @param consumer: função que recebe o resultado de cada arquivo, na ordem em que são concluídos
+     *
+     * @throws IOException: verificação para casos em que o zip não pode ser aberto
+     */
+    public <T> void processZip(Path zip, String glob, Class<T> classe, Consumer<? super FileBatchResult<T>> consumer) throws IOException {
+        processZip(zip, glob, classe, (index, result) -> consumer.accept(result));
+    }
+
+    /**
+     * Método responsável por processar as entradas do zip, entregando o resultado de cada arquivo junto com a sua
+     * posição na ordem das entradas
+     *
+     * @param zip: caminho do arquivo zip
+     * @param glob: padrão (glob) do nome das entradas do zip, ou null para processar todas as entradas
+     * @param classe: classe que será tomada como base para o processamento dos arquivos
+     * @param consumer: função que recebe a posição e o resultado de cada arquivo
+     *
+     * @throws IOException: verificação para casos em que o zip não pode ser aberto
+     */
+    private <T> void processZip(Path zip, String glob, Class<T> classe, BiConsumer<Integer, FileBatchResult<T>> consumer) throws IOException {
+        PathMatcher matcher = getMatcher(glob);
+        try (ZipFile zipFile = new ZipFile(zip.toFile())) {
+            List<Callable<FileBatchResult<T>>> tasks = new ArrayList<>();
+            for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                if (entry.isDirectory() || (matcher != null && !matcher.matches(zip.getFileSystem().getPath(entry.getName())))) {
+                    continue;
+                }
+                tasks.add(() -> processFile(entry.getName(), classe, (fileType, entities) -> {
+                    try (InputStream input = zipFile.getInputStream(entry)) {
+                        fileType.process(input, entry.getName(), classe, entities::add);
+                    } catch (IOException e) {
+                        throw new FileProcessException(buildMessageExceptionInvalidFile(entry.getName()), new ArrayList<>(), FileProcessorExceptionType.INFALID_FILE);
+                    }
+                }));
+            }
+            run(tasks, consumer);
+        }
+    }
+
+    /**
+     * Método responsável por processar um arquivo do lote, convertendo qualquer erro em um resultado com erro
+     *
+     * @param fileName: nome do arquivo
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param processing: processamento do arquivo com o FileType identificado
+     *
+     * @return FileBatchResult<T>, resultado do arquivo
+     */
+    private <T> FileBatchResult<T> processFile(String fileName, Class<T> classe, FileProcessing<T> processing) {
+        FileType fileType = FileType.fromFileName(fileName);
+        List<T> entities = new ArrayList<>();
+        if (fileType == null) {
+            return new FileBatchResult<>(fileName, null, entities,
+                new FileProcessException(buildMessageExceptionInvalidFile(fileName), new ArrayList<>(), FileProcessorExceptionType.INFALID_FILE));
+        }
+        try {
+            processing.process(fileType, entities);
+            return new FileBatchResult<>(fileName, fileType, entities, null);
+        } catch (FileProcessException e) {
+            return new FileBatchResult<>(fileName, fileType, entities, e);
+        } catch (RuntimeException e) {
+            FileProcessException error = new FileProcessException(buildMessageExceptionInvalidFile(fileName), new ArrayList<>(), FileProcessorExceptionType.INFALID_FILE);
+            error.initCause(e);
+            return new FileBatchResult<>(fileName, fileType, entities, error);
+        }
+    }
+
+    /**
+     * Método responsável por executar as tarefas mantendo no máximo parallelism tarefas em andamento. Uma nova tarefa
+     * só é iniciada após o resultado de uma tarefa concluída ser entregue ao consumer
+     *
+     * @param tasks: tarefas, uma para cada arquivo
+     * @param consumer: função que recebe o índice da tarefa e o seu resultado
+     *
+     * @throws InterruptedIOException, caso a thread atual seja interrompida enquanto aguarda os arquivos
+     */
+    private <T> void run(List<Callable<FileBatchResult<T>>> tasks, BiConsumer<Integer, FileBatchResult<T>> consumer) throws InterruptedIOException {
+        ExecutorService executor = newExecutor();
+        try {
+            CompletionService<FileBatchResult<T>> completion = new ExecutorCompletionService<>(executor);
+            Map<Future<FileBatchResult<T>>, Integer> running = new HashMap<>();
+            int submitted = 0;
+            while (submitted < tasks.size() || !running.isEmpty()) {
+                while (running.size() < parallelism && submitted < tasks.size()) {
+                    running.put(completion.submit(tasks.get(submitted)), submitted);
+                    submitted++;
+                }
+                Future<FileBatchResult<T>> done = completion.take();
+                consumer.accept(running.remove(done), done.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Processamento dos arquivos interrompido");
+        } catch (ExecutionException e) {
+            // o processFile converte os erros dos arquivos em resultados, de modo que somente um Error chega até aqui
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw (Error) e.getCause();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Método responsável por criar o executor dos arquivos. Nas JVMs com virtual threads é criada uma virtual thread
+     * para cada arquivo, e nas demais um pool fixo com parallelism threads. Em ambos os casos a quantidade de arquivos
+     * em andamento é limitada pelo run
+     *
+     * @return ExecutorService, executor dos arquivos
+     */
+    private ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(parallelism);
+        }
+    }
+
+    /**
+     * Método responsável por criar o filtro dos caminhos a partir do glob
+     *
+     * @param glob: padrão dos caminhos, ou null para aceitar todos os caminhos
+     *
+     * @return PathMatcher, filtro dos caminhos ou null caso o glob não tenha sido informado
+     */
+    private static PathMatcher getMatcher(String glob) {
+        return glob != null ? FileSystems.getDefault().getPathMatcher("glob:" + glob) : null;
+    }
+
+    /**
+     * Processamento de um arquivo do lote com o FileType identificado, que adiciona as entidades na lista informada
+     */
+    @FunctionalInterface
+    private interface FileProcessing<T> {
+        void process(FileType fileType, List<T> entities) throws FileProcessException;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.exception.FileProcessException;
+
+import java.util.List;
+
+/**
+ * Resultado do processamento de um arquivo em lote. Como os arquivos são processados em modo streaming, as entidades
+ * válidas de um arquivo com erros também são retornadas, junto com o erro.
+ *
+ * @param <T>: tipo da classe base
+ */
+@Getter
+@AllArgsConstructor
+public class FileBatchResult<T> {
+    private String fileName;
+    private FileType fileType;
+    private List<T> entities;
+    private FileProcessException error;
+
+    /**
+     * Método que verifica se o arquivo foi processado sem erros
+     *
+     * @return boolean, true caso o arquivo não possua erros e false caso contrário
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
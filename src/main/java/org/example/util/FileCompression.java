@@ -0,0 +1,144 @@
+package org.example.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Compressões suportadas nos arquivos processados, identificadas pela extensão do arquivo (como carros.csv.gz). O gzip
+ * utiliza o GZIPInputStream da JVM, enquanto o zstd (com.github.luben:zstd-jni) e o lz4 (org.lz4:lz4-java) são
+ * utilizados somente quando a dependência estiver presente no classpath.
+ *
+ * O conteúdo é descompactado durante a leitura, em uma thread separada (ReadAheadInputStream), de modo que a
+ * descompactação ocorre ao mesmo tempo que o processamento das linhas e o arquivo descompactado nunca fica por
+ * inteiro em memória.
+ */
+public enum FileCompression {
+    NONE("", null),
+    GZIP(".gz", null),
+    ZSTD(".zst", "com.github.luben.zstd.ZstdInputStream"),
+    LZ4(".lz4", "net.jpountz.lz4.LZ4FrameInputStream");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String extension;
+    private final String streamClassName;
+
+    FileCompression(String extension, String streamClassName) {
+        this.extension = extension;
+        this.streamClassName = streamClassName;
+    }
+
+    /**
+     * Método responsável por identificar a compressão de um arquivo pela extensão
+     *
+     * @param fileName: nome do arquivo
+     *
+     * @return FileCompression, compressão do arquivo ou NONE caso o arquivo não seja compactado
+     */
+    public static FileCompression fromFileName(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        for (FileCompression compression : values()) {
+            if (compression != NONE && name.endsWith(compression.extension)) {
+                return compression;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Método responsável por remover do nome do arquivo a extensão da compressão, recuperando o nome do arquivo
+     * descompactado (carros.csv.gz -> carros.csv)
+     *
+     * @param fileName: nome do arquivo
+     *
+     * @return String, nome do arquivo sem a extensão da compressão
+     */
+    public String removeExtension(String fileName) {
+        return fileName.substring(0, fileName.length() - extension.length());
+    }
+
+    /**
+     * Método que verifica se a compressão pode ser utilizada, o que depende da presença da dependência no classpath
+     * para o zstd e o lz4
+     *
+     * @return boolean, true caso a compressão possa ser utilizada e false caso contrário
+     */
+    public boolean isAvailable() {
+        if (streamClassName == null) {
+            return true;
+        }
+        try {
+            Class.forName(streamClassName, false, FileCompression.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Método responsável por abrir o conteúdo descompactado de um stream. A descompactação é feita em uma thread
+     * separada, que lê o stream à frente do processamento. Fechar o stream retornado encerra a descompactação, mas
+     * não fecha o stream informado
+     *
+     * @param input: stream com o conteúdo compactado
+     *
+     * @return InputStream, conteúdo descompactado, ou o próprio input para NONE
+     *
+     * @throws IOException, caso o cabeçalho do conteúdo compactado seja inválido ou a dependência da compressão não
+     * esteja presente no classpath, sendo o arquivo reportado como inválido (INFALID_FILE) pelo processamento
+     */
+    public InputStream decompress(InputStream input) throws IOException {
+        if (this == NONE) {
+            return input;
+        }
+        return new ReadAheadInputStream(openStream(new NonClosingInputStream(input)), BUFFER_SIZE);
+    }
+
+    /**
+     * Método responsável por criar o stream que descompacta o conteúdo
+     *
+     * @param input: stream com o conteúdo compactado
+     *
+     * @return InputStream, stream que descompacta o conteúdo
+     *
+     * @throws IOException, caso o cabeçalho do conteúdo compactado seja inválido ou a dependência da compressão não
+     * esteja presente no classpath, sendo o arquivo reportado como inválido (INFALID_FILE) pelo processamento
+     */
+    private InputStream openStream(InputStream input) throws IOException {
+        if (streamClassName == null) {
+            return new GZIPInputStream(input, BUFFER_SIZE);
+        }
+        try {
+            Class<?> streamClass = Class.forName(streamClassName, true, FileCompression.class.getClassLoader());
+            return (InputStream) streamClass.getConstructor(InputStream.class).newInstance(input);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Dependência não encontrada para a compressão " + name() + ": " + streamClassName, e);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IOException("Não foi possível criar o stream da compressão " + name(), e);
+        }
+    }
+
+    /**
+     * Stream que não fecha o stream original, mantendo a regra de que quem abriu o stream é responsável por fechá-lo
+     */
+    private static class NonClosingInputStream extends FilterInputStream {
+
+        private NonClosingInputStream(InputStream input) {
+            super(input);
+        }
+
+        @Override
+        public void close() {
+            // o stream original é fechado por quem o abriu
+        }
+    }
+}
@@ -3,7 +3,16 @@ package org.example.util;
 public class FileProcessorConstants {
     public static final String[] DATE_FORMATES = new String[] {"yyyy-MM-dd HH:mm:ss", "dd/MM-yyyy", "dd/MM/yyyy"};
     public static final int INITIAL_LINE = 0;
-    public static final int HEADER_INDEX = 0;
     public static final int INDEX_CELULA_INICIAL_XLSX = 0;
-    public static final String REGEX_IGNORA_VIRG_ASPAS = ",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)";
+    public static final char CSV_DEFAULT_DELIMITER = ',';
+    public static final char CSV_QUOTE = '"';
+    public static final int PARALLEL_MIN_CHUNK_SIZE = 1024 * 1024;
+    public static final int PARALLEL_CHUNKS_PER_CORE = 4;
+    public static final int INCREMENTAL_TAIL_SIZE = 4 * 1024;
+    public static final int INCREMENTAL_WINDOW_SIZE = 1024 * 1024;
+    public static final int DICTIONARY_MAX_SIZE = 4096;
+    public static final int DICTIONARY_AUTO_MAX_SIZE = 256;
+    public static final int MAPPED_WINDOW_SIZE = 64 * 1024 * 1024;
+    public static final int DEFAULT_MAX_ERRORS = 1000;
+    public static final int FAIL_FAST_DISABLED = 0;
 }
@@ -0,0 +1,140 @@
+package org.example.util;
+
+import org.example.core.BatchConsumer;
+import org.example.core.FileColumns;
+import org.example.core.FileProcessorQuery;
+import org.example.exception.FileProcessException;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Estratégia que, além do processamento de um FileP, processa o arquivo em modo streaming, aplicando uma consulta
+ * (FileProcessorQuery) e em modo colunar. Implementada pelos FileType e pelos FileProcessor, que leem as linhas do
+ * stream ou da origem uma de cada vez.
+ */
+public interface FileProcessorQueryStrategy extends FileProcessorStrategy {
+    /**
+     * Neste método deve ser implementada a chamada para o processamento do arquivo aplicando a consulta informada,
+     * onde as condições são verificadas sobre as colunas antes da criação das entidades
+     *
+     * @param file: parâmetro que contém as informações do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param query: projeção e condições aplicadas às linhas do arquivo
+     *
+     * @return List<?>, lista do tipo da classe base, contendo somente as linhas que atendem às condições da consulta
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    List<?> process(FileP file, Class classe, FileProcessorQuery query) throws FileProcessException;
+
+    /**
+     * Neste método deve ser implementada a chamada para o processamento em modo streaming, onde cada entidade
+     * é entregue ao consumer assim que é processada, sem que o arquivo ou o resultado sejam mantidos em memória
+     *
+     * @param input: stream contendo o conteúdo do arquivo que será processado
+     * @param fileName: nome do arquivo, utilizado nas mensagens de erro
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param consumer: função que recebe cada entidade processada
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    default <T> void process(InputStream input, String fileName, Class<T> classe, Consumer<? super T> consumer) throws FileProcessException {
+        process(input, fileName, classe, FileProcessorQuery.all(), consumer);
+    }
+
+    /**
+     * Neste método deve ser implementada a chamada para o processamento em modo streaming aplicando a consulta
+     * informada, onde somente as linhas que atendem às condições são transformadas e entregues ao consumer
+     *
+     * @param input: stream contendo o conteúdo do arquivo que será processado
+     * @param fileName: nome do arquivo, utilizado nas mensagens de erro
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param query: projeção e condições aplicadas às linhas do arquivo
+     * @param consumer: função que recebe cada entidade processada
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    <T> void process(InputStream input, String fileName, Class<T> classe, FileProcessorQuery query, Consumer<? super T> consumer) throws FileProcessException;
+
+    /**
+     * Neste método deve ser implementada a chamada para o processamento em modo streaming a partir de uma origem do
+     * arquivo, como um arquivo local mapeado em memória (FileSource.of), sem que o conteúdo seja copiado para o heap
+     *
+     * @param source: origem do conteúdo do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param consumer: função que recebe cada entidade processada
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    <T> void process(FileSource source, Class<T> classe, Consumer<? super T> consumer) throws FileProcessException;
+
+    /**
+     * Neste método deve ser implementada a chamada para o processamento colunar do arquivo, onde os valores de cada
+     * field são guardados em arrays ao invés de entidades
+     *
+     * @param file: parâmetro que contém as informações do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param query: projeção e condições aplicadas às linhas do arquivo
+     *
+     * @return FileColumns, valores de cada field da projeção nas linhas que atendem às condições da consulta
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    FileColumns processColumnar(FileP file, Class<?> classe, FileProcessorQuery query) throws FileProcessException;
+
+    /**
+     * Neste método deve ser implementada a chamada para o processamento colunar do conteúdo de um stream
+     *
+     * @param input: stream contendo o conteúdo do arquivo que será processado
+     * @param fileName: nome do arquivo, utilizado nas mensagens de erro
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param query: projeção e condições aplicadas às linhas do arquivo
+     *
+     * @return FileColumns, valores de cada field da projeção nas linhas que atendem às condições da consulta
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    FileColumns processColumnar(InputStream input, String fileName, Class<?> classe, FileProcessorQuery query) throws FileProcessException;
+
+    /**
+     * Neste método deve ser implementada a chamada para o processamento em modo streaming com entrega em lotes, onde as
+     * entidades são agrupadas em lotes de tamanho fixo entregues ao consumer assim que completados. Deste modo a memória
+     * utilizada depende do tamanho do lote e não do tamanho do arquivo. Por padrão as entidades do processamento com
+     * Consumer são agrupadas, e o último lote, incompleto, é entregue mesmo quando o processamento lança erros
+     *
+     * @param input: stream contendo o conteúdo do arquivo que será processado
+     * @param fileName: nome do arquivo, utilizado nas mensagens de erro
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param consumer: função que recebe cada lote de entidades
+     * @param batchSize: quantidade de entidades de cada lote
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     * @throws IllegalArgumentException, caso o batchSize não seja positivo
+     */
+    default <T> void process(InputStream input, String fileName, Class<T> classe, BatchConsumer<T> consumer, int batchSize) throws FileProcessException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize deve ser positivo: " + batchSize);
+        }
+        List<T> batch = new ArrayList<>(batchSize);
+        try {
+            process(input, fileName, classe, entity -> {
+                batch.add(entity);
+                if (batch.size() == batchSize) {
+                    consumer.accept(new ArrayList<>(batch));
+                    batch.clear();
+                }
+            });
+        } catch (FileProcessException e) {
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+            }
+            throw e;
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+    }
+}
@@ -3,7 +3,13 @@ package org.example.util;
 import org.example.exception.FileProcessException;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
+/**
+ * Estratégia de processamento de um tipo de arquivo. Somente o process(FileP, Class) precisa ser implementado. Os
+ * processamentos em modo streaming, com consulta e colunar ficam no FileProcessorQueryStrategy, implementado pelos
+ * FileType e pelos FileProcessor.
+ */
 public interface FileProcessorStrategy {
     /**
      * Neste método deve ser implementado a chamada para o processamento do arquivo informado
@@ -17,4 +23,21 @@ public interface FileProcessorStrategy {
      * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
      */
     List<?> process(FileP file, Class classe) throws FileProcessException;
+
+    /**
+     * Neste método deve ser implementada a chamada para o processamento paralelo do arquivo, onde as linhas são
+     * divididas em blocos processados no executor informado, mantendo a ordem original do resultado. Por padrão o
+     * arquivo é processado pelo process(FileP, Class), na thread atual
+     *
+     * @param file: parâmetro que contém as informações do arquivo que será processado
+     * @param classe: classe que será tomada como base para o processamento do arquivo
+     * @param executor: executor onde os blocos serão processados
+     *
+     * @return List<?>, lista do tipo da classe base, contendo os dados presentes no arquivo
+     *
+     * @throws FileProcessException, validação para possiveis erros que podem ocorrer durante o processamento do arquivo
+     */
+    default List<?> processParallel(FileP file, Class classe, Executor executor) throws FileProcessException {
+        return process(file, classe);
+    }
 }
@@ -0,0 +1,65 @@
+package org.example.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+/**
+ * Origem do conteúdo de um arquivo a ser processado. Diferente do FileP, o conteúdo não precisa estar carregado em
+ * memória: a origem apenas abre o conteúdo para leitura, podendo ser lida mais de uma vez.
+ */
+public interface FileSource {
+
+    /**
+     * Método responsável por recuperar o nome do arquivo, utilizado nas mensagens de erro
+     *
+     * @return String, nome do arquivo
+     */
+    String getName();
+
+    /**
+     * Método responsável por recuperar o tamanho do conteúdo
+     *
+     * @return long, tamanho do conteúdo em bytes
+     *
+     * @throws IOException: verificação para casos em que o arquivo não pode ser acessado
+     */
+    long getSize() throws IOException;
+
+    /**
+     * Método responsável por abrir o conteúdo como um stream de bytes. O stream deve ser fechado por quem o abriu
+     *
+     * @return InputStream, stream com o conteúdo
+     *
+     * @throws IOException: verificação para casos em que o arquivo não pode ser acessado
+     */
+    InputStream openStream() throws IOException;
+
+    /**
+     * Método responsável por abrir o conteúdo como texto. Por padrão os bytes do openStream são decodificados por um
+     * InputStreamReader, podendo as implementações decodificar o conteúdo diretamente de onde ele está
+     *
+     * @param charset: charset do conteúdo
+     *
+     * @return Reader, reader com o conteúdo. Caracteres inválidos são substituídos, assim como no InputStreamReader
+     *
+     * @throws IOException: verificação para casos em que o arquivo não pode ser acessado
+     */
+    default Reader openReader(Charset charset) throws IOException {
+        return new InputStreamReader(openStream(), charset);
+    }
+
+    /**
+     * Método responsável por criar a origem de um arquivo local, lido através de janelas mapeadas em memória
+     *
+     * @param path: caminho do arquivo
+     *
+     * @return FileSource, origem do arquivo
+     */
+    static FileSource of(Path path) {
+        return new MappedFileSource(path);
+    }
+}
@@ -1,22 +1,98 @@
 package org.example.util;
 
+import org.example.core.BatchConsumer;
+import org.example.core.FileColumns;
+import org.example.core.FileProcessor;
+import org.example.core.FileProcessorQuery;
 import org.example.exception.FileProcessException;
 import org.example.processors.CsvFileProcessor;
 import org.example.processors.XlsxFileProcessor;
+import org.example.processors.XlsxStreamingFileProcessor;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
-public enum FileType implements FileProcessorStrategy {
-    XLSX() {
-        @Override
-        public List<?> process(FileP file, Class classe) throws FileProcessException {
-            return new XlsxFileProcessor().process(file, classe);
+/**
+ * Tipos de arquivo suportados. Cada tipo possui uma única instância do seu processador, compartilhada por todas as
+ * chamadas, já que os processadores não guardam o estado dos processamentos e podem ser utilizados por várias threads
+ * ao mesmo tempo.
+ */
+public enum FileType implements FileProcessorQueryStrategy {
+    XLSX(new XlsxFileProcessor()),
+    XLSX_STREAMING(new XlsxStreamingFileProcessor()),
+    CSV(new CsvFileProcessor());
+
+    private final FileProcessor<?, ?> processor;
+
+    FileType(FileProcessor<?, ?> processor) {
+        this.processor = processor;
+    }
+
+    @Override
+    public List<?> process(FileP file, Class classe) throws FileProcessException {
+        return processor.process(file, classe);
+    }
+
+    @Override
+    public List<?> process(FileP file, Class classe, FileProcessorQuery query) throws FileProcessException {
+        return processor.process(file, classe, query);
+    }
+
+    @Override
+    public List<?> processParallel(FileP file, Class classe, Executor executor) throws FileProcessException {
+        return processor.processParallel(file, classe, executor);
+    }
+
+    @Override
+    public <T> void process(InputStream input, String fileName, Class<T> classe, Consumer<? super T> consumer) throws FileProcessException {
+        processor.process(input, fileName, classe, consumer);
+    }
+
+    @Override
+    public <T> void process(InputStream input, String fileName, Class<T> classe, FileProcessorQuery query, Consumer<? super T> consumer) throws FileProcessException {
+        processor.process(input, fileName, classe, query, consumer);
+    }
+
+    @Override
+    public FileColumns processColumnar(FileP file, Class<?> classe, FileProcessorQuery query) throws FileProcessException {
+        return processor.processColumnar(file, classe, query);
+    }
+
+    @Override
+    public FileColumns processColumnar(InputStream input, String fileName, Class<?> classe, FileProcessorQuery query) throws FileProcessException {
+        return processor.processColumnar(input, fileName, classe, query);
+    }
+
+    @Override
+    public <T> void process(FileSource source, Class<T> classe, Consumer<? super T> consumer) throws FileProcessException {
+        processor.process(source, classe, consumer);
+    }
+
+    @Override
+    public <T> void process(InputStream input, String fileName, Class<T> classe, BatchConsumer<T> consumer, int batchSize) throws FileProcessException {
+        processor.process(input, fileName, classe, consumer, batchSize);
+    }
+
+    /**
+     * Método responsável por identificar o FileType de um arquivo pela extensão. Arquivos xlsx são processados pelo
+     * XLSX_STREAMING, que não carrega o documento completo em memória. A extensão de uma compressão (FileCompression) é
+     * desconsiderada, de modo que carros.csv.gz é identificado como CSV
+     *
+     * @param fileName: nome do arquivo
+     *
+     * @return FileType, tipo do arquivo ou null caso a extensão não seja suportada
+     */
+    public static FileType fromFileName(String fileName) {
+        String name = FileCompression.fromFileName(fileName).removeExtension(fileName).toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
         }
-    },
-    CSV() {
-        @Override
-        public List<?> process(FileP file, Class classe) throws FileProcessException {
-            return new CsvFileProcessor().process(file, classe);
+        if (name.endsWith(".xlsx")) {
+            return XLSX_STREAMING;
         }
-    };
+        return null;
+    }
 }
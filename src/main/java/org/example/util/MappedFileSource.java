@@ -0,0 +1,225 @@
+package org.example.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Origem de um arquivo local lida através do FileChannel.map. O arquivo é mapeado em janelas de tamanho fixo, uma de
+ * cada vez, e o texto é decodificado diretamente das janelas mapeadas, sem que o conteúdo seja copiado para o heap.
+ * Como as posições das janelas são long, arquivos maiores que 2 GB também são suportados.
+ *
+ * Quando um caractere multibyte fica dividido entre duas janelas, a janela seguinte é mapeada a partir do primeiro
+ * byte não decodificado, de modo que nenhum caractere precisa ser montado a partir de janelas diferentes. Bytes que não
+ * são válidos no charset informado são substituídos, assim como no InputStreamReader.
+ *
+ * O openStream também lê os bytes das janelas mapeadas, sendo utilizado pelos processadores que localizam os registros
+ * diretamente nos bytes.
+ */
+public class MappedFileSource implements FileSource {
+
+    private static final int MIN_WINDOW_SIZE = 16;
+
+    private final Path path;
+    private final int windowSize;
+
+    public MappedFileSource(Path path) {
+        this(path, FileProcessorConstants.MAPPED_WINDOW_SIZE);
+    }
+
+    /**
+     * Construtor que permite informar o tamanho das janelas mapeadas
+     *
+     * @param path: caminho do arquivo
+     * @param windowSize: tamanho, em bytes, de cada janela
+     *
+     * @throws IllegalArgumentException, caso o windowSize seja menor que 16 bytes
+     */
+    public MappedFileSource(Path path, int windowSize) {
+        if (windowSize < MIN_WINDOW_SIZE) {
+            throw new IllegalArgumentException("windowSize deve ser de no mínimo " + MIN_WINDOW_SIZE + " bytes: " + windowSize);
+        }
+        this.path = path;
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public String getName() {
+        return path.getFileName().toString();
+    }
+
+    @Override
+    public long getSize() throws IOException {
+        return Files.size(path);
+    }
+
+    @Override
+    public InputStream openStream() throws IOException {
+        return new MappedInputStream(FileChannel.open(path, StandardOpenOption.READ), windowSize);
+    }
+
+    @Override
+    public Reader openReader(Charset charset) throws IOException {
+        return new MappedReader(FileChannel.open(path, StandardOpenOption.READ), charset, windowSize);
+    }
+
+    /**
+     * Reader que decodifica o conteúdo das janelas mapeadas diretamente no buffer de quem está lendo
+     */
+    private static class MappedReader extends Reader {
+        private final FileChannel channel;
+        private final CharsetDecoder decoder;
+        private final int windowSize;
+        private final long size;
+        private MappedByteBuffer window;
+        private long windowStart;
+        private boolean finished;
+        private final CharBuffer pair = CharBuffer.allocate(2);
+        private boolean hasPending;
+
+        private MappedReader(FileChannel channel, Charset charset, int windowSize) throws IOException {
+            this.channel = channel;
+            this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.windowSize = windowSize;
+            this.size = channel.size();
+        }
+
+        /**
+         * Método responsável por decodificar os próximos caracteres no buffer informado, mapeando as janelas conforme
+         * o conteúdo é consumido
+         *
+         * @param buffer: buffer que receberá os caracteres
+         * @param offset: posição inicial no buffer
+         * @param length: quantidade máxima de caracteres
+         *
+         * @return int, quantidade de caracteres lidos ou -1 ao final do arquivo
+         *
+         * @throws IOException: verificação para casos em que o arquivo não pode ser mapeado
+         */
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            CharBuffer out = CharBuffer.wrap(buffer, offset, length);
+            if (hasPending) {
+                out.put(pair.get());
+                hasPending = false;
+            }
+            while (out.position() == offset) {
+                if (finished) {
+                    return -1;
+                }
+                if (window == null) {
+                    window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(windowSize, size - windowStart));
+                }
+                boolean lastWindow = windowStart + window.limit() == size;
+                CoderResult result = decoder.decode(window, out, lastWindow);
+                if (result.isUnderflow()) {
+                    if (lastWindow) {
+                        finished = decoder.flush(out).isUnderflow();
+                    } else {
+                        windowStart += window.position();
+                        window = null;
+                    }
+                } else if (result.isOverflow() && out.position() == offset) {
+                    readPair(out);
+                }
+            }
+            return out.position() - offset;
+        }
+
+        /**
+         * Método responsável por tratar leituras de um único caractere quando o próximo caractere é um par de
+         * surrogates, que não cabe no buffer de quem está lendo. O par é decodificado em um buffer próprio e o segundo
+         * caractere é entregue na próxima leitura
+         *
+         * @param out: buffer de quem está lendo
+         */
+        private void readPair(CharBuffer out) {
+            pair.clear();
+            decoder.decode(window, pair, false);
+            pair.flip();
+            out.put(pair.get());
+            hasPending = pair.hasRemaining();
+        }
+
+        @Override
+        public void close() throws IOException {
+            window = null;
+            channel.close();
+        }
+    }
+
+    /**
+     * Stream que copia os bytes das janelas mapeadas diretamente no buffer de quem está lendo
+     */
+    private static class MappedInputStream extends InputStream {
+        private final FileChannel channel;
+        private final int windowSize;
+        private final long size;
+        private MappedByteBuffer window;
+        private long windowStart;
+
+        private MappedInputStream(FileChannel channel, int windowSize) throws IOException {
+            this.channel = channel;
+            this.windowSize = windowSize;
+            this.size = channel.size();
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        /**
+         * Método responsável por copiar os próximos bytes no buffer informado, mapeando as janelas conforme o conteúdo
+         * é consumido
+         *
+         * @param buffer: buffer que receberá os bytes
+         * @param offset: posição inicial no buffer
+         * @param length: quantidade máxima de bytes
+         *
+         * @return int, quantidade de bytes lidos ou -1 ao final do arquivo
+         *
+         * @throws IOException: verificação para casos em que o arquivo não pode ser mapeado
+         */
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (window == null || !window.hasRemaining()) {
+                if (window != null) {
+                    windowStart += window.limit();
+                }
+                if (windowStart >= size) {
+                    return -1;
+                }
+                window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(windowSize, size - windowStart));
+            }
+            int count = Math.min(length, window.remaining());
+            window.get(buffer, offset, count);
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            window = null;
+            channel.close();
+        }
+    }
+}
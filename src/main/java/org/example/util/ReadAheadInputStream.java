@@ -0,0 +1,160 @@
+package org.example.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stream que lê o stream original em uma thread separada, à frente de quem está lendo. Os blocos lidos são guardados
+ * em uma fila limitada, de modo que a leitura do stream original (como uma descompactação) ocorre ao mesmo tempo que o
+ * processamento do conteúdo já lido, utilizando no máximo QUEUE_SIZE blocos de memória. As leituras são executadas em
+ * um pool compartilhado de threads daemon, que reaproveita as threads entre os arquivos.
+ *
+ * Os erros da leitura do stream original são lançados para quem está lendo, na posição em que ocorreram. O close não
+ * aguarda a thread de leitura, nem a interrompe (o que fecharia streams baseados em canais interrompíveis): a thread
+ * encerra a leitura após o bloco atual e é ela quem fecha o stream original. Uma leitura bloqueada em uma origem lenta
+ * é liberada quando quem abriu a origem a fecha.
+ */
+public class ReadAheadInputStream extends InputStream {
+
+    private static final int QUEUE_SIZE = 4;
+    private static final byte[] END = new byte[0];
+    private static final long OFFER_WAIT_MILLIS = 10;
+    private static final ExecutorService READERS = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "file-processor-read-ahead");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final InputStream input;
+    private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+    private volatile IOException error;
+    private volatile boolean closed;
+    private byte[] current = new byte[0];
+    private int position;
+    private boolean finished;
+
+    /**
+     * @param input: stream original, que passa a ser lido e fechado somente pela thread de leitura
+     * @param blockSize: tamanho, em bytes, de cada bloco lido à frente
+     */
+    public ReadAheadInputStream(InputStream input, int blockSize) {
+        this.input = input;
+        READERS.execute(() -> readAhead(blockSize));
+    }
+
+    /**
+     * Método executado pela thread de leitura, que lê o stream original em blocos até o fim do conteúdo, um erro ou o
+     * fechamento do stream, fechando o stream original ao final
+     *
+     * @param blockSize: tamanho de cada bloco
+     */
+    private void readAhead(int blockSize) {
+        try (InputStream source = input) {
+            while (!closed) {
+                byte[] block = new byte[blockSize];
+                int length = source.readNBytes(block, 0, blockSize);
+                if (length == 0) {
+                    break;
+                }
+                offer(length == blockSize ? block : Arrays.copyOf(block, length));
+            }
+        } catch (IOException e) {
+            error = e;
+        } catch (InterruptedException e) {
+            return;
+        } catch (RuntimeException e) {
+            error = new IOException(e);
+        }
+        try {
+            offer(END);
+        } catch (InterruptedException e) {
+            // o leitor não receberá mais blocos, já que o pool está sendo encerrado
+        }
+    }
+
+    /**
+     * Método responsável por entregar um bloco na fila, aguardando espaço enquanto o stream não for fechado
+     *
+     * @param block: bloco lido
+     *
+     * @throws InterruptedException, caso a thread de leitura seja interrompida
+     */
+    private void offer(byte[] block) throws InterruptedException {
+        while (!closed && !queue.offer(block, OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+            // aguarda o leitor consumir os blocos anteriores
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!nextBlock()) {
+            return -1;
+        }
+        return current[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!nextBlock()) {
+            return -1;
+        }
+        int read = Math.min(length, current.length - position);
+        System.arraycopy(current, position, buffer, offset, read);
+        position += read;
+        return read;
+    }
+
+    @Override
+    public int available() {
+        return current.length - position;
+    }
+
+    /**
+     * Método responsável por garantir que o bloco atual possua bytes a serem lidos, aguardando o próximo bloco da
+     * thread de leitura quando necessário
+     *
+     * @return boolean, true caso existam bytes a serem lidos e false ao final do conteúdo
+     *
+     * @throws IOException, caso a leitura do stream original tenha falhado ou a thread atual seja interrompida
+     */
+    private boolean nextBlock() throws IOException {
+        if (closed) {
+            throw new IOException("Stream fechado");
+        }
+        while (position == current.length) {
+            if (finished) {
+                return false;
+            }
+            try {
+                current = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            position = 0;
+            if (current == END) {
+                finished = true;
+                if (error != null) {
+                    throw error;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        queue.clear();
+    }
+}
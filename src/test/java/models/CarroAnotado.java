@@ -0,0 +1,18 @@
+package models;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.example.core.FileEntity;
+import org.example.core.FileProcessorIgnore;
+
+@Getter
+@Setter
+@FileEntity
+public class CarroAnotado {
+    private String tipo;
+    private String fabricante;
+    private String modelo;
+    private Double preco;
+    @FileProcessorIgnore
+    private boolean promocao;
+}
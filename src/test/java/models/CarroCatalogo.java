@@ -0,0 +1,14 @@
+package models;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.example.core.FileDictionary;
+
+@Getter
+@Setter
+public class CarroCatalogo {
+    @FileDictionary(maxSize = 2)
+    private String fabricante;
+    @FileDictionary(maxSize = 0)
+    private String modelo;
+}
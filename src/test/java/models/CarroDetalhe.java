@@ -0,0 +1,23 @@
+package models;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.example.core.FileEntity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@Setter
+@FileEntity
+public class CarroDetalhe implements Serializable {
+    private UUID codigo;
+    private String modelo;
+    private Combustivel combustivel;
+    private int ano;
+    private long quilometragem;
+    private double preco;
+    private boolean usado;
+    private LocalDate dataVenda;
+}
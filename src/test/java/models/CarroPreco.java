@@ -0,0 +1,13 @@
+package models;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+public class CarroPreco implements Serializable {
+    private String modelo;
+    private Double preco;
+}
@@ -0,0 +1,29 @@
+package models;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.example.core.FileEntity;
+
+@Getter
+@Setter
+@FileEntity
+public class CarroRejeitado {
+    private String tipo;
+    private String fabricante;
+    private String modelo;
+    private Double preco;
+
+    public void setTipo(String tipo) {
+        if ("ERRO".equals(tipo)) {
+            throw new Error(tipo);
+        }
+        this.tipo = tipo;
+    }
+
+    public void setModelo(String modelo) {
+        if ("REJEITADO".equals(modelo)) {
+            throw new IllegalStateException(modelo);
+        }
+        this.modelo = modelo;
+    }
+}
@@ -0,0 +1,18 @@
+package models;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Setter;
+import org.example.core.FileEntity;
+
+@Data
+@FileEntity
+public class CarroRestrito {
+    private String modelo;
+    @Setter(AccessLevel.PRIVATE)
+    private Double preco;
+    @Setter(AccessLevel.NONE)
+    private int ano;
+    @Setter(AccessLevel.PACKAGE)
+    private boolean usado;
+}
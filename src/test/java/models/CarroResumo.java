@@ -0,0 +1,14 @@
+package models;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.example.core.FileColumn;
+
+@Getter
+@Setter
+public class CarroResumo {
+    @FileColumn(name = "Modelo")
+    private String modelo;
+    @FileColumn(name = "Preço")
+    private Double preco;
+}
@@ -0,0 +1,17 @@
+package models;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.example.core.FileDateFormat;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+@Getter
+@Setter
+public class CarroVenda {
+    private String modelo;
+    private Date dataCadastro;
+    @FileDateFormat({"dd/MM/yyyy HH:mm", "dd.MM.yyyy"})
+    private LocalDateTime dataVenda;
+}
@@ -0,0 +1,5 @@
+package models;
+
+public enum Combustivel {
+    FLEX, GASOLINA, DIESEL
+}
@@ -0,0 +1,31 @@
+package processors;
+
+import org.example.util.FileP;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Arquivos e conteúdos compartilhados pelos testes do processador csv
+ */
+final class CsvTestFiles {
+
+    private CsvTestFiles() {
+    }
+
+    static FileP getFileP() throws IOException, URISyntaxException {
+        FileP fileP = new FileP();
+        fileP.setName("base_dados_carros.csv");
+        fileP.setContent(Files.readAllBytes(Path.of(CsvTestFiles.class.getResource("/base_dados_carros.csv").toURI())));
+        return fileP;
+    }
+
+    static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
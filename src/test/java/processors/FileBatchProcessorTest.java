@@ -0,0 +1,82 @@
+package processors;
+
+import models.Carro;
+import models.CarroRejeitado;
+import org.example.exception.FileProcessorExceptionType;
+import org.example.util.FileBatchProcessor;
+import org.example.util.FileBatchResult;
+import org.example.util.FileType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public class FileBatchProcessorTest {
+
+    @Test
+    public void testeLoteArquivos() throws Exception {
+        Path directory = Files.createTempDirectory("carros");
+        Path zip = Files.createTempFile("carros", ".zip");
+        try {
+            for (int i = 0; i < 6; i++) {
+                StringBuilder content = new StringBuilder("Tipo,Fabricante,Modelo,Preco\n");
+                for (int j = 0; j <= i; j++) {
+                    content.append("Flex,Chevrolet,MODELO ").append(j).append(',').append(i == 3 && j == 1 ? "abc" : String.valueOf(j)).append('\n');
+                }
+                Files.write(directory.resolve("carros_" + i + ".csv"), content.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            Files.write(directory.resolve("leiame.txt"), "sem dados".getBytes(StandardCharsets.UTF_8));
+            try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(zip))) {
+                for (int i = 5; i >= 0; i--) {
+                    output.putNextEntry(new ZipEntry("mensal/carros_" + i + ".csv"));
+                    output.write(Files.readAllBytes(directory.resolve("carros_" + i + ".csv")));
+                    output.closeEntry();
+                }
+            }
+
+            FileBatchProcessor processor = new FileBatchProcessor(2);
+            List<FileBatchResult<Carro>> results = processor.processDirectory(directory, null, Carro.class);
+            Assert.assertEquals(7, results.size());
+            for (int i = 0; i < 6; i++) {
+                FileBatchResult<Carro> result = results.get(i);
+                Assert.assertEquals("carros_" + i + ".csv", result.getFileName());
+                Assert.assertEquals(FileType.CSV, result.getFileType());
+                Assert.assertEquals(i != 3, result.isSuccess());
+                Assert.assertEquals(i == 3 ? i : i + 1, result.getEntities().size());
+            }
+            Assert.assertEquals(FileProcessorExceptionType.INFALID_FILE, results.get(6).getError().getTypeError());
+            Assert.assertEquals(6, processor.processDirectory(directory, "*.csv", Carro.class).size());
+
+            results = processor.processZip(zip, "mensal/*.csv", Carro.class);
+            Assert.assertEquals(6, results.size());
+            Assert.assertEquals("mensal/carros_5.csv", results.get(0).getFileName());
+            Assert.assertEquals(6, results.get(0).getEntities().size());
+            Assert.assertEquals(FileProcessorExceptionType.NONSTANDARD_FILE, results.get(2).getError().getTypeError());
+
+            Files.write(directory.resolve("erro.csv"), "Tipo,Fabricante,Modelo,Preco\nERRO,Chevrolet,ONIX,1\n".getBytes(StandardCharsets.UTF_8));
+            Error error = null;
+            try {
+                processor.processDirectory(directory, "erro.csv", CarroRejeitado.class);
+            } catch (Error e) {
+                error = e;
+            }
+            Assert.assertNotNull(error);
+            Assert.assertEquals("ERRO", error.getMessage());
+        } finally {
+            try (Stream<Path> paths = Files.list(directory)) {
+                for (Path path : paths.collect(Collectors.toList())) {
+                    Files.delete(path);
+                }
+            }
+            Files.delete(directory);
+            Files.delete(zip);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package processors;
+
+import models.Carro;
+import org.example.exception.FileProcessException;
+import org.example.util.FileType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FileProcessorBatchConsumerTest {
+
+    @Test
+    public void testeLotes() throws Exception {
+        StringBuilder content = new StringBuilder("Tipo,Fabricante,Modelo,Preco\n");
+        for (int i = 0; i < 25; i++) {
+            content.append("Flex,Chevrolet,MODELO ").append(i).append(',').append(i == 12 ? "abc" : String.valueOf(i)).append('\n');
+        }
+        List<List<Carro>> batches = new ArrayList<>();
+        try {
+            FileType.CSV.process(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)), "carros.csv", Carro.class, batches::add, 10);
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertEquals(1, e.getLogErros().size());
+        }
+        Assert.assertEquals(3, batches.size());
+        Assert.assertEquals(10, batches.get(0).size());
+        Assert.assertEquals(10, batches.get(1).size());
+        Assert.assertEquals(4, batches.get(2).size());
+        Assert.assertEquals("MODELO 24", batches.get(2).get(3).getModelo());
+    }
+}
@@ -0,0 +1,69 @@
+package processors;
+
+import models.Carro;
+import models.CarroAnotado;
+import models.CarroDetalhe;
+import models.CarroRestrito;
+import org.example.core.FileEntityBinder;
+import org.example.processors.CsvFileProcessor;
+import org.example.util.FileType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FileProcessorBinderTest {
+
+    @Test
+    public void testeBinderGerado() throws Exception {
+        FileEntityBinder<CarroDetalhe> binder = (FileEntityBinder<CarroDetalhe>) Class.forName("models.CarroDetalhe" + FileEntityBinder.SUFFIX)
+            .getDeclaredConstructor().newInstance();
+        Assert.assertTrue(binder.indexOf("ano") >= 0);
+        Assert.assertTrue(binder.indexOf("preco") >= 0);
+        Assert.assertEquals(-1, binder.indexOf("dataVenda"));
+        Assert.assertEquals(-1, binder.indexOf("combustivel"));
+        CarroDetalhe carro = binder.newInstance();
+        binder.set(carro, binder.indexOf("ano"), "x2020x", 1, 5);
+        binder.set(carro, binder.indexOf("modelo"), "ONIX", 0, 4);
+        binder.set(carro, binder.indexOf("usado"), null, 0, 0);
+        Assert.assertEquals(2020, carro.getAno());
+        Assert.assertEquals("ONIX", carro.getModelo());
+        Assert.assertFalse(carro.isUsado());
+
+        FileEntityBinder<CarroAnotado> carroBinder = (FileEntityBinder<CarroAnotado>) Class.forName("models.CarroAnotado" + FileEntityBinder.SUFFIX)
+            .getDeclaredConstructor().newInstance();
+        Assert.assertEquals(-1, carroBinder.indexOf("promocao"));
+        CarroAnotado semPreco = carroBinder.newInstance();
+        carroBinder.set(semPreco, carroBinder.indexOf("preco"), null, 0, 0);
+        Assert.assertNull(semPreco.getPreco());
+        try {
+            carroBinder.set(semPreco, carroBinder.indexOf("preco"), "abc", 0, 3);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertNull(semPreco.getPreco());
+        }
+        List<CarroAnotado> anotados = (List<CarroAnotado>) FileType.CSV.process(CsvTestFiles.getFileP(), CarroAnotado.class);
+        List<Carro> carros = (List<Carro>) FileType.CSV.process(CsvTestFiles.getFileP(), Carro.class);
+        Assert.assertEquals(carros.size(), anotados.size());
+        for (int i = 0; i < carros.size(); i++) {
+            Assert.assertEquals(carros.get(i).getModelo(), anotados.get(i).getModelo());
+            Assert.assertEquals(carros.get(i).getPreco(), anotados.get(i).getPreco());
+        }
+
+        FileEntityBinder<CarroRestrito> restritoBinder = (FileEntityBinder<CarroRestrito>) Class.forName("models.CarroRestrito" + FileEntityBinder.SUFFIX)
+            .getDeclaredConstructor().newInstance();
+        Assert.assertTrue(restritoBinder.indexOf("modelo") >= 0);
+        Assert.assertTrue(restritoBinder.indexOf("usado") >= 0);
+        Assert.assertEquals(-1, restritoBinder.indexOf("preco"));
+        Assert.assertEquals(-1, restritoBinder.indexOf("ano"));
+        List<CarroRestrito> restritos = new ArrayList<>();
+        new CsvFileProcessor().process(new ByteArrayInputStream("Modelo,Preco,Ano,Usado\nONIX,10.5,2020,true\n".getBytes(StandardCharsets.UTF_8)),
+            "carros.csv", CarroRestrito.class, restritos::add);
+        Assert.assertEquals(10.5, restritos.get(0).getPreco(), 0);
+        Assert.assertEquals(2020, restritos.get(0).getAno());
+        Assert.assertTrue(restritos.get(0).isUsado());
+    }
+}
@@ -0,0 +1,132 @@
+package processors;
+
+import models.Carro;
+import models.CarroDetalhe;
+import models.CarroPreco;
+import models.Combustivel;
+import org.example.core.FileProcessorQuery;
+import org.example.exception.FileProcessException;
+import org.example.exception.FileProcessorExceptionType;
+import org.example.util.CachingFileProcessorStrategy;
+import org.example.util.FileP;
+import org.example.util.FileType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+public class FileProcessorCacheTest {
+
+    @Test
+    public void testeCache() throws Exception {
+        CachingFileProcessorStrategy cache = new CachingFileProcessorStrategy(FileType.CSV, 2, 1024 * 1024);
+        List<Carro> primeiro = (List<Carro>) cache.process(CsvTestFiles.getFileP(), Carro.class);
+        FileP copia = CsvTestFiles.getFileP();
+        copia.setName("reenvio.csv");
+        List<Carro> segundo = (List<Carro>) cache.process(copia, Carro.class);
+        Assert.assertSame(primeiro, segundo);
+        Assert.assertEquals(1, cache.getHits());
+        Assert.assertEquals(1, cache.getMisses());
+        Assert.assertNotSame(primeiro, cache.process(CsvTestFiles.getFileP(), Carro.class, FileProcessorQuery.select("modelo")));
+        Assert.assertSame(primeiro, cache.process(CsvTestFiles.getFileP(), Carro.class, FileProcessorQuery.select()));
+        try {
+            primeiro.add(new Carro());
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            Assert.assertEquals(3, primeiro.size());
+        }
+
+        FileP invalido = CsvTestFiles.getFileP();
+        invalido.setContent(("Tipo,Fabricante,Modelo,Preco\nFlex,Fiat,UNO,abc\n").getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.process(invalido, Carro.class);
+                Assert.fail();
+            } catch (FileProcessException e) {
+                Assert.assertEquals(FileProcessorExceptionType.NONSTANDARD_FILE, e.getTypeError());
+            }
+        }
+        Assert.assertEquals(3, cache.getMisses());
+
+        Path spill = Files.createTempDirectory("cache");
+        try {
+            CachingFileProcessorStrategy disco = new CachingFileProcessorStrategy(FileType.CSV, 2, 1024 * 1024, spill);
+            List<FileP> arquivos = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                FileP arquivo = new FileP();
+                arquivo.setName("precos" + i + ".csv");
+                arquivo.setContent(("Modelo,Preco\nMODELO " + i + "," + i + ".5\n").getBytes(StandardCharsets.UTF_8));
+                arquivos.add(arquivo);
+                disco.process(arquivo, CarroPreco.class);
+            }
+            Assert.assertEquals(2, disco.size());
+            List<CarroPreco> recuperado = (List<CarroPreco>) disco.process(arquivos.get(0), CarroPreco.class);
+            Assert.assertEquals("MODELO 0", recuperado.get(0).getModelo());
+            Assert.assertEquals(0.5, recuperado.get(0).getPreco(), 0);
+            Assert.assertEquals(1, disco.getHits());
+            Assert.assertEquals(1, disco.getSpillHits());
+            Assert.assertEquals(3, disco.getMisses());
+
+            Path gravado;
+            try (Stream<Path> files = Files.list(spill)) {
+                gravado = files.filter(file -> file.toString().endsWith(".ser")).findFirst().orElseThrow();
+            }
+            try (ObjectOutputStream output = new ObjectOutputStream(Files.newOutputStream(gravado))) {
+                output.writeLong(1);
+                output.writeObject(new ArrayList<>(Collections.singletonList(new HashMap<>(Collections.singletonMap("modelo", "X")))));
+            }
+            List<CarroPreco> reprocessado = (List<CarroPreco>) disco.process(arquivos.get(1), CarroPreco.class);
+            Assert.assertEquals("MODELO 1", reprocessado.get(0).getModelo());
+            Assert.assertEquals(1, disco.getSpillHits());
+            Assert.assertEquals(4, disco.getMisses());
+            Assert.assertFalse(Files.exists(gravado));
+
+            CachingFileProcessorStrategy detalhes = new CachingFileProcessorStrategy(FileType.CSV, 1, 1024 * 1024, spill.resolve("detalhes"));
+            FileP detalhe = new FileP();
+            detalhe.setName("detalhes.csv");
+            detalhe.setContent(("Codigo,Modelo,Combustivel,Ano,Quilometragem,Preco,Usado,Data\n"
+                + "3f2b1c9e-7a4d-4e2b-9c1a-5d6e7f8a9b0c,ONIX,Flex,2020,35000,53050.75,TRUE,2021-03-15\n").getBytes(StandardCharsets.UTF_8));
+            detalhes.process(detalhe, CarroDetalhe.class);
+            detalhes.process(arquivos.get(2), CarroPreco.class);
+            CarroDetalhe lido = ((List<CarroDetalhe>) detalhes.process(detalhe, CarroDetalhe.class)).get(0);
+            Assert.assertEquals(1, detalhes.getSpillHits());
+            Assert.assertEquals(UUID.fromString("3f2b1c9e-7a4d-4e2b-9c1a-5d6e7f8a9b0c"), lido.getCodigo());
+            Assert.assertEquals(Combustivel.FLEX, lido.getCombustivel());
+            Assert.assertEquals(LocalDate.of(2021, 3, 15), lido.getDataVenda());
+
+            CachingFileProcessorStrategy concorrente = new CachingFileProcessorStrategy(FileType.CSV, 1, 1024 * 1024, spill.resolve("concorrente"));
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<String>> modelos = new ArrayList<>();
+                for (int i = 0; i < 400; i++) {
+                    FileP arquivo = arquivos.get(i % 2);
+                    modelos.add(executor.submit(() -> ((List<CarroPreco>) concorrente.process(arquivo, CarroPreco.class)).get(0).getModelo()));
+                }
+                for (int i = 0; i < modelos.size(); i++) {
+                    Assert.assertEquals("MODELO " + (i % 2), modelos.get(i).get());
+                }
+            } finally {
+                executor.shutdown();
+            }
+            Assert.assertEquals(400, concorrente.getHits() + concorrente.getMisses());
+        } finally {
+            try (Stream<Path> files = Files.walk(spill)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package processors;
+
+import models.CarroResumo;
+import org.example.processors.CsvFileProcessor;
+import org.example.util.FileP;
+import org.example.util.FileType;
+import org.example.util.MappedFileSource;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class FileProcessorCharsetTest {
+
+    @Test
+    public void testeCharset() throws Exception {
+        String content = "Modelo,Preço\nAÇÃO ÉLAN,100\n\"PÁRIS\nSÉRIE\",200.5\r\nMODELO\r\n";
+        List<byte[]> arquivos = Arrays.asList(
+            content.getBytes(StandardCharsets.ISO_8859_1),
+            content.getBytes(StandardCharsets.UTF_8),
+            CsvTestFiles.concat(new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF}, content.getBytes(StandardCharsets.UTF_8)),
+            CsvTestFiles.concat(new byte[] {(byte) 0xFF, (byte) 0xFE}, content.getBytes(StandardCharsets.UTF_16LE)),
+            ("Modelo,Preço\nSIMPLES,1\n" + content.substring(content.indexOf('\n') + 1)).getBytes(StandardCharsets.ISO_8859_1));
+        for (byte[] bytes : arquivos) {
+            List<CarroResumo> result = new ArrayList<>();
+            new CsvFileProcessor().process(new ByteArrayInputStream(bytes), "carros.csv", CarroResumo.class, result::add);
+            Assert.assertEquals("AÇÃO ÉLAN", result.get(result.size() - 2).getModelo());
+            Assert.assertEquals("PÁRIS\nSÉRIE", result.get(result.size() - 1).getModelo());
+            Assert.assertEquals(200.5, result.get(result.size() - 1).getPreco(), 0);
+
+            Path path = Files.createTempFile("carros", ".csv");
+            try {
+                Files.write(path, bytes);
+                List<CarroResumo> mapped = new ArrayList<>();
+                new CsvFileProcessor().process(path, CarroResumo.class, mapped::add);
+                Assert.assertEquals("PÁRIS\nSÉRIE", mapped.get(mapped.size() - 1).getModelo());
+            } finally {
+                Files.delete(path);
+            }
+        }
+
+        StringBuilder longo = new StringBuilder("Modelo,Preço\n");
+        while (longo.length() < 100 * 1024) {
+            longo.append("SÉRIE,1\n");
+        }
+        byte[] misto = CsvTestFiles.concat(CsvTestFiles.concat(longo.toString().getBytes(StandardCharsets.UTF_8), "AÇÃO ÉLAN,2\n".getBytes(StandardCharsets.ISO_8859_1)),
+            "NOVO ÔNIX,3\n".getBytes(StandardCharsets.UTF_8));
+        Path mistoPath = Files.createTempFile("carros", ".csv");
+        try {
+            Files.write(mistoPath, misto);
+            List<CarroResumo> stream = new ArrayList<>();
+            new CsvFileProcessor().process(new ByteArrayInputStream(misto), "carros.csv", CarroResumo.class, stream::add);
+            List<CarroResumo> mapped = new ArrayList<>();
+            new CsvFileProcessor().process(new MappedFileSource(mistoPath, 4096), CarroResumo.class, mapped::add);
+            Assert.assertEquals(stream.size(), mapped.size());
+            Assert.assertEquals("SÉRIE", mapped.get(0).getModelo());
+            Assert.assertEquals("AÇÃO ÉLAN", mapped.get(mapped.size() - 2).getModelo());
+            Assert.assertEquals("NOVO ÔNIX", mapped.get(mapped.size() - 1).getModelo());
+            Assert.assertEquals("NOVO ÔNIX", stream.get(stream.size() - 1).getModelo());
+
+            StringBuilder texto = new StringBuilder();
+            try (Reader reader = new MappedFileSource(mistoPath, 4096).openReader(StandardCharsets.UTF_8)) {
+                char[] buffer = new char[8192];
+                int read;
+                while ((read = reader.read(buffer, 0, buffer.length)) != -1) {
+                    texto.append(buffer, 0, read);
+                }
+            }
+            Assert.assertEquals(new String(misto, StandardCharsets.UTF_8), texto.toString());
+            Assert.assertTrue(texto.toString().endsWith("A\uFFFD\uFFFDO \uFFFDLAN,2\nNOVO ÔNIX,3\n"));
+        } finally {
+            Files.delete(mistoPath);
+        }
+
+        StringBuilder paralelo = new StringBuilder("Modelo,Preço\n");
+        for (int i = 0; i < 100000; i++) {
+            paralelo.append("SÉRIE ").append(i).append(",1\n");
+        }
+        FileP fileP = new FileP();
+        fileP.setName("carros.csv");
+        fileP.setContent(CsvTestFiles.concat(CsvTestFiles.concat(new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF}, paralelo.toString().getBytes(StandardCharsets.UTF_8)),
+            "AÇÃO ÉLAN,2\n".getBytes(StandardCharsets.ISO_8859_1)));
+        List<CarroResumo> sequencial = (List<CarroResumo>) FileType.CSV.process(fileP, CarroResumo.class);
+        List<CarroResumo> blocos = (List<CarroResumo>) new CsvFileProcessor().processParallel(fileP, CarroResumo.class, ForkJoinPool.commonPool());
+        Assert.assertEquals(sequencial.size(), blocos.size());
+        Assert.assertEquals("A\uFFFD\uFFFDO \uFFFDLAN", sequencial.get(sequencial.size() - 1).getModelo());
+        Assert.assertEquals(sequencial.get(sequencial.size() - 1).getModelo(), blocos.get(blocos.size() - 1).getModelo());
+
+        List<CarroResumo> result = new ArrayList<>();
+        new CsvFileProcessor(';', StandardCharsets.UTF_16LE).process(new ByteArrayInputStream(content.replace(',', ';').getBytes(StandardCharsets.UTF_16LE)),
+            "carros.csv", CarroResumo.class, result::add);
+        Assert.assertEquals("PÁRIS\nSÉRIE", result.get(1).getModelo());
+    }
+}
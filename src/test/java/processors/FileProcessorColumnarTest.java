@@ -0,0 +1,72 @@
+package processors;
+
+import models.Carro;
+import models.CarroDetalhe;
+import models.Combustivel;
+import org.example.core.ColumnPredicate;
+import org.example.core.FileColumns;
+import org.example.core.FileProcessorQuery;
+import org.example.exception.FileProcessException;
+import org.example.processors.CsvFileProcessor;
+import org.example.util.FileType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+public class FileProcessorColumnarTest {
+
+    @Test
+    public void testeColunar() throws Exception {
+        List<Carro> todos = (List<Carro>) FileType.CSV.process(CsvTestFiles.getFileP(), Carro.class);
+        FileColumns colunas = FileType.CSV.processColumnar(CsvTestFiles.getFileP(), Carro.class, FileProcessorQuery.all());
+        Assert.assertEquals(Arrays.asList("tipo", "fabricante", "modelo", "preco"), colunas.getFieldNames());
+        Assert.assertEquals(todos.size(), colunas.getRowCount());
+        double[] precos = colunas.getDoubles("preco");
+        int[] fabricantes = colunas.getCodes("fabricante");
+        for (int i = 0; i < todos.size(); i++) {
+            Assert.assertEquals(todos.get(i).getPreco(), precos[i], 0);
+            Assert.assertEquals(todos.get(i).getFabricante(), colunas.getDictionary("fabricante").get(fabricantes[i]));
+            Assert.assertEquals(todos.get(i).getModelo(), colunas.getString("modelo", i));
+        }
+        Assert.assertEquals(todos.stream().map(Carro::getFabricante).distinct().count(), colunas.getDictionary("fabricante").size());
+
+        FileColumns chevrolet = FileType.CSV.processColumnar(CsvTestFiles.getFileP(), Carro.class,
+            FileProcessorQuery.select("preco").where("fabricante", ColumnPredicate.equalTo("Chevrolet")));
+        Assert.assertEquals(Arrays.asList("preco"), chevrolet.getFieldNames());
+        Assert.assertEquals(todos.stream().filter(carro -> carro.getFabricante().equals("Chevrolet")).mapToDouble(Carro::getPreco).sum(),
+            Arrays.stream(chevrolet.getDoubles("preco")).sum(), 0.001);
+
+        String content = "Codigo,Modelo,Combustivel,Ano,Quilometragem,Preco,Usado,Data\n"
+            + "3f2b1c9e-7a4d-4e2b-9c1a-5d6e7f8a9b0c,ONIX,Flex,2020,35000,53050.75,TRUE,2021-03-15\n"
+            + "0c9b8a7f-6e5d-4c3b-2a1f-0e9d8c7b6a5f,\"S10, CD\",DIESEL,2019a,120500,-0.5,false,2020-12-01\n"
+            + "0c9b8a7f-6e5d-4c3b-2a1f-0e9d8c7b6a5f,\"S10, CD\",DIESEL,2019,120500,-0.5,false,2020-12-01\n";
+        CsvFileProcessor processor = new CsvFileProcessor();
+        FileColumns detalhes = processor.processColumnar(new ByteArrayInputStream(content.replace("2019a", "2019").getBytes(StandardCharsets.UTF_8)),
+            "carros.csv", CarroDetalhe.class, FileProcessorQuery.all());
+        Assert.assertEquals(3, detalhes.getRowCount());
+        Assert.assertArrayEquals(new long[] {2020, 2019, 2019}, detalhes.getLongs("ano"));
+        Assert.assertArrayEquals(new long[] {35000, 120500, 120500}, detalhes.getLongs("quilometragem"));
+        Assert.assertArrayEquals(new boolean[] {true, false, false}, detalhes.getBooleans("usado"));
+        Assert.assertEquals(Arrays.asList("ONIX", "S10, CD"), detalhes.getDictionary("modelo"));
+        Assert.assertEquals(Combustivel.DIESEL, detalhes.getValues("combustivel")[1]);
+        Assert.assertEquals(LocalDate.of(2020, 12, 1), detalhes.getValues("dataVenda")[2]);
+        try {
+            detalhes.getDoubles("ano");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("ano"));
+        }
+
+        try {
+            processor.processColumnar(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), "carros.csv", CarroDetalhe.class, FileProcessorQuery.all());
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertEquals(1, e.getLogErros().size());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package processors;
+
+import models.Carro;
+import org.example.exception.FileProcessException;
+import org.example.exception.FileProcessorExceptionType;
+import org.example.processors.CsvFileProcessor;
+import org.example.util.FileCompression;
+import org.example.util.FileP;
+import org.example.util.FileType;
+import org.example.util.ReadAheadInputStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+public class FileProcessorCompressionTest {
+
+    @Test
+    public void testeArquivoCompactado() throws Exception {
+        StringBuilder content = new StringBuilder("Tipo,Fabricante,Modelo,Preco\n");
+        for (int i = 0; i < 20000; i++) {
+            content.append("Flex,Chevrolet,MODELO ").append(i).append(',').append(i).append('\n');
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream output = new GZIPOutputStream(compressed)) {
+            output.write(content.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] bytes = compressed.toByteArray();
+        Assert.assertEquals(FileType.CSV, FileType.fromFileName("carros.csv.gz"));
+        Assert.assertEquals(FileCompression.GZIP, FileCompression.fromFileName("carros.csv.gz"));
+
+        List<Carro> result = new ArrayList<>();
+        FileType.CSV.process(new ByteArrayInputStream(bytes), "carros.csv.gz", Carro.class, result::add);
+        Assert.assertEquals(20000, result.size());
+        Assert.assertEquals("MODELO 19999", result.get(19999).getModelo());
+
+        FileP fileP = new FileP();
+        fileP.setName("carros.csv.gz");
+        fileP.setContent(bytes);
+        Assert.assertEquals(20000, FileType.CSV.process(fileP, Carro.class).size());
+        Assert.assertEquals(20000, FileType.CSV.processParallel(fileP, Carro.class, ForkJoinPool.commonPool()).size());
+
+        Path path = Files.createTempFile("carros", ".csv.gz");
+        try {
+            Files.write(path, bytes);
+            result.clear();
+            new CsvFileProcessor().process(path, Carro.class, result::add);
+            Assert.assertEquals(20000, result.size());
+        } finally {
+            Files.delete(path);
+        }
+
+        try {
+            FileType.CSV.process(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length / 2)), "carros.csv.gz", Carro.class, carro -> { });
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertEquals(FileProcessorExceptionType.INFALID_FILE, e.getTypeError());
+        }
+
+        Assert.assertFalse(FileCompression.ZSTD.isAvailable());
+        try {
+            FileType.CSV.process(new ByteArrayInputStream(bytes), "carros.csv.zst", Carro.class, carro -> { });
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertEquals(FileProcessorExceptionType.INFALID_FILE, e.getTypeError());
+        }
+
+        CountDownLatch liberada = new CountDownLatch(1);
+        InputStream lenta = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                try {
+                    liberada.await();
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+                return -1;
+            }
+        };
+        ReadAheadInputStream antecipada = new ReadAheadInputStream(lenta, 1024);
+        long inicio = System.nanoTime();
+        antecipada.close();
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - inicio) < 1);
+        liberada.countDown();
+    }
+}
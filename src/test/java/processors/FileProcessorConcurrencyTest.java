@@ -0,0 +1,53 @@
+package processors;
+
+import models.Carro;
+import org.example.exception.FileProcessException;
+import org.example.processors.CsvFileProcessor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class FileProcessorConcurrencyTest {
+
+    @Test
+    public void testeProcessadorCompartilhado() throws Exception {
+        CsvFileProcessor processor = new CsvFileProcessor();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<FileProcessException>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                int invalidLine = i + 2;
+                futures.add(executor.submit(() -> {
+                    StringBuilder content = new StringBuilder("Tipo,Fabricante,Modelo,Preco\n");
+                    for (int j = 2; j <= 200; j++) {
+                        content.append("Flex,Chevrolet,MODELO ").append(j).append(',').append(j == invalidLine ? "abc" : String.valueOf(j)).append('\n');
+                    }
+                    List<Carro> result = new ArrayList<>();
+                    try {
+                        processor.process(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)), "carros_" + invalidLine + ".csv", Carro.class, result::add);
+                        return null;
+                    } catch (FileProcessException e) {
+                        Assert.assertEquals(198, result.size());
+                        return e;
+                    }
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                FileProcessException e = futures.get(i).get();
+                Assert.assertNotNull(e);
+                Assert.assertEquals(1, e.getTotalErrors());
+                Assert.assertEquals(i + 2, e.getErrors().get(0).getLine());
+                Assert.assertEquals("carros_" + (i + 2) + ".csv", e.getErrors().get(0).getFileName());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -1,29 +1,232 @@
 package processors;
 
 import models.Carro;
+import models.CarroDetalhe;
+import models.CarroRejeitado;
+import models.CarroResumo;
+import models.CarroVenda;
+import models.Combustivel;
+import org.example.exception.FileProcessError;
+import org.example.exception.FileProcessErrorType;
+import org.example.exception.FileProcessException;
+import org.example.exception.FileProcessorExceptionType;
+import org.example.processors.CsvFileProcessor;
 import org.example.util.FileP;
 import org.example.util.FileType;
 import org.junit.Assert;
 import org.junit.Test;
 
-import java.io.IOException;
-import java.nio.file.Files;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class FileProcessorCsvTest {
 
-    private FileP getFileP() throws IOException {
+    @Test
+    public void teste() throws Exception {
+        List<Carro> result = (List<Carro>) FileType.CSV.process(CsvTestFiles.getFileP(), Carro.class);
+        Assert.assertEquals(result.size(), 3);
+    }
+
+    @Test
+    public void testeStreaming() throws Exception {
+        List<Carro> result = new ArrayList<>();
+        new CsvFileProcessor().process(Path.of(getClass().getResource("/base_dados_carros.csv").toURI()), Carro.class, result::add);
+        Assert.assertEquals(result.size(), 3);
+        Assert.assertEquals(result.get(1).getModelo(), "JOY");
+    }
+
+    @Test
+    public void testeColunasEntreAspas() {
+        CsvFileProcessor processor = new CsvFileProcessor();
+        Assert.assertEquals(Arrays.asList("a", "b,c", "d \"e\"", "", "f"), processor.getColsFromLineAsList("a,\"b,c\",\"d \"\"e\"\"\",,f"));
+        Assert.assertEquals(Arrays.asList("", ""), processor.getColsFromLineAsList(","));
+        Assert.assertEquals(Arrays.asList("a;b", "c"), new CsvFileProcessor(';').getColsFromLineAsList("\"a;b\";c"));
+    }
+
+    @Test
+    public void testeQuebraDeLinhaEntreAspas() throws Exception {
+        String content = "Tipo;Fabricante;Modelo;Preco\r\nFlex;Chevrolet;\"NOVO\r\nONIX\";53050\n\"Flex\";\"Chevrolet\";JOY;52150\n";
+        List<Carro> result = new ArrayList<>();
+        new CsvFileProcessor(';').process(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), "carros.csv", Carro.class, result::add);
+        Assert.assertEquals(result.size(), 2);
+        Assert.assertEquals(result.get(0).getModelo(), "NOVO\r\nONIX");
+        Assert.assertEquals(result.get(1).getTipo(), "Flex");
+    }
+
+    @Test
+    public void testeParalelo() throws Exception {
+        StringBuilder content = new StringBuilder("\"Base de dados\"\nTipo,Fabricante,Modelo,Preco\n");
+        for (int i = 0; i < 200000; i++) {
+            String modelo = i % 7 == 0 ? "\"MODELO\n" + i + "\"" : "MODELO " + i;
+            String preco = i % 50000 == 1 ? "abc" : String.valueOf(i);
+            content.append("Flex,Chevrolet,").append(modelo).append(',').append(preco).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
         FileP fileP = new FileP();
-        fileP.setName("base_dados_carros.csv");
-        fileP.setContent(Files.readAllBytes(Path.of(System.getProperty("user.dir") + "\\src\\test\\resources\\base_dados_carros.csv")));
-        return fileP;
+        fileP.setName("carros.csv");
+        fileP.setContent(content.toString().getBytes(StandardCharsets.UTF_8));
+
+        List<Carro> expected = new ArrayList<>();
+        FileProcessException expectedError = null;
+        try {
+            new CsvFileProcessor().process(new ByteArrayInputStream(fileP.getContent()), fileP.getName(), Carro.class, expected::add);
+        } catch (FileProcessException e) {
+            expectedError = e;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            FileType.CSV.processParallel(fileP, Carro.class, executor);
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertNotNull(expectedError);
+            Assert.assertEquals(expectedError.getLogErros(), e.getLogErros());
+            Assert.assertEquals(4, e.getLogErros().size());
+        } finally {
+            executor.shutdown();
+        }
+
+        fileP.setContent(content.toString().replace(",abc", ",1").getBytes(StandardCharsets.UTF_8));
+        List<Carro> result = (List<Carro>) new CsvFileProcessor().processParallel(fileP, Carro.class);
+        Assert.assertEquals(200000, result.size());
+        for (int i = 0; i < result.size(); i++) {
+            Assert.assertEquals(i % 7 == 0 ? "MODELO\n" + i : "MODELO " + i, result.get(i).getModelo());
+        }
+
+        fileP.setContent(content.toString().replace(",abc", ",1").replace("MODELO 150002,", "REJEITADO,").getBytes(StandardCharsets.UTF_8));
+        try {
+            new CsvFileProcessor().processParallel(fileP, CarroRejeitado.class);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("REJEITADO", e.getMessage());
+        }
     }
 
     @Test
-    public void teste() throws Exception {
-        List<Carro> result = (List<Carro>) FileType.CSV.process(getFileP(), Carro.class);
+    public void testeColunasPeloHeader() throws Exception {
+        List<CarroResumo> result = (List<CarroResumo>) FileType.CSV.process(CsvTestFiles.getFileP(), CarroResumo.class);
         Assert.assertEquals(result.size(), 3);
+        Assert.assertEquals(result.get(0).getModelo(), "NOVO ONIX");
+        Assert.assertEquals(result.get(0).getPreco(), Double.valueOf(53050));
+
+        String content = "Preço;Ano;Modelo;Cor\n52150;2020;JOY;Preto\n75150;2021;SPIN;Branco\n";
+        List<CarroResumo> streamed = new ArrayList<>();
+        new CsvFileProcessor(';').process(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), "carros.csv", CarroResumo.class, streamed::add);
+        Assert.assertEquals(streamed.size(), 2);
+        Assert.assertEquals(streamed.get(1).getModelo(), "SPIN");
+        Assert.assertEquals(streamed.get(1).getPreco(), Double.valueOf(75150));
+    }
+
+    @Test
+    public void testeLinhaEColunaDoErro() throws Exception {
+        String content = "Preço;Ano;Modelo;Cor\n52150;2020;JOY;Preto\n75150;2021;SPIN;Branco\nabc;2022;ONIX;Prata\n";
+        List<CarroResumo> result = new ArrayList<>();
+        try {
+            new CsvFileProcessor(';').process(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), "carros.csv", CarroResumo.class, result::add);
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertEquals(1, e.getErrors().size());
+            FileProcessError error = e.getErrors().get(0);
+            Assert.assertEquals(FileProcessErrorType.INCOMPATIBLE_TYPES, error.getType());
+            Assert.assertEquals(4, error.getLine());
+            Assert.assertEquals(0, error.getColumn());
+            Assert.assertEquals("abc", error.getValue());
+            Assert.assertEquals("Error at file: carros.csv, line: 4, entity: CarroResumo, (Incompatible types, expected: java.lang.Double, and received value: abc)",
+                e.getLogErros().get(0));
+        }
+        Assert.assertEquals(2, result.size());
     }
 
+    @Test
+    public void testeLinhasIgnoradas() throws Exception {
+        // a coluna entre aspas com quebra de linha pertence a uma única linha do arquivo
+        String content = "\"Base de dados\"\nTipo,Fabricante,Modelo,Preco\nFlex,Chevrolet,ONIX,10\nlinha,ignorada\n"
+            + "Flex,Chevrolet,\"NOVO\nONIX\",20\nFlex,Chevrolet,PRISMA,abc\nFlex,Chevrolet,SPIN,30\n";
+        List<Carro> result = new ArrayList<>();
+        try {
+            new CsvFileProcessor().process(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), "carros.csv", Carro.class, result::add);
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertEquals(FileProcessorExceptionType.NONSTANDARD_FILE, e.getTypeError());
+            Assert.assertEquals(1, e.getErrors().size());
+            FileProcessError error = e.getErrors().get(0);
+            Assert.assertEquals(6, error.getLine());
+            Assert.assertEquals(3, error.getColumn());
+            Assert.assertEquals("abc", error.getValue());
+        }
+        Assert.assertEquals(3, result.size());
+        Assert.assertEquals("NOVO\nONIX", result.get(1).getModelo());
+
+        FileP fileP = new FileP();
+        fileP.setName("carros.csv");
+        fileP.setContent(content.getBytes(StandardCharsets.UTF_8));
+        try {
+            FileType.CSV.process(fileP, Carro.class);
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertEquals(6, e.getErrors().get(0).getLine());
+            Assert.assertEquals(3, e.getErrors().get(0).getColumn());
+        }
+    }
+
+    @Test
+    public void testeTiposPrimitivos() throws Exception {
+        String content = "Codigo,Modelo,Combustivel,Ano,Quilometragem,Preco,Usado,Data\n"
+            + "3f2b1c9e-7a4d-4e2b-9c1a-5d6e7f8a9b0c,ONIX,Flex,2020,35000,53050.75,TRUE,2021-03-15\n"
+            + "0c9b8a7f-6e5d-4c3b-2a1f-0e9d8c7b6a5f,\"S10, CD\",DIESEL,2019,120500,-0.5,false,2020-12-01\n";
+        List<CarroDetalhe> result = new ArrayList<>();
+        new CsvFileProcessor().process(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), "carros.csv", CarroDetalhe.class, result::add);
+        Assert.assertEquals(result.size(), 2);
+        Assert.assertEquals(result.get(0).getCodigo(), UUID.fromString("3f2b1c9e-7a4d-4e2b-9c1a-5d6e7f8a9b0c"));
+        Assert.assertEquals(result.get(0).getCombustivel(), Combustivel.FLEX);
+        Assert.assertEquals(result.get(0).getAno(), 2020);
+        Assert.assertEquals(result.get(0).getQuilometragem(), 35000L);
+        Assert.assertEquals(result.get(0).getPreco(), 53050.75, 0);
+        Assert.assertTrue(result.get(0).isUsado());
+        Assert.assertEquals(result.get(0).getDataVenda(), LocalDate.of(2021, 3, 15));
+        Assert.assertEquals(result.get(1).getModelo(), "S10, CD");
+        Assert.assertEquals(result.get(1).getPreco(), -0.5, 0);
+        Assert.assertFalse(result.get(1).isUsado());
+
+        String invalid = content.replace("DIESEL", "ELETRICO").replace(",2020,", ",2020a,");
+        try {
+            new CsvFileProcessor().process(new ByteArrayInputStream(invalid.getBytes(StandardCharsets.UTF_8)), "carros.csv", CarroDetalhe.class, result::add);
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertEquals(2, e.getLogErros().size());
+        }
+    }
+
+    @Test
+    public void testeDatas() throws Exception {
+        String content = "Modelo,Cadastro,Venda\n"
+            + "ONIX,15/03/2021,20/03/2021 10:30\n"
+            + "JOY,2021-04-01 08:00:00,05.04.2021\n"
+            + "SPIN,1/5/2021,10/05/2021 17:45\n";
+        List<CarroVenda> result = new ArrayList<>();
+        new CsvFileProcessor().process(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), "carros.csv", CarroVenda.class, result::add);
+        Assert.assertEquals(result.size(), 3);
+        Assert.assertEquals(result.get(0).getDataCadastro().toInstant(), LocalDate.of(2021, 3, 15).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        Assert.assertEquals(result.get(0).getDataVenda(), LocalDateTime.of(2021, 3, 20, 10, 30));
+        Assert.assertEquals(result.get(1).getDataCadastro().toInstant(), LocalDateTime.of(2021, 4, 1, 8, 0).atZone(ZoneId.systemDefault()).toInstant());
+        Assert.assertEquals(result.get(1).getDataVenda(), LocalDateTime.of(2021, 4, 5, 0, 0));
+        Assert.assertEquals(result.get(2).getDataCadastro().toInstant(), LocalDate.of(2021, 5, 1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        Assert.assertEquals(result.get(2).getDataVenda(), LocalDateTime.of(2021, 5, 10, 17, 45));
+
+        try {
+            new CsvFileProcessor().process(new ByteArrayInputStream(content.replace("05.04.2021", "2021/04/05").getBytes(StandardCharsets.UTF_8)), "carros.csv", CarroVenda.class, result::add);
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertEquals(1, e.getLogErros().size());
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package processors;
+
+import models.Carro;
+import models.CarroCatalogo;
+import org.example.processors.CsvFileProcessor;
+import org.example.util.FileType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class FileProcessorDictionaryTest {
+
+    @Test
+    public void testeDicionario() throws Exception {
+        List<Carro> carros = (List<Carro>) FileType.CSV.process(CsvTestFiles.getFileP(), Carro.class);
+        Map<String, Carro> primeiros = new HashMap<>();
+        for (Carro carro : carros) {
+            Carro primeiro = primeiros.computeIfAbsent(carro.getFabricante(), fabricante -> carro);
+            Assert.assertSame(primeiro.getFabricante(), carro.getFabricante());
+        }
+
+        StringBuilder content = new StringBuilder("Tipo,Fabricante,Modelo,Preco\n");
+        for (int i = 0; i < 600; i++) {
+            content.append("Flex,Fiat,M").append(i % 300).append(",10\n");
+        }
+        CsvFileProcessor processor = new CsvFileProcessor();
+        List<Carro> altaCardinalidade = new ArrayList<>();
+        processor.process(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)), "carros.csv", Carro.class, altaCardinalidade::add);
+        Assert.assertEquals(600, altaCardinalidade.size());
+        Assert.assertSame(altaCardinalidade.get(0).getFabricante(), altaCardinalidade.get(599).getFabricante());
+        Assert.assertEquals(altaCardinalidade.get(0).getModelo(), altaCardinalidade.get(300).getModelo());
+        Assert.assertNotSame(altaCardinalidade.get(0).getModelo(), altaCardinalidade.get(300).getModelo());
+
+        String catalogo = "Fabricante,Modelo\nFiat,UNO\nFiat,UNO\nVW,GOL\nFord,KA\nFord,KA\n\"Fiat\",UNO\n";
+        List<CarroCatalogo> limitados = new ArrayList<>();
+        processor.process(new ByteArrayInputStream(catalogo.getBytes(StandardCharsets.UTF_8)), "catalogo.csv", CarroCatalogo.class, limitados::add);
+        Assert.assertEquals(6, limitados.size());
+        Assert.assertSame(limitados.get(0).getFabricante(), limitados.get(1).getFabricante());
+        Assert.assertSame(limitados.get(0).getFabricante(), limitados.get(5).getFabricante());
+        Assert.assertEquals(limitados.get(3).getFabricante(), limitados.get(4).getFabricante());
+        Assert.assertNotSame(limitados.get(3).getFabricante(), limitados.get(4).getFabricante());
+        Assert.assertNotSame(limitados.get(0).getModelo(), limitados.get(1).getModelo());
+    }
+}
@@ -0,0 +1,101 @@
+package processors;
+
+import models.Carro;
+import org.example.exception.FileProcessError;
+import org.example.exception.FileProcessErrorType;
+import org.example.exception.FileProcessException;
+import org.example.exception.FileProcessorExceptionType;
+import org.example.processors.CsvFileProcessor;
+import org.example.util.FileP;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+public class FileProcessorErrorsTest {
+
+    @Test
+    public void testeLimiteErros() throws Exception {
+        StringBuilder content = new StringBuilder("Tipo,Fabricante,Modelo,Preco\n");
+        for (int i = 0; i < 100; i++) {
+            content.append("Flex,Chevrolet,MODELO ").append(i).append(',').append(i % 2 == 0 ? "abc" + i : String.valueOf(i)).append('\n');
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        CsvFileProcessor processor = new CsvFileProcessor();
+        processor.setMaxErrors(10);
+        List<Carro> result = new ArrayList<>();
+        try {
+            processor.process(new ByteArrayInputStream(bytes), "carros.csv", Carro.class, result::add);
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertEquals(FileProcessorExceptionType.NONSTANDARD_FILE, e.getTypeError());
+            Assert.assertEquals(10, e.getLogErros().size());
+            Assert.assertEquals(50, e.getTotalErrors());
+            FileProcessError error = e.getErrors().get(1);
+            Assert.assertEquals(FileProcessErrorType.INCOMPATIBLE_TYPES, error.getType());
+            Assert.assertEquals(4, error.getLine());
+            Assert.assertEquals(3, error.getColumn());
+            Assert.assertEquals("abc2", error.getValue());
+            Assert.assertEquals("Error at file: carros.csv, line: 4, entity: Carro, (Incompatible types, expected: java.lang.Double, and received value: abc2)", e.getLogErros().get(1));
+        }
+        Assert.assertEquals(50, result.size());
+
+        processor.setFailFastErrors(5);
+        result.clear();
+        try {
+            processor.process(new ByteArrayInputStream(bytes), "carros.csv", Carro.class, result::add);
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertEquals(FileProcessorExceptionType.NONSTANDARD_FILE, e.getTypeError());
+            Assert.assertEquals(5, e.getTotalErrors());
+        }
+        Assert.assertEquals(4, result.size());
+    }
+
+    @Test
+    public void testeParaleloFailFast() throws Exception {
+        StringBuilder content = new StringBuilder("Tipo,Fabricante,Modelo,Preco\n");
+        for (int i = 0; i < 300000; i++) {
+            content.append("Flex,Chevrolet,MODELO ").append(i).append(',').append(i % 30000 == 1 ? "abc" : String.valueOf(i)).append('\n');
+        }
+        FileP fileP = new FileP();
+        fileP.setName("carros.csv");
+        fileP.setContent(content.toString().getBytes(StandardCharsets.UTF_8));
+        CsvFileProcessor processor = new CsvFileProcessor();
+        processor.setFailFastErrors(5);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            processor.processParallel(fileP, Carro.class, executor);
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertEquals(FileProcessorExceptionType.NONSTANDARD_FILE, e.getTypeError());
+            Assert.assertEquals(5, e.getTotalErrors());
+            Assert.assertEquals(Arrays.asList(3, 30003, 60003, 90003, 120003),
+                e.getErrors().stream().map(FileProcessError::getLine).collect(Collectors.toList()));
+        } finally {
+            executor.shutdown();
+        }
+
+        executor = Executors.newFixedThreadPool(4);
+        try {
+            processor.processParallel(fileP, Carro.class, executor);
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertEquals(FileProcessorExceptionType.NONSTANDARD_FILE, e.getTypeError());
+            Assert.assertTrue(e.getTotalErrors() >= 5);
+            Assert.assertEquals(e.getTotalErrors(), e.getErrors().size());
+            List<Integer> linhas = e.getErrors().stream().map(FileProcessError::getLine).collect(Collectors.toList());
+            Assert.assertEquals(linhas.stream().sorted().collect(Collectors.toList()), linhas);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package processors;
+
+import models.Carro;
+import org.example.core.FileIncrementalResult;
+import org.example.exception.FileProcessorExceptionType;
+import org.example.processors.CsvFileProcessor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class FileProcessorIncrementalTest {
+
+    @Test
+    public void testeIncremental() throws Exception {
+        Path path = Files.createTempFile("carros", ".csv");
+        try {
+            CsvFileProcessor processor = new CsvFileProcessor();
+            Files.write(path, "Tipo,Fabricante,Modelo,Preco\nFlex,Fiat,UNO,10\nFlex,Fiat,PAL".getBytes(StandardCharsets.UTF_8));
+            List<Carro> result = new ArrayList<>();
+            FileIncrementalResult primeiro = processor.processIncremental(path, Carro.class, null, result::add);
+            Assert.assertTrue(primeiro.isSuccess());
+            Assert.assertEquals(2, primeiro.getLines());
+            Assert.assertEquals(1, result.size());
+            Assert.assertEquals("Tipo,Fabricante,Modelo,Preco\nFlex,Fiat,UNO,10\n".length(), primeiro.getCheckpoint().getOffset());
+
+            Files.write(path, "IO,20\r\nFlex,VW,GOL,30\r\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            result.clear();
+            FileIncrementalResult segundo = processor.processIncremental(path, Carro.class, primeiro.getCheckpoint(), result::add);
+            Assert.assertTrue(segundo.isSuccess());
+            Assert.assertFalse(segundo.isReset());
+            Assert.assertEquals(Arrays.asList("PALIO", "GOL"), result.stream().map(Carro::getModelo).collect(Collectors.toList()));
+            Assert.assertEquals(4, segundo.getCheckpoint().getLineCount());
+
+            Files.write(path, "Flex,VW,FOX,abc\nFlex,VW,UP,40\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            result.clear();
+            FileIncrementalResult terceiro = processor.processIncremental(path, Carro.class, segundo.getCheckpoint(), result::add);
+            Assert.assertFalse(terceiro.isSuccess());
+            Assert.assertEquals(5, terceiro.getError().getErrors().get(0).getLine());
+            Assert.assertEquals(Arrays.asList("UP"), result.stream().map(Carro::getModelo).collect(Collectors.toList()));
+            Assert.assertEquals(Files.size(path), terceiro.getCheckpoint().getOffset());
+
+            result.clear();
+            FileIncrementalResult semNovasLinhas = processor.processIncremental(path, Carro.class, terceiro.getCheckpoint(), result::add);
+            Assert.assertTrue(semNovasLinhas.isSuccess());
+            Assert.assertEquals(0, semNovasLinhas.getLines());
+            Assert.assertTrue(result.isEmpty());
+
+            Files.write(path, "Tipo,Fabricante,Modelo,Preco\nFlex,Fiat,MOBI,50\n".getBytes(StandardCharsets.UTF_8));
+            FileIncrementalResult truncado = processor.processIncremental(path, Carro.class, semNovasLinhas.getCheckpoint(), result::add);
+            Assert.assertTrue(truncado.isReset());
+            Assert.assertEquals(Arrays.asList("MOBI"), result.stream().map(Carro::getModelo).collect(Collectors.toList()));
+
+            Files.write(path, "TIPO,FABRICANTE,MODELO,PRECO\nFlex,Fiat,MOBI,50\nFlex,Fiat,ARGO,60\n".getBytes(StandardCharsets.UTF_8));
+            result.clear();
+            FileIncrementalResult novoHeader = processor.processIncremental(path, Carro.class, truncado.getCheckpoint(), result::add);
+            Assert.assertTrue(novoHeader.isReset());
+            Assert.assertEquals(Arrays.asList("MOBI", "ARGO"), result.stream().map(Carro::getModelo).collect(Collectors.toList()));
+
+            StringBuilder grande = new StringBuilder("Tipo,Fabricante,Modelo,Preco\n");
+            for (int i = 0; i < 100000; i++) {
+                grande.append("Flex,Fiat,\"MODELO\n").append(i).append("\",").append(i).append('\n');
+            }
+            Files.write(path, (grande + "Flex,Fiat,INCOMPLETO").getBytes(StandardCharsets.UTF_8));
+            result.clear();
+            FileIncrementalResult janelas = processor.processIncremental(path, Carro.class, null, result::add);
+            Assert.assertTrue(janelas.isSuccess());
+            Assert.assertEquals(100001, janelas.getLines());
+            Assert.assertEquals(100000, result.size());
+            Assert.assertEquals("MODELO\n99999", result.get(99999).getModelo());
+            Assert.assertEquals(grande.length(), janelas.getCheckpoint().getOffset());
+
+            Files.write(path, CsvTestFiles.concat(new byte[] {(byte) 0xFF, (byte) 0xFE}, "Tipo,Fabricante,Modelo,Preco\nFlex,Fiat,UNO,10\n".getBytes(StandardCharsets.UTF_16LE)));
+            result.clear();
+            FileIncrementalResult utf16 = processor.processIncremental(path, Carro.class, null, result::add);
+            Assert.assertEquals(FileProcessorExceptionType.INFALID_FILE, utf16.getError().getTypeError());
+            Assert.assertNull(utf16.getCheckpoint());
+            Assert.assertTrue(result.isEmpty());
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
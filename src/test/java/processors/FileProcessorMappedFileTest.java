@@ -0,0 +1,54 @@
+package processors;
+
+import models.Carro;
+import org.example.processors.CsvFileProcessor;
+import org.example.util.MappedFileSource;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FileProcessorMappedFileTest {
+
+    @Test
+    public void testeArquivoMapeado() throws Exception {
+        StringBuilder content = new StringBuilder("Tipo,Fabricante,Modelo,Preco\n");
+        for (int i = 0; i < 500; i++) {
+            content.append("Flex,Citroën,\"AIRCROSS ").append(i % 3 == 0 ? "Ação\n😀" : "SÉRIE").append("\",").append(i).append('\n');
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        List<Carro> expected = new ArrayList<>();
+        new CsvFileProcessor().process(new ByteArrayInputStream(bytes), "carros.csv", Carro.class, expected::add);
+
+        Path path = Files.createTempFile("carros", ".csv");
+        try {
+            Files.write(path, bytes);
+            for (int windowSize : new int[] {17, 4096, bytes.length}) {
+                List<Carro> result = new ArrayList<>();
+                new CsvFileProcessor().process(new MappedFileSource(path, windowSize), Carro.class, result::add);
+                Assert.assertEquals(expected.size(), result.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    Assert.assertEquals(expected.get(i).getFabricante(), result.get(i).getFabricante());
+                    Assert.assertEquals(expected.get(i).getModelo(), result.get(i).getModelo());
+                }
+            }
+
+            StringBuilder text = new StringBuilder();
+            try (Reader reader = new MappedFileSource(path, 17).openReader(StandardCharsets.UTF_8)) {
+                int c;
+                while ((c = reader.read()) != -1) {
+                    text.append((char) c);
+                }
+            }
+            Assert.assertEquals(content.toString(), text.toString());
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package processors;
+
+import models.Carro;
+import org.example.core.FileProcessorMetrics;
+import org.example.core.FileProcessorMetricsListener;
+import org.example.exception.FileProcessException;
+import org.example.exception.FileProcessorExceptionType;
+import org.example.processors.CsvFileProcessor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FileProcessorMetricsTest {
+
+    @Test
+    public void testeMetricas() throws Exception {
+        StringBuilder content = new StringBuilder("Relatório de carros\nTipo,Fabricante,Modelo,Preco\n");
+        for (int i = 0; i < 25; i++) {
+            content.append("Flex,Chevrolet,MODELO ").append(i).append(',').append(i == 12 ? "abc" : String.valueOf(i)).append('\n');
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        List<FileProcessorMetrics> metrics = new ArrayList<>();
+        CsvFileProcessor processor = new CsvFileProcessor();
+        processor.setMetricsListener(metrics::add);
+        try {
+            processor.process(new ByteArrayInputStream(bytes), "carros.csv", Carro.class, batch -> { }, 10);
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertEquals(1, metrics.size());
+        }
+        FileProcessorMetrics fileMetrics = metrics.get(0);
+        Assert.assertEquals("carros.csv", fileMetrics.getFileName());
+        Assert.assertEquals("Carro", fileMetrics.getEntityName());
+        Assert.assertEquals(bytes.length, fileMetrics.getBytes());
+        Assert.assertEquals(27, fileMetrics.getLines());
+        Assert.assertEquals(24, fileMetrics.getRows());
+        Assert.assertEquals(1, fileMetrics.getSkippedLines());
+        Assert.assertEquals(1, fileMetrics.getRejectedRows(FileProcessorExceptionType.NONSTANDARD_FILE));
+        Assert.assertEquals(10, fileMetrics.getPeakBatchSize());
+        Assert.assertTrue(fileMetrics.getTotalNanos() >= fileMetrics.getTokenizeNanos() + fileMetrics.getBindingNanos());
+
+        metrics.clear();
+        processor.setMetricsListener(FileProcessorMetricsListener.NOOP);
+        processor.process(CsvTestFiles.getFileP(), Carro.class);
+        Assert.assertTrue(metrics.isEmpty());
+    }
+}
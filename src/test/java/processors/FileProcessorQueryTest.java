@@ -0,0 +1,60 @@
+package processors;
+
+import models.Carro;
+import org.example.core.ColumnPredicate;
+import org.example.core.FileProcessorMetrics;
+import org.example.core.FileProcessorQuery;
+import org.example.processors.CsvFileProcessor;
+import org.example.util.FileType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class FileProcessorQueryTest {
+
+    @Test
+    public void testeConsulta() throws Exception {
+        List<Carro> todos = (List<Carro>) FileType.CSV.process(CsvTestFiles.getFileP(), Carro.class);
+        FileProcessorQuery query = FileProcessorQuery.select("modelo", "preco")
+            .where("fabricante", ColumnPredicate.equalTo("Chevrolet"))
+            .where("preco", ColumnPredicate.between(50000, 100000));
+        List<Carro> result = (List<Carro>) FileType.CSV.process(CsvTestFiles.getFileP(), Carro.class, query);
+        List<Carro> expected = todos.stream()
+            .filter(carro -> carro.getFabricante().equals("Chevrolet") && carro.getPreco() >= 50000 && carro.getPreco() <= 100000)
+            .collect(Collectors.toList());
+        Assert.assertFalse(result.isEmpty());
+        Assert.assertEquals(expected.size(), result.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.get(i).getModelo(), result.get(i).getModelo());
+            Assert.assertEquals(expected.get(i).getPreco(), result.get(i).getPreco());
+            Assert.assertNull(result.get(i).getFabricante());
+        }
+
+        StringBuilder content = new StringBuilder("Tipo,Fabricante,Modelo,Preco\n");
+        for (int i = 0; i < 100; i++) {
+            content.append("Flex,").append(i % 10 == 0 ? "Fiat" : "Chevrolet").append(",MODELO ").append(i).append(',').append(i % 10 == 0 ? i : "abc").append('\n');
+        }
+        List<FileProcessorMetrics> metrics = new ArrayList<>();
+        CsvFileProcessor processor = new CsvFileProcessor();
+        processor.setMetricsListener(metrics::add);
+        List<Carro> fiat = new ArrayList<>();
+        processor.process(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)), "carros.csv", Carro.class,
+            FileProcessorQuery.all().where("fabricante", ColumnPredicate.in("Fiat", "Renault")), fiat::add);
+        Assert.assertEquals(10, fiat.size());
+        Assert.assertEquals("MODELO 90", fiat.get(9).getModelo());
+        Assert.assertEquals(90, metrics.get(0).getFilteredRows());
+        Assert.assertEquals(10, metrics.get(0).getRows());
+
+        try {
+            FileType.CSV.process(CsvTestFiles.getFileP(), Carro.class, FileProcessorQuery.select("cor"));
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("cor"));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package processors;
+
+import models.Carro;
+import org.example.core.FileColumns;
+import org.example.core.FileProcessorQuery;
+import org.example.exception.FileProcessException;
+import org.example.util.FileP;
+import org.example.util.FileProcessorQueryStrategy;
+import org.example.util.FileProcessorStrategy;
+import org.example.util.FileSource;
+import org.example.util.FileType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public class FileProcessorStrategyTest {
+
+    @Test
+    public void testeEstrategiaMinima() throws Exception {
+        FileProcessorStrategy estrategia = (file, classe) -> FileType.CSV.process(file, classe);
+        FileP fileP = CsvTestFiles.getFileP();
+        int total = FileType.CSV.process(fileP, Carro.class).size();
+        Assert.assertEquals(total, estrategia.processParallel(fileP, Carro.class, ForkJoinPool.commonPool()).size());
+        Assert.assertEquals(total, FileType.CSV.process(fileP, Carro.class, FileProcessorQuery.select()).size());
+        Assert.assertTrue(FileProcessorQuery.select().isAll());
+
+        FileProcessorQueryStrategy consulta = new FileProcessorQueryStrategy() {
+            @Override
+            public List<?> process(FileP file, Class classe) throws FileProcessException {
+                return FileType.CSV.process(file, classe);
+            }
+
+            @Override
+            public List<?> process(FileP file, Class classe, FileProcessorQuery query) throws FileProcessException {
+                return FileType.CSV.process(file, classe, query);
+            }
+
+            @Override
+            public <T> void process(InputStream input, String fileName, Class<T> classe, FileProcessorQuery query, Consumer<? super T> consumer) throws FileProcessException {
+                FileType.CSV.process(input, fileName, classe, query, consumer);
+            }
+
+            @Override
+            public <T> void process(FileSource source, Class<T> classe, Consumer<? super T> consumer) throws FileProcessException {
+                FileType.CSV.process(source, classe, consumer);
+            }
+
+            @Override
+            public FileColumns processColumnar(FileP file, Class<?> classe, FileProcessorQuery query) throws FileProcessException {
+                return FileType.CSV.processColumnar(file, classe, query);
+            }
+
+            @Override
+            public FileColumns processColumnar(InputStream input, String fileName, Class<?> classe, FileProcessorQuery query) throws FileProcessException {
+                return FileType.CSV.processColumnar(input, fileName, classe, query);
+            }
+        };
+        StringBuilder content = new StringBuilder("Tipo,Fabricante,Modelo,Preco\n");
+        for (int i = 0; i < 25; i++) {
+            content.append("Flex,Chevrolet,MODELO ").append(i).append(',').append(i == 12 ? "abc" : String.valueOf(i)).append('\n');
+        }
+        List<List<Carro>> lotes = new ArrayList<>();
+        try {
+            consulta.process(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)), "carros.csv", Carro.class, lotes::add, 10);
+            Assert.fail();
+        } catch (FileProcessException e) {
+            Assert.assertEquals(1, e.getLogErros().size());
+        }
+        Assert.assertEquals(Arrays.asList(10, 10, 4), lotes.stream().map(List::size).collect(Collectors.toList()));
+        Assert.assertEquals("MODELO 24", lotes.get(2).get(3).getModelo());
+    }
+}
@@ -1,22 +1,39 @@
 package processors;
 
 import models.Carro;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.example.exception.FileProcessException;
+import org.example.exception.FileProcessorExceptionType;
+import org.example.processors.XlsxFileProcessor;
+import org.example.processors.XlsxStreamingFileProcessor;
 import org.example.util.FileP;
 import org.example.util.FileType;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class FileProcessorXlsxTest {
 
-    private FileP getFileP() throws IOException {
+    private FileP getFileP() throws IOException, URISyntaxException {
         FileP fileP = new FileP();
         fileP.setName("base_dados_carros.xlsx");
-        fileP.setContent(Files.readAllBytes(Path.of(System.getProperty("user.dir") + "\\src\\test\\resources\\base_dados_carros.xlsx")));
+        fileP.setContent(Files.readAllBytes(Path.of(getClass().getResource("/base_dados_carros.xlsx").toURI())));
         return fileP;
     }
 
@@ -26,4 +43,119 @@ public class FileProcessorXlsxTest {
         Assert.assertEquals(result.size(), 3);
     }
 
+    @Test
+    public void testeStreaming() throws Exception {
+        List<Carro> expected = (List<Carro>) FileType.XLSX.process(getFileP(), Carro.class);
+        List<Carro> result = (List<Carro>) FileType.XLSX_STREAMING.process(getFileP(), Carro.class);
+        Assert.assertEquals(result.size(), expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(result.get(i).getTipo(), expected.get(i).getTipo());
+            Assert.assertEquals(result.get(i).getFabricante(), expected.get(i).getFabricante());
+            Assert.assertEquals(result.get(i).getModelo(), expected.get(i).getModelo());
+            Assert.assertEquals(result.get(i).getPreco(), expected.get(i).getPreco());
+        }
+    }
+
+    private FileP getFilePPlanilhas() throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            String[] sheetNames = {"Janeiro", "Fevereiro", "Março"};
+            for (int s = 0; s < sheetNames.length; s++) {
+                Sheet sheet = workbook.createSheet(sheetNames[s]);
+                String[] header = {"Tipo", "Fabricante", "Modelo", "Preco"};
+                Row headerRow = sheet.createRow(0);
+                for (int c = 0; c < header.length; c++) {
+                    headerRow.createCell(c).setCellValue(header[c]);
+                }
+                for (int r = 1; r <= 10 * (s + 1); r++) {
+                    Row row = sheet.createRow(r);
+                    row.createCell(0).setCellValue("Flex");
+                    row.createCell(1).setCellValue("Chevrolet");
+                    row.createCell(2).setCellValue(sheetNames[s] + " " + r);
+                    if (s == 2 && r == 2) {
+                        row.createCell(3).setCellValue("abc");
+                    } else {
+                        row.createCell(3).setCellValue(1000 * r);
+                    }
+                }
+            }
+            workbook.write(output);
+            FileP fileP = new FileP();
+            fileP.setName("vendas.xlsx");
+            fileP.setContent(output.toByteArray());
+            return fileP;
+        }
+    }
+
+    @Test
+    public void testePlanilhas() throws Exception {
+        FileP fileP = getFilePPlanilhas();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Map<String, List<Carro>> expected = new XlsxFileProcessor().processSheets(fileP, Carro.class, Arrays.asList("Fevereiro", "Janeiro"), executor);
+            Map<String, List<Carro>> result = new XlsxStreamingFileProcessor().processSheets(fileP, Carro.class, Arrays.asList("Fevereiro", "Janeiro"), executor);
+            Assert.assertEquals(Arrays.asList("Janeiro", "Fevereiro"), new ArrayList<>(result.keySet()));
+            for (String sheet : expected.keySet()) {
+                Assert.assertEquals(expected.get(sheet).size(), result.get(sheet).size());
+                for (int i = 0; i < expected.get(sheet).size(); i++) {
+                    Assert.assertEquals(expected.get(sheet).get(i).getModelo(), result.get(sheet).get(i).getModelo());
+                    Assert.assertEquals(expected.get(sheet).get(i).getPreco(), result.get(sheet).get(i).getPreco());
+                }
+            }
+            Assert.assertEquals(10, result.get("Janeiro").size());
+            Assert.assertEquals("Fevereiro 20", result.get("Fevereiro").get(19).getModelo());
+
+            Map<String, Integer> counts = new ConcurrentHashMap<>();
+            try {
+                new XlsxStreamingFileProcessor().processSheets(fileP, Carro.class, null, executor, (sheet, carro) -> counts.merge(sheet, 1, Integer::sum));
+                Assert.fail();
+            } catch (FileProcessException e) {
+                Assert.assertEquals(FileProcessorExceptionType.NONSTANDARD_FILE, e.getTypeError());
+                Assert.assertEquals(1, e.getLogErros().size());
+                Assert.assertEquals("Março", e.getErrors().get(0).getPartName());
+                Assert.assertTrue(e.getLogErros().get(0).contains("line: Março!3,"));
+            }
+            Assert.assertEquals(Integer.valueOf(10), counts.get("Janeiro"));
+            Assert.assertEquals(Integer.valueOf(20), counts.get("Fevereiro"));
+            Assert.assertEquals(Integer.valueOf(29), counts.get("Março"));
+
+            try {
+                new XlsxStreamingFileProcessor().processSheets(fileP, Carro.class, null, executor, (sheet, carro) -> {
+                    if (carro.getModelo().equals("Fevereiro 5")) {
+                        throw new IllegalStateException(carro.getModelo());
+                    }
+                });
+                Assert.fail();
+            } catch (IllegalStateException e) {
+                Assert.assertEquals("Fevereiro 5", e.getMessage());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testePlanilhasFailFast() throws Exception {
+        FileP fileP = getFilePPlanilhas();
+        XlsxStreamingFileProcessor processor = new XlsxStreamingFileProcessor();
+        processor.setFailFastErrors(1);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            AtomicBoolean returned = new AtomicBoolean();
+            AtomicBoolean lateCall = new AtomicBoolean();
+            try {
+                processor.processSheets(fileP, Carro.class, null, executor, (sheet, carro) -> lateCall.compareAndSet(false, returned.get()));
+                Assert.fail();
+            } catch (FileProcessException e) {
+                returned.set(true);
+                Assert.assertEquals(FileProcessorExceptionType.NONSTANDARD_FILE, e.getTypeError());
+                Assert.assertEquals(1, e.getTotalErrors());
+                Assert.assertEquals("Março", e.getErrors().get(0).getPartName());
+            }
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            Assert.assertFalse(lateCall.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }